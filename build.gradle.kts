@@ -248,7 +248,7 @@ fun Project.setupKotlin(javaVersion: JavaLanguageVersion) {
 }
 
 /**
- * Names of the modules whose tests run against the Docker-based Datastore Emulator.
+ * Names of the modules whose tests run against the Docker-based Datastore or Pub/Sub Emulator.
  *
  * For these modules a missing Docker environment is a build failure rather than a
  * reason to skip tests: without the emulator the suites verify nothing, so a "passed"
@@ -258,7 +258,7 @@ fun Project.setupKotlin(javaVersion: JavaLanguageVersion) {
  * the `subprojects {}` configuration, which runs before a top-level property initializer
  * further down the script would have executed.
  */
-fun dockerDependentModules() = setOf("datastore", "testlib")
+fun dockerDependentModules() = setOf("datastore", "testlib", "pubsub")
 
 /**
  * Fails the build unless a Docker environment is available for launching the
@@ -38,6 +38,10 @@ object GoogleCloud {
     // https://github.com/googleapis/google-cloud-java/tree/main/java-pubsub/proto-google-cloud-pubsub-v1
     const val pubSubGrpcApi = "com.google.api.grpc:proto-google-cloud-pubsub-v1:1.151.0"
 
+    // https://github.com/googleapis/google-cloud-java/tree/main/java-pubsub
+    // The client library version paired with `pubSubGrpcApi` above.
+    const val pubSub = "com.google.cloud:google-cloud-pubsub:1.169.0"
+
     // https://github.com/googleapis/google-cloud-java/tree/main/java-trace
     const val trace = "com.google.cloud:google-cloud-trace:2.93.0"
 
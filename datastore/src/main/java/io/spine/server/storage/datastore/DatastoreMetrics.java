@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore;
+
+import io.spine.annotation.SPI;
+
+/**
+ * Receives the metrics of the operations performed against the Datastore.
+ *
+ * <p>Implement this interface to feed the Datastore metrics to a monitoring system,
+ * such as Micrometer or OpenTelemetry, and register the implementation via
+ * {@link DatastoreStorageFactory.Builder#setMetrics(DatastoreMetrics)}.
+ *
+ * <p>The {@linkplain #record(OperationMetrics) recording} is performed synchronously in
+ * the thread performing the operation. Therefore, the implementations should be fast and
+ * must not block.
+ *
+ * <p>If no metrics are registered, the {@linkplain #noOp() no-op} instance is used.
+ * In this case, the operations are not measured at all.
+ */
+@SPI
+public interface DatastoreMetrics {
+
+    /**
+     * Returns the instance which ignores all the metrics.
+     */
+    static DatastoreMetrics noOp() {
+        return NoOpMetrics.INSTANCE;
+    }
+
+    /**
+     * Tells whether the operations should be measured.
+     *
+     * <p>If {@code false}, the operations are not measured, and
+     * {@link #record(OperationMetrics) record(...)} is never called.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records the metrics of a single completed operation.
+     *
+     * <p>Called for both the successful and the failed operations.
+     *
+     * @param metrics
+     *         the metrics of the operation
+     */
+    void record(OperationMetrics metrics);
+
+    /**
+     * Metrics which are never recorded.
+     */
+    enum NoOpMetrics implements DatastoreMetrics {
+
+        INSTANCE;
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(OperationMetrics metrics) {
+            // Do nothing.
+        }
+    }
+}
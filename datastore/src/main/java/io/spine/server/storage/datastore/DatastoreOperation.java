@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore;
+
+/**
+ * The types of operations performed against the Datastore, for which
+ * the {@linkplain DatastoreMetrics metrics} are recorded.
+ */
+public enum DatastoreOperation {
+
+    /**
+     * Creation or update of entities.
+     */
+    PUT,
+
+    /**
+     * Reading of entities by their keys.
+     */
+    LOOKUP,
+
+    /**
+     * Running a query, fetching a single page of results.
+     *
+     * <p>Reported once the page is read to the end.
+     */
+    RUN_QUERY,
+
+    /**
+     * Deletion of entities by their keys.
+     */
+    DELETE,
+
+    /**
+     * Beginning of a transaction.
+     */
+    BEGIN,
+
+    /**
+     * Commit of a transaction.
+     */
+    COMMIT,
+
+    /**
+     * Rollback of a transaction.
+     */
+    ROLLBACK
+}
@@ -31,12 +31,16 @@ import com.google.cloud.datastore.Value;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Duration;
 import com.google.protobuf.Message;
+import com.google.protobuf.util.Durations;
 import io.spine.annotation.Internal;
 import io.spine.base.EntityState;
 import io.spine.logging.WithLogging;
 import io.spine.server.BoundedContextBuilder;
 import io.spine.server.ContextSpec;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
 import io.spine.server.delivery.InboxStorage;
 import io.spine.server.storage.ColumnMapping;
 import io.spine.server.storage.RecordSpec;
@@ -47,27 +51,33 @@ import io.spine.server.storage.datastore.config.CreateEntityStorage;
 import io.spine.server.storage.datastore.config.CreateRecordStorage;
 import io.spine.server.storage.datastore.config.CustomStorages;
 import io.spine.server.storage.datastore.config.DsColumnMapping;
+import io.spine.server.storage.datastore.config.ReadConsistency;
+import io.spine.server.storage.datastore.config.ReadType;
 import io.spine.server.storage.datastore.config.RecordLayout;
 import io.spine.server.storage.datastore.config.RecordLayouts;
 import io.spine.server.storage.datastore.config.StorageConfiguration;
 import io.spine.server.storage.datastore.config.TxSettings;
+import io.spine.server.storage.datastore.delivery.InboxPageReader;
+import io.spine.server.storage.datastore.query.SlowQueryLog;
 import io.spine.server.storage.datastore.record.DsEntitySpec;
 import io.spine.server.storage.datastore.record.DsRecordStorage;
 import io.spine.server.storage.datastore.tenant.DatastoreTenants;
 import io.spine.server.storage.datastore.tenant.NamespaceConverter;
+import io.spine.server.storage.datastore.tenant.NamespaceLimits;
 import io.spine.server.storage.datastore.tenant.NamespaceSupplier;
 import io.spine.server.storage.datastore.tenant.NamespaceConverterFactory;
 import io.spine.server.storage.datastore.tenant.PrefixedNamespaceConverterFactory;
 import io.spine.server.tenant.TenantIndex;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Map;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Strings.nullToEmpty;
 import static com.google.common.collect.Maps.newConcurrentMap;
 import static io.spine.server.storage.datastore.DatastoreWrapper.wrap;
-import static io.spine.server.storage.datastore.config.TxSetting.enabled;
 
 /**
  * Creates {@link Storage}s based on {@link Datastore}.
@@ -130,6 +140,29 @@ public class DatastoreStorageFactory implements StorageFactory, WithLogging {
      */
     private final RecordLayouts recordLayouts;
 
+    /**
+     * The interval of refreshing the namespaces cached by the tenant index.
+     *
+     * <p>If {@code null}, the default interval is used.
+     */
+    private final @Nullable Duration namespaceRefreshInterval;
+
+    /**
+     * The limits of concurrent Datastore requests per namespace, shared by all the wrappers
+     * created by this factory.
+     */
+    private final NamespaceLimits namespaceLimits;
+
+    /**
+     * The metrics to report the Datastore operations to.
+     */
+    private final DatastoreMetrics metrics;
+
+    /**
+     * The log of the slow queries executed by the storages created by this factory.
+     */
+    private final SlowQueryLog slowQueryLog;
+
     protected DatastoreStorageFactory(Builder builder) {
         this.columnMapping = builder.columnMapping;
         this.datastore = builder.datastore;
@@ -137,6 +170,10 @@ public class DatastoreStorageFactory implements StorageFactory, WithLogging {
         this.txSettings = builder.txSettings.build();
         this.customStorages = builder.customStorages.build();
         this.recordLayouts = builder.layouts.build();
+        this.namespaceRefreshInterval = builder.namespaceRefreshInterval;
+        this.namespaceLimits = builder.namespaceLimits;
+        this.metrics = builder.metrics;
+        this.slowQueryLog = builder.slowQueryLog;
     }
 
     /**
@@ -152,7 +189,10 @@ public class DatastoreStorageFactory implements StorageFactory, WithLogging {
     @CanIgnoreReturnValue
     public BoundedContextBuilder configureTenantIndex(BoundedContextBuilder builder) {
         checkNotNull(builder);
-        var index = DatastoreTenants.index(datastore, converterFactory());
+        var index = namespaceRefreshInterval == null
+                    ? DatastoreTenants.index(datastore, converterFactory())
+                    : DatastoreTenants.index(datastore, converterFactory(),
+                                             namespaceRefreshInterval);
         builder.setTenantIndex(index);
         return builder;
     }
@@ -170,6 +210,30 @@ public class DatastoreStorageFactory implements StorageFactory, WithLogging {
         return result;
     }
 
+    /**
+     * Creates a reader of the {@code InboxMessage}s stored by the {@link InboxStorage}
+     * created by this factory, which reads the messages of a shard page by page.
+     *
+     * <p>The reader uses the layout of the inbox messages
+     * {@linkplain Builder#organizeRecords(Class, RecordLayout) set} for this factory.
+     * The layout must store the messages in Entity groups by shard, e.g. an instance of
+     * {@link io.spine.server.storage.datastore.delivery.InboxStorageLayout InboxStorageLayout}
+     * or {@link io.spine.server.storage.datastore.delivery.BucketedInboxStorageLayout
+     * BucketedInboxStorageLayout}. Otherwise, the reader fails upon the first read.
+     *
+     * @param multitenant
+     *         whether the inbox storage is multi-tenant
+     * @param pageSize
+     *         the maximum number of messages per page
+     * @return a new reader
+     */
+    public final InboxPageReader newInboxPageReader(boolean multitenant, int pageSize) {
+        var wrapper = systemWrapperFor(InboxStorage.class, multitenant);
+        RecordLayout<InboxMessageId, InboxMessage> layout =
+                recordLayouts.find(InboxMessage.class);
+        return new InboxPageReader(wrapper, layout, pageSize);
+    }
+
     private <I, R extends Message>
     StorageConfiguration<I, R> configurationWith(ContextSpec context, RecordSpec<I, R> spec) {
         var wrapper = wrapperFor(context);
@@ -183,6 +247,7 @@ public class DatastoreStorageFactory implements StorageFactory, WithLogging {
                 .withContext(context)
                 .withMapping(columnMapping)
                 .withRecordSpec(dsSpec)
+                .withSlowQueryLog(slowQueryLog)
                 .build();
         return configuration;
     }
@@ -300,7 +365,16 @@ public class DatastoreStorageFactory implements StorageFactory, WithLogging {
     @VisibleForTesting
     protected DatastoreWrapper newDatastoreWrapper(boolean multitenant) {
         var supplier = createNamespaceSupplier(multitenant);
-        return wrap(datastore, supplier);
+        return wrap(datastore, supplier, namespaceLimits, metrics);
+    }
+
+    /**
+     * Returns the limits of concurrent Datastore requests per namespace.
+     *
+     * <p>Use {@link NamespaceLimits#load()} to obtain the current load of each namespace.
+     */
+    public final NamespaceLimits namespaceLimits() {
+        return namespaceLimits;
     }
 
     /**
@@ -338,6 +412,10 @@ public class DatastoreStorageFactory implements StorageFactory, WithLogging {
         private ColumnMapping<Value<?>> columnMapping;
         private NamespaceConverter namespaceConverter;
         private NamespaceConverterFactory converterFactory;
+        private Duration namespaceRefreshInterval;
+        private NamespaceLimits namespaceLimits = NamespaceLimits.unlimited();
+        private DatastoreMetrics metrics = DatastoreMetrics.noOp();
+        private SlowQueryLog slowQueryLog = SlowQueryLog.disabled();
         private final TxSettings.Builder txSettings = TxSettings.newBuilder();
         private final RecordLayouts.Builder layouts = RecordLayouts.newBuilder();
         private final CustomStorages.Builder customStorages = CustomStorages.newBuilder();
@@ -433,9 +511,93 @@ public class DatastoreStorageFactory implements StorageFactory, WithLogging {
             return this;
         }
 
+        /**
+         * Sets the interval of refreshing the Datastore namespaces cached by
+         * the {@linkplain #configureTenantIndex(BoundedContextBuilder) tenant index}.
+         *
+         * <p>The tenant index refreshes the namespaces in background, so the tenant checks
+         * do not wait for the Datastore metadata queries. The namespaces created by other
+         * processes become known to the index with a delay of up to this interval.
+         *
+         * <p>If not set, the namespaces are refreshed every 30 seconds.
+         *
+         * @param interval
+         *         the refresh interval; must be positive
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setNamespaceRefreshInterval(Duration interval) {
+            checkNotNull(interval);
+            checkArgument(Durations.toNanos(interval) > 0,
+                          "The namespace refresh interval must be positive.");
+            this.namespaceRefreshInterval = interval;
+            return this;
+        }
+
+        /**
+         * Sets the limits of concurrent Datastore requests per namespace.
+         *
+         * <p>In a multitenant application, the limits prevent a single tenant from
+         * occupying all the connections to the Datastore, shared by all tenants.
+         *
+         * <p>If not set, the requests are not limited.
+         *
+         * @param limits
+         *         the limits to apply
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setNamespaceLimits(NamespaceLimits limits) {
+            this.namespaceLimits = checkNotNull(limits);
+            return this;
+        }
+
+        /**
+         * Sets the metrics to report the Datastore operations to.
+         *
+         * <p>The operations performed by all the storages created by the factory are reported,
+         * along with their {@link Kind} and namespace.
+         *
+         * <p>If not set, the operations are not measured.
+         *
+         * @param metrics
+         *         the metrics to report to
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setMetrics(DatastoreMetrics metrics) {
+            this.metrics = checkNotNull(metrics);
+            return this;
+        }
+
+        /**
+         * Enables logging of the record queries which take at least the given time.
+         *
+         * <p>Each logged query is accompanied by its {@linkplain io.spine.server.storage.datastore.query.QueryPlan plan} and
+         * the number of entities fetched from the Datastore versus the number of records
+         * returned.
+         *
+         * <p>If not set, the slow queries are not logged.
+         *
+         * @param threshold
+         *         the minimum duration of the logged queries; must not be negative
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setSlowQueryThreshold(Duration threshold) {
+            this.slowQueryLog = SlowQueryLog.withThreshold(threshold);
+            return this;
+        }
+
         /**
          * Enables the transactional operations for the given type of stored records.
          *
+         * <p>All writes become transactional. Of the reads, only
+         * the {@linkplain ReadType#ANCESTOR_QUERY ancestor queries} are run in transactions
+         * by default, as key lookups are strongly consistent anyway. Use
+         * {@link #setReadConsistency(Class, ReadType, ReadConsistency) setReadConsistency(...)}
+         * to customize that.
+         *
          * @param recordType
          *         the stored type
          * @param <R>
@@ -445,7 +607,37 @@ public class DatastoreStorageFactory implements StorageFactory, WithLogging {
         @CanIgnoreReturnValue
         public <R extends Message> Builder enableTransactions(Class<R> recordType) {
             checkNotNull(recordType);
-            txSettings.add(recordType, enabled());
+            txSettings.enableTransactions(recordType);
+            return this;
+        }
+
+        /**
+         * Sets the consistency with which the reads of a particular type are performed
+         * for the given type of stored records.
+         *
+         * <p>This setting may be combined with
+         * {@link #enableTransactions(Class) enableTransactions(recordType)} in any order.
+         *
+         * @param recordType
+         *         the stored type
+         * @param readType
+         *         the type of read operations to configure
+         * @param consistency
+         *         the consistency to use for such reads
+         * @param <R>
+         *         the stored type
+         * @return this instance of {@code Builder}
+         * @throws IllegalArgumentException
+         *         if the {@linkplain ReadConsistency#TRANSACTIONAL transactional} consistency
+         *         is requested for {@linkplain ReadType#GLOBAL_QUERY global queries}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message> Builder
+        setReadConsistency(Class<R> recordType, ReadType readType, ReadConsistency consistency) {
+            checkNotNull(recordType);
+            checkNotNull(readType);
+            checkNotNull(consistency);
+            txSettings.setReadConsistency(recordType, readType, consistency);
             return this;
         }
 
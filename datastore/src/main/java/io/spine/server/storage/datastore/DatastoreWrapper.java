@@ -40,10 +40,12 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Streams;
+import com.google.datastore.v1.TransactionOptions;
 import com.google.errorprone.annotations.InlineMe;
 import io.spine.logging.WithLogging;
 import io.spine.server.storage.datastore.record.Entities;
 import io.spine.server.storage.datastore.record.RecordId;
+import io.spine.server.storage.datastore.tenant.NamespaceLimits;
 import io.spine.server.storage.datastore.tenant.NamespaceSupplier;
 import org.jspecify.annotations.Nullable;
 
@@ -57,17 +59,28 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterables.toArray;
 import static com.google.common.collect.Streams.stream;
+import static io.spine.server.storage.datastore.DatastoreOperation.BEGIN;
+import static io.spine.server.storage.datastore.DatastoreOperation.DELETE;
+import static io.spine.server.storage.datastore.DatastoreOperation.PUT;
 import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
 /**
  * Adapts {@link Datastore} API for being used for storages.
+ *
+ * <p>The requests to the Datastore are performed within the {@link NamespaceLimits} of
+ * the current namespace. For the queries, only the request fetching the first page
+ * of results is limited. The operations performed in {@linkplain #newTransaction()
+ * transactions} are not limited.
  */
 public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
 
     private static final int MAX_ENTITIES_PER_WRITE_REQUEST = 500;
 
+    private final NamespaceLimits limits;
+    private final OperationRecorder recorder;
+
     /**
      * Creates a new instance of {@code DatastoreWrapper}.
      *
@@ -78,7 +91,48 @@ public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
      *         the queries from the datastore
      */
     protected DatastoreWrapper(Datastore datastore, NamespaceSupplier supplier) {
+        this(datastore, supplier, NamespaceLimits.unlimited());
+    }
+
+    /**
+     * Creates a new instance of {@code DatastoreWrapper}, which performs the requests
+     * within the passed limits.
+     *
+     * @param datastore
+     *         {@link Datastore} to wrap
+     * @param supplier
+     *         an instance of {@link Supplier Supplier&lt;Namespace&gt;} to get the namespaces for
+     *         the queries from the datastore
+     * @param limits
+     *         the limits of concurrent requests per namespace
+     */
+    protected DatastoreWrapper(Datastore datastore,
+                               NamespaceSupplier supplier,
+                               NamespaceLimits limits) {
+        this(datastore, supplier, limits, DatastoreMetrics.noOp());
+    }
+
+    /**
+     * Creates a new instance of {@code DatastoreWrapper}, which performs the requests
+     * within the passed limits and reports their metrics.
+     *
+     * @param datastore
+     *         {@link Datastore} to wrap
+     * @param supplier
+     *         an instance of {@link Supplier Supplier&lt;Namespace&gt;} to get the namespaces for
+     *         the queries from the datastore
+     * @param limits
+     *         the limits of concurrent requests per namespace
+     * @param metrics
+     *         the metrics to report the performed operations to
+     */
+    protected DatastoreWrapper(Datastore datastore,
+                               NamespaceSupplier supplier,
+                               NamespaceLimits limits,
+                               DatastoreMetrics metrics) {
         super(datastore, supplier);
+        this.limits = checkNotNull(limits);
+        this.recorder = OperationRecorder.reportingTo(metrics);
     }
 
     /**
@@ -88,6 +142,16 @@ public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
         return new DatastoreWrapper(datastore, supplier);
     }
 
+    /**
+     * Shortcut method for calling the constructor.
+     */
+    static DatastoreWrapper wrap(Datastore datastore,
+                                 NamespaceSupplier supplier,
+                                 NamespaceLimits limits,
+                                 DatastoreMetrics metrics) {
+        return new DatastoreWrapper(datastore, supplier, limits, metrics);
+    }
+
     @Override
     public Key keyFor(Kind kind, RecordId recordId) {
         var keyFactory = keyFactory(kind);
@@ -97,7 +161,9 @@ public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
 
     @Override
     public void create(Entity entity) throws DatastoreException {
-        storage().add(entity);
+        var namespace = namespace();
+        limits.call(namespace, () -> recorder.entities(
+                PUT, namespace, ImmutableList.of(entity), () -> storage().add(entity)));
     }
 
     /**
@@ -110,12 +176,19 @@ public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
      * @see DatastoreWriter#update(Entity...)
      */
     public void update(Entity entity) throws DatastoreException {
-        storage().update(entity);
+        var namespace = namespace();
+        limits.run(namespace, () -> recorder.entities(
+                PUT, namespace, ImmutableList.of(entity), () -> {
+                    storage().update(entity);
+                    return null;
+                }));
     }
 
     @Override
     public void createOrUpdate(Entity entity) {
-        storage().put(entity);
+        var namespace = namespace();
+        limits.call(namespace, () -> recorder.entities(
+                PUT, namespace, ImmutableList.of(entity), () -> storage().put(entity)));
     }
 
     @Override
@@ -131,7 +204,10 @@ public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
 
     @Override
     public Optional<Entity> read(Key key) {
-        return Optional.ofNullable(storage().get(key));
+        var namespace = namespace();
+        var entity = limits.call(namespace, () -> recorder.lookup(
+                namespace, key, () -> storage().get(key)));
+        return Optional.ofNullable(entity);
     }
 
     /**
@@ -162,14 +238,35 @@ public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
     @Override
     public List<@Nullable Entity> lookup(List<Key> keys) {
         checkNotNull(keys);
-        var lookup = new DsReaderLookup(storage());
-        return lookup.find(keys);
+        return lookup(keys, new DsReaderLookup(storage()));
     }
 
     @Override
     public <R> DsQueryIterator<R> read(StructuredQuery<R> query) {
-        var lookup = new DsReaderLookup(storage());
-        return lookup.execute(query, namespace());
+        return read(query, new DsReaderLookup(storage()));
+    }
+
+    /**
+     * Reads the entities by their keys via the passed lookup.
+     *
+     * <p>The read is performed within the limits of the current namespace,
+     * and its metrics are reported.
+     */
+    final List<@Nullable Entity> lookup(List<Key> keys, DsReaderLookup lookup) {
+        var namespace = namespace();
+        return limits.call(namespace, () -> recorder.lookup(
+                namespace, keys, () -> lookup.find(keys)));
+    }
+
+    /**
+     * Runs the query via the passed lookup.
+     *
+     * <p>The read is performed within the limits of the current namespace,
+     * and its metrics are reported.
+     */
+    final <R> DsQueryIterator<R> read(StructuredQuery<R> query, DsReaderLookup lookup) {
+        var namespace = namespace();
+        return limits.call(namespace, () -> lookup.execute(query, namespace, recorder));
     }
 
     /**
@@ -262,7 +359,12 @@ public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
 
     @Override
     public void delete(Key... keys) {
-        storage().delete(keys);
+        var namespace = namespace();
+        limits.run(namespace, () -> recorder.keys(
+                DELETE, namespace, Arrays.asList(keys), () -> {
+                    storage().delete(keys);
+                    return null;
+                }));
     }
 
     /**
@@ -331,8 +433,39 @@ public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
      * @see TransactionWrapper
      */
     public final TransactionWrapper newTransaction() {
-        var tx = datastore().newTransaction();
-        return new TransactionWrapper(tx, namespaceSupplier());
+        var tx = recorder.transaction(BEGIN, namespace(), () -> datastore().newTransaction());
+        return new TransactionWrapper(tx, namespaceSupplier(), false, recorder);
+    }
+
+    /**
+     * Starts a new read-only database transaction.
+     *
+     * <p>Read-only transactions do not acquire locks on the read entities, and thus
+     * do not contend with the concurrent read-write transactions. Any attempt to write
+     * within such a transaction results in an {@link IllegalStateException}.
+     *
+     * @return the new read-only transaction
+     * @see TransactionWrapper#isReadOnly()
+     */
+    public final TransactionWrapper newReadOnlyTransaction() {
+        var options = TransactionOptions.newBuilder()
+                .setReadOnly(TransactionOptions.ReadOnly.getDefaultInstance())
+                .build();
+        var tx = recorder.transaction(BEGIN, namespace(),
+                                      () -> datastore().newTransaction(options));
+        return new TransactionWrapper(tx, namespaceSupplier(), true, recorder);
+    }
+
+    /**
+     * Returns a view on this wrapper, which performs all the reads with the eventual consistency.
+     *
+     * <p>Such reads are not guaranteed to observe the latest writes. In exchange, they are
+     * served faster, and do not contend with the concurrent transactions.
+     *
+     * <p>The writes are performed via this wrapper as-is.
+     */
+    public final DatastoreMedium eventuallyConsistent() {
+        return new EventuallyConsistentReads(this);
     }
 
     @Override
@@ -368,6 +501,8 @@ public class DatastoreWrapper extends DatastoreMedium implements WithLogging {
     }
 
     private void writeSmallBulk(Entity[] entities) {
-        storage().put(entities);
+        var namespace = namespace();
+        limits.call(namespace, () -> recorder.entities(
+                PUT, namespace, Arrays.asList(entities), () -> storage().put(entities)));
     }
 }
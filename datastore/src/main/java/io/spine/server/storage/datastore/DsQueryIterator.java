@@ -62,6 +62,7 @@ public final class DsQueryIterator<R> extends UnmodifiableIterator<R> implements
 
     private final StructuredQuery<R> query;
     private final QueryResults<R> currentPage;
+    private final OperationRecorder.QueryMeter meter;
 
     private final Integer limit;
     private int readCount = 0;
@@ -69,10 +70,40 @@ public final class DsQueryIterator<R> extends UnmodifiableIterator<R> implements
     private boolean terminated;
 
     public DsQueryIterator(StructuredQuery<R> query, DatastoreReader datastore) {
+        this(checkNotNull(query), checkNotNull(datastore).run(query));
+    }
+
+    /**
+     * Creates an iterator over the results of the query, which has already been run.
+     *
+     * @param query
+     *         the executed query
+     * @param results
+     *         the first page of the query results
+     */
+    DsQueryIterator(StructuredQuery<R> query, QueryResults<R> results) {
+        this(query, results, OperationRecorder.QueryMeter.disabled());
+    }
+
+    /**
+     * Creates an iterator over the results of the query, which has already been run,
+     * measuring the reading of the results with the passed meter.
+     *
+     * @param query
+     *         the executed query
+     * @param results
+     *         the first page of the query results
+     * @param meter
+     *         the meter to report the read page to
+     */
+    DsQueryIterator(StructuredQuery<R> query,
+                    QueryResults<R> results,
+                    OperationRecorder.QueryMeter meter) {
         super();
         this.query = checkNotNull(query);
         this.limit = query.getLimit();
-        this.currentPage = checkNotNull(datastore).run(query);
+        this.currentPage = checkNotNull(results);
+        this.meter = checkNotNull(meter);
     }
 
     @Override
@@ -84,7 +115,7 @@ public final class DsQueryIterator<R> extends UnmodifiableIterator<R> implements
             terminate();
             return false;
         }
-        if (!currentPage.hasNext()) {
+        if (!meter.time(currentPage::hasNext)) {
             terminate();
             return false;
         }
@@ -97,6 +128,7 @@ public final class DsQueryIterator<R> extends UnmodifiableIterator<R> implements
 
     private void terminate() {
         terminated = true;
+        meter.finish(readCount);
     }
 
     /**
@@ -105,7 +137,7 @@ public final class DsQueryIterator<R> extends UnmodifiableIterator<R> implements
      * <p>The query is built utilizing the {@linkplain Cursor Datastore Cursor} from the current
      * query results.
      */
-    StructuredQuery<R> nextPageQuery() {
+    public StructuredQuery<R> nextPageQuery() {
         var cursorAfter = currentPage.getCursorAfter();
         var queryForMoreResults = query.toBuilder()
                 .setStartCursor(cursorAfter)
@@ -118,7 +150,7 @@ public final class DsQueryIterator<R> extends UnmodifiableIterator<R> implements
         if (!hasNext()) {
             throw new NoSuchElementException("The query results Iterator is empty.");
         }
-        var result = currentPage.next();
+        var result = meter.time(currentPage::next);
         readCount++;
         return result;
     }
@@ -26,9 +26,12 @@
 
 package io.spine.server.storage.datastore;
 
+import com.google.cloud.datastore.Datastore;
 import com.google.cloud.datastore.DatastoreReader;
 import com.google.cloud.datastore.Entity;
 import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.QueryResults;
+import com.google.cloud.datastore.ReadOption;
 import com.google.cloud.datastore.StructuredQuery;
 import com.google.common.collect.ImmutableList;
 import io.spine.logging.WithLogging;
@@ -47,25 +50,62 @@ import static java.lang.String.format;
  * A low-level Datastore lookup.
  *
  * <p>Uses a given {@link DatastoreReader} to find requested methods.
+ *
+ * <p>If created {@linkplain #eventuallyConsistent(Datastore) for eventually consistent reads},
+ * passes the corresponding {@link ReadOption} along with each read.
  */
 final class DsReaderLookup implements WithLogging {
 
     private static final int MAX_KEYS_PER_READ_REQUEST = 1000;
+    private static final ReadOption[] NO_OPTIONS = {};
 
     private final DatastoreReader datastore;
 
+    /**
+     * The options to pass along with each read.
+     *
+     * <p>If not empty, the {@code datastore} is always an instance of {@link Datastore},
+     * since transactions do not accept read options.
+     */
+    private final ReadOption[] options;
+
     DsReaderLookup(DatastoreReader datastore) {
+        this(datastore, NO_OPTIONS);
+    }
+
+    private DsReaderLookup(DatastoreReader datastore, ReadOption[] options) {
         this.datastore = checkNotNull(datastore);
+        this.options = options;
+    }
+
+    /**
+     * Creates a lookup which reads the data with the eventual consistency.
+     */
+    static DsReaderLookup eventuallyConsistent(Datastore datastore) {
+        ReadOption[] options = {ReadOption.eventualConsistency()};
+        return new DsReaderLookup(datastore, options);
     }
 
     <R> DsQueryIterator<R> execute(StructuredQuery<R> query, Namespace namespace) {
+        return execute(query, namespace, OperationRecorder.disabled());
+    }
+
+    /**
+     * Runs the query in the given namespace, reporting the read page of results
+     * to the passed recorder.
+     */
+    <R> DsQueryIterator<R>
+    execute(StructuredQuery<R> query, Namespace namespace, OperationRecorder recorder) {
         checkNotNull(query);
         checkNotNull(namespace);
+        checkNotNull(recorder);
 
         var queryWithNamespace = query.toBuilder()
                 .setNamespace(namespace.value())
                 .build();
-        var iterator = new DsQueryIterator<>(queryWithNamespace, datastore);
+        var meter = recorder.query(namespace, queryWithNamespace);
+        var results = meter.time(() -> run(queryWithNamespace));
+        var iterator = new DsQueryIterator<>(queryWithNamespace, results, meter);
         iterator.logger()
                 .atTrace()
                 .log(() -> format(
@@ -122,9 +162,19 @@ final class DsReaderLookup implements WithLogging {
         return result;
     }
 
+    private <R> QueryResults<R> run(StructuredQuery<R> query) {
+        if (options.length == 0) {
+            return datastore.run(query);
+        }
+        return ((Datastore) datastore).run(query, options);
+    }
+
     private List<Entity> fetch(List<Key> keys) {
-        var keysArray = new Key[keys.size()];
-        keys.toArray(keysArray);
-        return datastore.fetch(keysArray);
+        if (options.length == 0) {
+            var keysArray = new Key[keys.size()];
+            keys.toArray(keysArray);
+            return datastore.fetch(keysArray);
+        }
+        return ((Datastore) datastore).fetch(keys, options);
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore;
+
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.KeyFactory;
+import com.google.cloud.datastore.StructuredQuery;
+import com.google.common.collect.ImmutableList;
+import io.spine.server.storage.datastore.record.RecordId;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A view on the {@link DatastoreWrapper}, which performs all reads
+ * with the eventual consistency.
+ *
+ * <p>The reads are performed via the wrapper, so that they respect its namespace limits,
+ * and their metrics are reported. The write operations are delegated to the wrapper as-is.
+ *
+ * @see DatastoreWrapper#eventuallyConsistent()
+ */
+final class EventuallyConsistentReads extends DatastoreMedium {
+
+    private final DatastoreWrapper wrapper;
+    private final DsReaderLookup lookup;
+
+    EventuallyConsistentReads(DatastoreWrapper wrapper) {
+        super(wrapper.datastore(), wrapper.namespaceSupplier());
+        this.wrapper = wrapper;
+        this.lookup = DsReaderLookup.eventuallyConsistent(wrapper.datastore());
+    }
+
+    @Override
+    public void create(Entity entity) {
+        wrapper.create(entity);
+    }
+
+    @Override
+    public void createOrUpdate(Entity entity) {
+        wrapper.createOrUpdate(entity);
+    }
+
+    @Override
+    public void createOrUpdate(Collection<Entity> entities) {
+        wrapper.createOrUpdate(entities);
+    }
+
+    @Override
+    public Optional<Entity> read(Key key) {
+        checkNotNull(key);
+        var found = wrapper.lookup(ImmutableList.of(key), lookup);
+        return Optional.ofNullable(found.get(0));
+    }
+
+    @Override
+    public List<@Nullable Entity> lookup(List<Key> keys) {
+        checkNotNull(keys);
+        return wrapper.lookup(keys, lookup);
+    }
+
+    @Override
+    public <R> DsQueryIterator<R> read(StructuredQuery<R> query) {
+        checkNotNull(query);
+        return wrapper.read(query, lookup);
+    }
+
+    @Override
+    public void delete(Key... keys) {
+        wrapper.delete(keys);
+    }
+
+    @Override
+    public Key keyFor(Kind kind, RecordId id) {
+        return wrapper.keyFor(kind, id);
+    }
+
+    @Override
+    public KeyFactory keyFactory(Kind kind) {
+        return wrapper.keyFactory(kind);
+    }
+}
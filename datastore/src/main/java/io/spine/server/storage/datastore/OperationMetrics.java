@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore;
+
+import com.google.common.base.MoreObjects;
+import io.spine.server.storage.datastore.tenant.Namespace;
+import org.jspecify.annotations.Nullable;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The metrics of a single operation performed against the Datastore.
+ *
+ * @see DatastoreMetrics
+ */
+@Immutable
+public final class OperationMetrics {
+
+    private final DatastoreOperation operation;
+    private final Namespace namespace;
+    private final @Nullable Kind kind;
+    private final long latencyNanos;
+    private final int entityCount;
+    private final long payloadBytes;
+    private final int pageCount;
+    private final @Nullable String errorCode;
+
+    @SuppressWarnings("ConstructorWithTooManyParameters") // Created only by `OperationRecorder`.
+    OperationMetrics(DatastoreOperation operation,
+                     Namespace namespace,
+                     @Nullable Kind kind,
+                     long latencyNanos,
+                     int entityCount,
+                     long payloadBytes,
+                     int pageCount,
+                     @Nullable String errorCode) {
+        this.operation = checkNotNull(operation);
+        this.namespace = checkNotNull(namespace);
+        this.kind = kind;
+        this.latencyNanos = latencyNanos;
+        this.entityCount = entityCount;
+        this.payloadBytes = payloadBytes;
+        this.pageCount = pageCount;
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Returns the type of the operation.
+     */
+    public DatastoreOperation operation() {
+        return operation;
+    }
+
+    /**
+     * Returns the namespace in which the operation was performed.
+     */
+    public Namespace namespace() {
+        return namespace;
+    }
+
+    /**
+     * Returns the kind of entities the operation was performed upon.
+     *
+     * <p>Empty for the transaction-level operations, and for the operations upon entities
+     * of several kinds.
+     */
+    public Optional<Kind> kind() {
+        return Optional.ofNullable(kind);
+    }
+
+    /**
+     * Returns the duration of the operation in nanoseconds.
+     */
+    public long latencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * Returns the number of entities or keys passed to the operation.
+     *
+     * <p>For the {@linkplain DatastoreOperation#LOOKUP lookups}, returns the number of
+     * the found entities. For the {@linkplain DatastoreOperation#RUN_QUERY queries},
+     * returns the number of the entities read from the page of results.
+     */
+    public int entityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Returns the estimated size of the written entities in bytes.
+     *
+     * <p>The estimation accounts for the string and blob property values only, which make up
+     * the most of the entities written by the storages. For the operations other than
+     * {@linkplain DatastoreOperation#PUT writes}, returns zero.
+     */
+    public long payloadBytes() {
+        return payloadBytes;
+    }
+
+    /**
+     * Returns the number of the fetched pages of the query results.
+     */
+    public int pageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Returns the error code if the operation has failed.
+     *
+     * <p>For the Datastore errors, it is the reason reported by the Datastore. For other
+     * errors, it is the simple name of the exception class.
+     */
+    public Optional<String> errorCode() {
+        return Optional.ofNullable(errorCode);
+    }
+
+    /**
+     * Tells whether the operation has completed successfully.
+     */
+    public boolean isSuccessful() {
+        return errorCode == null;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("operation", operation)
+                          .add("namespace", namespace)
+                          .add("kind", kind)
+                          .add("latencyNanos", latencyNanos)
+                          .add("entityCount", entityCount)
+                          .add("payloadBytes", payloadBytes)
+                          .add("pageCount", pageCount)
+                          .add("errorCode", errorCode)
+                          .omitNullValues()
+                          .toString();
+    }
+}
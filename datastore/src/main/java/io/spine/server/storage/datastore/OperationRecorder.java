@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore;
+
+import com.google.cloud.datastore.BaseEntity;
+import com.google.cloud.datastore.Blob;
+import com.google.cloud.datastore.DatastoreException;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.StructuredQuery;
+import com.google.common.collect.ImmutableList;
+import io.spine.server.storage.datastore.tenant.Namespace;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.server.storage.datastore.DatastoreOperation.LOOKUP;
+import static io.spine.server.storage.datastore.DatastoreOperation.PUT;
+import static io.spine.server.storage.datastore.DatastoreOperation.RUN_QUERY;
+
+/**
+ * Measures the Datastore operations and reports them to the {@link DatastoreMetrics}.
+ *
+ * <p>If the metrics are {@linkplain DatastoreMetrics#isEnabled() disabled}, the operations
+ * are performed as-is, without any measurement.
+ */
+final class OperationRecorder {
+
+    private static final OperationRecorder DISABLED =
+            new OperationRecorder(DatastoreMetrics.noOp());
+
+    private final DatastoreMetrics metrics;
+    private final boolean enabled;
+
+    private OperationRecorder(DatastoreMetrics metrics) {
+        this.metrics = metrics;
+        this.enabled = metrics.isEnabled();
+    }
+
+    /**
+     * Creates a recorder reporting to the given metrics.
+     */
+    static OperationRecorder reportingTo(DatastoreMetrics metrics) {
+        checkNotNull(metrics);
+        return metrics.isEnabled()
+               ? new OperationRecorder(metrics)
+               : DISABLED;
+    }
+
+    /**
+     * Returns the recorder which does not measure anything.
+     */
+    static OperationRecorder disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Measures the operation upon the passed entities.
+     */
+    <T> T entities(DatastoreOperation operation,
+                   Namespace namespace,
+                   Collection<? extends BaseEntity<Key>> entities,
+                   Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        var kind = kindOf(entities.stream()
+                                  .map(BaseEntity::getKey)
+                                  .toList());
+        var bytes = operation == PUT ? payloadOf(entities) : 0L;
+        var count = entities.size();
+        return measure(operation, namespace, kind, result -> count, bytes, 0, call);
+    }
+
+    /**
+     * Measures the operation upon the entities with the passed keys.
+     */
+    <T> T keys(DatastoreOperation operation,
+               Namespace namespace,
+               Collection<Key> keys,
+               Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        var count = keys.size();
+        return measure(operation, namespace, kindOf(keys), result -> count, 0L, 0, call);
+    }
+
+    /**
+     * Measures the lookup of the entities by the passed keys.
+     *
+     * <p>Only the found entities are counted.
+     */
+    List<@Nullable Entity> lookup(Namespace namespace,
+                                  Collection<Key> keys,
+                                  Supplier<List<@Nullable Entity>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        return measure(LOOKUP, namespace, kindOf(keys), OperationRecorder::countFound,
+                       0L, 0, call);
+    }
+
+    /**
+     * Measures the lookup of the entity by the passed key.
+     *
+     * <p>The entity is counted only if found.
+     */
+    @Nullable Entity lookup(Namespace namespace, Key key, Supplier<@Nullable Entity> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        return measure(LOOKUP, namespace, kindOf(ImmutableList.of(key)),
+                       entity -> entity == null ? 0 : 1, 0L, 0, call);
+    }
+
+    /**
+     * Creates a meter of reading a page of results of the passed query.
+     */
+    QueryMeter query(Namespace namespace, StructuredQuery<?> query) {
+        if (!enabled) {
+            return QueryMeter.disabled();
+        }
+        var kindName = query.getKind();
+        var kind = kindName == null ? null : Kind.of(kindName);
+        return new QueryMeter(this, namespace, kind);
+    }
+
+    /**
+     * Measures a transaction-level operation.
+     */
+    <T> T transaction(DatastoreOperation operation, Namespace namespace, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        return measure(operation, namespace, null, result -> 0, 0L, 0, call);
+    }
+
+    /**
+     * Performs the call and reports its metrics.
+     *
+     * @param entityCount
+     *         counts the entities by the result of the call;
+     *         applied to {@code null} if the call fails
+     */
+    @SuppressWarnings({"MethodWithTooManyParameters", "OverlyBroadCatchBlock"})
+    private <T> T measure(DatastoreOperation operation,
+                          Namespace namespace,
+                          @Nullable Kind kind,
+                          ToIntFunction<? super T> entityCount,
+                          long payloadBytes,
+                          int pageCount,
+                          Supplier<T> call) {
+        var start = System.nanoTime();
+        try {
+            var result = call.get();
+            var latency = System.nanoTime() - start;
+            record(operation, namespace, kind, latency, entityCount.applyAsInt(result),
+                   payloadBytes, pageCount, null);
+            return result;
+        } catch (RuntimeException e) {
+            var latency = System.nanoTime() - start;
+            record(operation, namespace, kind, latency, entityCount.applyAsInt(null),
+                   payloadBytes, pageCount, errorCodeOf(e));
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("MethodWithTooManyParameters")
+    private void record(DatastoreOperation operation,
+                        Namespace namespace,
+                        @Nullable Kind kind,
+                        long latency,
+                        int entityCount,
+                        long payloadBytes,
+                        int pageCount,
+                        @Nullable String errorCode) {
+        metrics.record(new OperationMetrics(operation, namespace, kind, latency,
+                                            entityCount, payloadBytes, pageCount, errorCode));
+    }
+
+    private static int countFound(@Nullable List<@Nullable Entity> entities) {
+        if (entities == null) {
+            return 0;
+        }
+        var result = 0;
+        for (var entity : entities) {
+            if (entity != null) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private static @Nullable Kind kindOf(Collection<Key> keys) {
+        String kind = null;
+        for (var key : keys) {
+            var current = key.getKind();
+            if (kind == null) {
+                kind = current;
+            } else if (!kind.equals(current)) {
+                return null;
+            }
+        }
+        return kind == null ? null : Kind.of(kind);
+    }
+
+    /**
+     * Estimates the size of the passed entities by the sizes of their string and blob properties.
+     */
+    private static long payloadOf(Collection<? extends BaseEntity<Key>> entities) {
+        var result = 0L;
+        for (var entity : entities) {
+            for (var name : entity.getNames()) {
+                var value = entity.getValue(name).get();
+                if (value instanceof String) {
+                    result += ((String) value).length();
+                } else if (value instanceof Blob) {
+                    result += ((Blob) value).length();
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String errorCodeOf(RuntimeException e) {
+        if (e instanceof DatastoreException) {
+            var reason = ((DatastoreException) e).getReason();
+            if (reason != null) {
+                return reason;
+            }
+            return String.valueOf(((DatastoreException) e).getCode());
+        }
+        return e.getClass()
+                .getSimpleName();
+    }
+
+    /**
+     * Measures reading a page of the query results.
+     *
+     * <p>The page is read lazily. The meter accumulates the time spent on running the query
+     * and on fetching the further batches of its results, but not the time the caller spends
+     * on processing the results. The page is reported once it is read to the end,
+     * along with the number of read entities. If fetching the results fails,
+     * the page is reported as failed right away.
+     *
+     * <p>The pages which are not read to the end are not reported.
+     */
+    static final class QueryMeter {
+
+        private static final QueryMeter DISABLED = new QueryMeter(null, null, null);
+
+        private final @Nullable OperationRecorder recorder;
+        private final @Nullable Namespace namespace;
+        private final @Nullable Kind kind;
+        private long latency;
+        private boolean reported;
+
+        private QueryMeter(@Nullable OperationRecorder recorder,
+                           @Nullable Namespace namespace,
+                           @Nullable Kind kind) {
+            this.recorder = recorder;
+            this.namespace = namespace;
+            this.kind = kind;
+        }
+
+        /**
+         * Returns the meter which does not measure anything.
+         */
+        static QueryMeter disabled() {
+            return DISABLED;
+        }
+
+        /**
+         * Performs the call fetching the query results, accounting for its duration.
+         */
+        @SuppressWarnings("OverlyBroadCatchBlock")
+        <T> T time(Supplier<T> call) {
+            if (recorder == null) {
+                return call.get();
+            }
+            var start = System.nanoTime();
+            try {
+                var result = call.get();
+                latency += System.nanoTime() - start;
+                return result;
+            } catch (RuntimeException e) {
+                latency += System.nanoTime() - start;
+                report(0, errorCodeOf(e));
+                throw e;
+            }
+        }
+
+        /**
+         * Reports the page once it has been read to the end.
+         *
+         * @param entityCount
+         *         the number of entities read from the page
+         */
+        void finish(int entityCount) {
+            report(entityCount, null);
+        }
+
+        private void report(int entityCount, @Nullable String errorCode) {
+            if (recorder == null || reported) {
+                return;
+            }
+            reported = true;
+            recorder.record(RUN_QUERY, checkNotNull(namespace), kind, latency,
+                            entityCount, 0L, 1, errorCode);
+        }
+    }
+}
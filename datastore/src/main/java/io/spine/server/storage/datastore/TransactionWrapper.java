@@ -40,15 +40,36 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.server.storage.datastore.DatastoreOperation.COMMIT;
+import static io.spine.server.storage.datastore.DatastoreOperation.ROLLBACK;
 import static java.util.Optional.ofNullable;
 
 /**
  * A Cloud Datastore transaction wrapper.
+ *
+ * <p>A transaction may be started as {@linkplain DatastoreWrapper#newReadOnlyTransaction()
+ * read-only}. Such a transaction rejects all the write operations.
  */
 public final class TransactionWrapper extends DatastoreMedium implements AutoCloseable {
 
-    TransactionWrapper(Transaction tx, NamespaceSupplier namespaceSupplier) {
+    private final boolean readOnly;
+    private final OperationRecorder recorder;
+
+    TransactionWrapper(Transaction tx,
+                       NamespaceSupplier namespaceSupplier,
+                       boolean readOnly,
+                       OperationRecorder recorder) {
         super(tx, namespaceSupplier);
+        this.readOnly = readOnly;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Tells whether this transaction is read-only.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
     }
 
     /**
@@ -64,6 +85,7 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
      */
     @Override
     public void create(Entity entity) throws DatastoreException {
+        checkWritable();
         storage().add(entity);
     }
 
@@ -80,6 +102,7 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
      * @see Transaction#add(com.google.cloud.datastore.FullEntity...)
      */
     public void create(Collection<Entity> entities) throws DatastoreException {
+        checkWritable();
         var array = new Entity[entities.size()];
         entities.toArray(array);
         storage().add(array);
@@ -90,6 +113,7 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
      */
     @Override
     public void createOrUpdate(Entity entity) throws DatastoreException {
+        checkWritable();
         storage().put(entity);
     }
 
@@ -104,6 +128,7 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
      */
     @Override
     public void createOrUpdate(Collection<Entity> entities) throws DatastoreException {
+        checkWritable();
         var array = new Entity[entities.size()];
         entities.toArray(array);
         storage().put(array);
@@ -116,7 +141,7 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
      */
     @Override
     public Optional<Entity> read(Key key) {
-        var entity = storage().get(key);
+        var entity = recorder.lookup(namespace(), key, () -> storage().get(key));
         return ofNullable(entity);
     }
 
@@ -141,7 +166,7 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
     public List<Entity> lookup(List<Key> keys) {
         checkNotNull(keys);
         var lookup = new DsReaderLookup(storage());
-        return lookup.find(keys);
+        return recorder.lookup(namespace(), keys, () -> lookup.find(keys));
     }
 
     /**
@@ -152,7 +177,8 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
     @Override
     public <R> DsQueryIterator<R> read(StructuredQuery<R> ancestorQuery) throws DatastoreException {
         var lookup = new DsReaderLookup(storage());
-        return lookup.execute(ancestorQuery, namespace());
+        var namespace = namespace();
+        return lookup.execute(ancestorQuery, namespace, recorder);
     }
 
     @Override
@@ -176,6 +202,7 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
      */
     @Override
     public void delete(Key... keys) {
+        checkWritable();
         storage().delete(keys);
     }
 
@@ -186,7 +213,7 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
      *         if the transaction is no longer active
      */
     public void commit() {
-        tx().commit();
+        recorder.transaction(COMMIT, namespace(), () -> tx().commit());
     }
 
     /**
@@ -196,7 +223,10 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
      *         if the transaction is no longer active
      */
     public void rollback() {
-        tx().rollback();
+        recorder.transaction(ROLLBACK, namespace(), () -> {
+            tx().rollback();
+            return null;
+        });
     }
 
     /**
@@ -209,6 +239,10 @@ public final class TransactionWrapper extends DatastoreMedium implements AutoClo
         }
     }
 
+    private void checkWritable() {
+        checkState(!readOnly, "Cannot write within a read-only transaction.");
+    }
+
     private Transaction tx() {
         return (Transaction) storage();
     }
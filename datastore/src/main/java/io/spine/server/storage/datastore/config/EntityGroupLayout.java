@@ -29,6 +29,7 @@ package io.spine.server.storage.datastore.config;
 import com.google.cloud.datastore.Key;
 import com.google.cloud.datastore.PathElement;
 import com.google.cloud.datastore.StructuredQuery;
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Message;
 import io.spine.annotation.SPI;
 import io.spine.query.RecordQuery;
@@ -40,6 +41,7 @@ import io.spine.string.Stringifiers;
 import java.util.Optional;
 
 import static com.google.cloud.datastore.StructuredQuery.PropertyFilter.hasAncestor;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 
 /**
  * Describes the structure of Datastore Entity groups in which the {@link Message} records
@@ -118,12 +120,42 @@ public abstract class EntityGroupLayout<I, R extends Message, P extends Message>
      */
     protected abstract RecordId extractAncestorId(RecordQuery<I, R> query);
 
+    /**
+     * Analyzes the passed record query and extracts the values of all the ancestor identifiers,
+     * the children of which may match the query.
+     *
+     * <p>By default, returns the single {@linkplain #extractAncestorId(RecordQuery) ancestor ID}.
+     * Descendants which spread the children of a logical parent over several Entity groups
+     * should return the IDs of all such groups.
+     *
+     * @param query
+     *         the record query to extract the IDs of ancestors
+     * @return identifiers of the ancestors, wrapped into {@code RecordId}s
+     */
+    protected ImmutableList<RecordId> extractAncestorIds(RecordQuery<I, R> query) {
+        return ImmutableList.of(extractAncestorId(query));
+    }
+
     @Override
     public Optional<StructuredQuery.Filter> ancestorFilter(RecordQuery<I, R> query,
                                                            DatastoreMedium datastore) {
         var parentId = extractAncestorId(query);
-        var parentKey = datastore.keyFor(parentKind, parentId);
-        var ancestorFilter = hasAncestor(parentKey);
+        var ancestorFilter = ancestorFilter(parentId, datastore);
         return Optional.of(ancestorFilter);
     }
+
+    @Override
+    public ImmutableList<StructuredQuery.Filter>
+    ancestorFilters(RecordQuery<I, R> query, DatastoreMedium datastore) {
+        var result = extractAncestorIds(query)
+                .stream()
+                .map(parentId -> ancestorFilter(parentId, datastore))
+                .collect(toImmutableList());
+        return result;
+    }
+
+    private StructuredQuery.Filter ancestorFilter(RecordId parentId, DatastoreMedium datastore) {
+        var parentKey = datastore.keyFor(parentKind, parentId);
+        return hasAncestor(parentKey);
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.config;
+
+/**
+ * Defines how a Datastore-backed storage executes its read operations.
+ *
+ * <p>Datastore key lookups and ancestor queries are strongly consistent even if run outside
+ * of a transaction. Therefore, a transaction is only worth its begin and commit round trips
+ * when the read must observe a consistent snapshot of an Entity group.
+ *
+ * @see ReadType
+ * @see TxSetting#consistencyOf(ReadType)
+ */
+public enum ReadConsistency {
+
+    /**
+     * The read is performed outside of a transaction with the eventual consistency.
+     *
+     * <p>Such reads are the cheapest ones, but may return stale results.
+     */
+    EVENTUAL,
+
+    /**
+     * The read is performed outside of a transaction with the default read consistency
+     * of Datastore.
+     *
+     * <p>For key lookups and ancestor queries, the results are strongly consistent.
+     */
+    STRONG,
+
+    /**
+     * The read is performed in a new read-only transaction.
+     *
+     * <p>This option is not applicable to {@linkplain ReadType#GLOBAL_QUERY global queries},
+     * as Datastore only allows ancestor queries within transactions.
+     */
+    TRANSACTIONAL
+}
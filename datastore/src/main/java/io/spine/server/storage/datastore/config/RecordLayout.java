@@ -28,6 +28,7 @@ package io.spine.server.storage.datastore.config;
 
 import com.google.cloud.datastore.Key;
 import com.google.cloud.datastore.StructuredQuery;
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Message;
 import io.spine.annotation.SPI;
 import io.spine.query.RecordQuery;
@@ -124,4 +125,27 @@ public abstract class RecordLayout<I, R extends Message> {
      */
     public abstract Optional<StructuredQuery.Filter> ancestorFilter(RecordQuery<I, R> query,
                                                                     DatastoreMedium datastore);
+
+    /**
+     * Creates Datastore ancestor filters by analyzing the passed record query.
+     *
+     * <p>The layouts which spread the children of a logical parent over several Entity groups
+     * return an ancestor filter per each group. The query is then run once per each filter.
+     *
+     * <p>By default, returns the {@linkplain #ancestorFilter(RecordQuery, DatastoreMedium)
+     * ancestor filter}, if any.
+     *
+     * @param query
+     *         record query to create the ancestor filters from
+     * @param datastore
+     *         Datastore connector
+     * @return new Datastore ancestor filters,
+     *         or an empty list if the structure of storage is flat
+     */
+    public ImmutableList<StructuredQuery.Filter> ancestorFilters(RecordQuery<I, R> query,
+                                                                 DatastoreMedium datastore) {
+        var filter = ancestorFilter(query, datastore);
+        return filter.map(ImmutableList::of)
+                     .orElse(ImmutableList.of());
+    }
 }
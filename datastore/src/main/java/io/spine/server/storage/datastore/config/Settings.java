@@ -131,6 +131,15 @@ abstract class Settings<S, T, B> {
             return values.containsKey(recordType);
         }
 
+        /**
+         * Returns the setting value configured for the passed record type, if any.
+         */
+        final Optional<T> valueFor(Class<? extends Message> recordType) {
+            checkNotNull(recordType);
+            @Nullable T value = values.get(recordType);
+            return Optional.ofNullable(value);
+        }
+
         private ImmutableMap<Class<? extends Message>, T> collect() {
             ImmutableMap.Builder<Class<? extends Message>, T> builder = ImmutableMap.builder();
             for (var recordType : values.keySet()) {
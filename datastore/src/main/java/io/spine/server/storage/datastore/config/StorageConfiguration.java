@@ -31,6 +31,7 @@ import com.google.protobuf.Message;
 import io.spine.server.ContextSpec;
 import io.spine.server.storage.ColumnMapping;
 import io.spine.server.storage.datastore.DatastoreWrapper;
+import io.spine.server.storage.datastore.query.SlowQueryLog;
 import io.spine.server.storage.datastore.record.DsEntitySpec;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -50,6 +51,7 @@ public final class StorageConfiguration<I, R extends Message> {
     private final DsEntitySpec<I, R> recordSpec;
     private final ColumnMapping<Value<?>> columnMapping;
     private final TxSetting txSetting;
+    private final SlowQueryLog slowQueryLog;
 
     private StorageConfiguration(Builder<I, R> builder) {
         this.context = builder.context;
@@ -57,6 +59,7 @@ public final class StorageConfiguration<I, R extends Message> {
         this.recordSpec = builder.recordSpec;
         this.columnMapping = builder.columnMapping;
         this.txSetting = builder.txSetting;
+        this.slowQueryLog = builder.slowQueryLog;
     }
 
     /**
@@ -103,6 +106,13 @@ public final class StorageConfiguration<I, R extends Message> {
         return txSetting;
     }
 
+    /**
+     * Returns the log of the slow queries executed by the configured storage.
+     */
+    public SlowQueryLog slowQueryLog() {
+        return slowQueryLog;
+    }
+
     /**
      * Creates a new builder of {@code StorageConfiguration} instances.
      *
@@ -131,6 +141,7 @@ public final class StorageConfiguration<I, R extends Message> {
         private DsEntitySpec<I, R> recordSpec;
         private ColumnMapping<Value<?>> columnMapping;
         private TxSetting txSetting;
+        private SlowQueryLog slowQueryLog;
 
         /**
          * Prevents this builder from direct instantiation.
@@ -220,6 +231,23 @@ public final class StorageConfiguration<I, R extends Message> {
             return this;
         }
 
+        /**
+         * Sets the log of the slow queries executed by the configured storage.
+         *
+         * <p>This parameter is optional. By default, the slow queries are
+         * {@linkplain SlowQueryLog#disabled() not logged}.
+         *
+         * <p>Overrides the previous value, if set.
+         *
+         * @param slowQueryLog
+         *         the log of the slow queries
+         * @return this instance of this {@code Builder}, for call chaining
+         */
+        public Builder<I, R> withSlowQueryLog(SlowQueryLog slowQueryLog) {
+            this.slowQueryLog = checkNotNull(slowQueryLog);
+            return this;
+        }
+
         /**
          * Builds a new {@code StorageConfiguration} on top of this {@code Builder}.
          *
@@ -238,6 +266,7 @@ public final class StorageConfiguration<I, R extends Message> {
             ensureSet(columnMapping);
 
             configureTxSetting();
+            configureSlowQueryLog();
             return new StorageConfiguration<>(this);
         }
 
@@ -252,5 +281,11 @@ public final class StorageConfiguration<I, R extends Message> {
                 txSetting = TxSetting.disabled();
             }
         }
+
+        private void configureSlowQueryLog() {
+            if (slowQueryLog == null) {
+                slowQueryLog = SlowQueryLog.disabled();
+            }
+        }
     }
 }
@@ -26,13 +26,32 @@
 
 package io.spine.server.storage.datastore.config;
 
+import com.google.common.collect.ImmutableMap;
 import io.spine.annotation.Internal;
 import io.spine.server.storage.datastore.DatastoreStorageFactory;
 
+import java.util.EnumMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.server.storage.datastore.config.ReadConsistency.STRONG;
+import static io.spine.server.storage.datastore.config.ReadConsistency.TRANSACTIONAL;
+import static io.spine.server.storage.datastore.config.ReadType.ANCESTOR_QUERY;
+import static io.spine.server.storage.datastore.config.ReadType.GLOBAL_QUERY;
+
 /**
  * Defines whether the storage created by the {@link DatastoreStorageFactory} uses Datastore
  * transactions for reads and writes.
  *
+ * <p>Writes are either all transactional or all non-transactional. Reads are executed
+ * according to the {@link ReadConsistency} set per each {@linkplain ReadType type of read}.
+ * Unless customized, the reads are performed as follows:
+ * <ul>
+ *     <li>with transactions disabled, all reads are {@linkplain ReadConsistency#STRONG plain};
+ *     <li>with transactions enabled, only the {@linkplain ReadType#ANCESTOR_QUERY ancestor queries}
+ *         are run in a transaction, as key lookups and global queries gain nothing from it.
+ * </ul>
+ *
  * <p>This type is internal. Framework users may turn transactions on for a particular storage,
  * by calling {@link io.spine.server.storage.datastore.DatastoreStorageFactory.Builder#enableTransactions(Class)
  * DatastoreStorageFactory.newBuilder().enableTransactions(recordType)}.
@@ -42,26 +61,32 @@ public final class TxSetting {
 
     private final boolean txEnabled;
 
+    /**
+     * The read consistency settings customized by the library users.
+     */
+    private final ImmutableMap<ReadType, ReadConsistency> customReads;
+
     /**
      * Creates a new instance of this setting, with the passed value as a feature flag for enabling
      * or disabling transactions for a particular storage.
      */
-    private TxSetting(boolean txEnabled) {
+    private TxSetting(boolean txEnabled, ImmutableMap<ReadType, ReadConsistency> customReads) {
         this.txEnabled = txEnabled;
+        this.customReads = customReads;
     }
 
     /**
      * Creates a setting with disabled transactions.
      */
     public static TxSetting disabled() {
-        return new TxSetting(false);
+        return new TxSetting(false, ImmutableMap.of());
     }
 
     /**
      * Creates a setting with enabled transactions.
      */
     public static TxSetting enabled() {
-        return new TxSetting(true);
+        return new TxSetting(true, ImmutableMap.of());
     }
 
     /**
@@ -70,4 +95,51 @@ public final class TxSetting {
     public boolean txEnabled() {
         return txEnabled;
     }
+
+    /**
+     * Returns the consistency with which the reads of the given type should be executed.
+     */
+    public ReadConsistency consistencyOf(ReadType type) {
+        checkNotNull(type);
+        var custom = customReads.get(type);
+        if (custom != null) {
+            return custom;
+        }
+        if (txEnabled && type == ANCESTOR_QUERY) {
+            return TRANSACTIONAL;
+        }
+        return STRONG;
+    }
+
+    /**
+     * Creates a copy of this setting with the transactions enabled.
+     *
+     * <p>The custom read consistency settings are preserved.
+     */
+    public TxSetting withTransactions() {
+        return new TxSetting(true, customReads);
+    }
+
+    /**
+     * Creates a copy of this setting with the reads of the given type performed
+     * with the passed consistency.
+     *
+     * @param type
+     *         the type of read operations
+     * @param consistency
+     *         the consistency to use
+     * @return a new instance of the setting
+     * @throws IllegalArgumentException
+     *         if the transactional consistency is requested for global queries
+     */
+    public TxSetting withConsistency(ReadType type, ReadConsistency consistency) {
+        checkNotNull(type);
+        checkNotNull(consistency);
+        checkArgument(type != GLOBAL_QUERY || consistency != TRANSACTIONAL,
+                      "Datastore does not allow non-ancestor queries within transactions.");
+        var reads = new EnumMap<ReadType, ReadConsistency>(ReadType.class);
+        reads.putAll(customReads);
+        reads.put(type, consistency);
+        return new TxSetting(txEnabled, ImmutableMap.copyOf(reads));
+    }
 }
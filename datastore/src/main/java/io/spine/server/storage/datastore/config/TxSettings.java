@@ -26,6 +26,7 @@
 
 package io.spine.server.storage.datastore.config;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 
@@ -85,6 +86,49 @@ public final class TxSettings
             super();
         }
 
+        /**
+         * Enables transactions for the storage of the records of the given type.
+         *
+         * <p>The read consistency previously customized for this type of records is preserved.
+         *
+         * @param recordType
+         *         the type of records
+         * @param <R>
+         *         the type of records, as a bounding generic parameter
+         * @return this instance of {@code Builder} for call chaining
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message> Builder enableTransactions(Class<R> recordType) {
+            var current = valueFor(recordType);
+            var setting = current.map(TxSetting::withTransactions)
+                                 .orElseGet(TxSetting::enabled);
+            return add(recordType, setting);
+        }
+
+        /**
+         * Sets the consistency of the reads of the given type, performed by the storage
+         * of the records of the given type.
+         *
+         * @param recordType
+         *         the type of records
+         * @param readType
+         *         the type of read operations
+         * @param consistency
+         *         the consistency to use
+         * @param <R>
+         *         the type of records, as a bounding generic parameter
+         * @return this instance of {@code Builder} for call chaining
+         * @throws IllegalArgumentException
+         *         if the transactional consistency is requested for global queries
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message> Builder
+        setReadConsistency(Class<R> recordType, ReadType readType, ReadConsistency consistency) {
+            var current = valueFor(recordType).orElseGet(TxSetting::disabled);
+            var setting = current.withConsistency(readType, consistency);
+            return add(recordType, setting);
+        }
+
         @Override
         public final TxSettings build() {
             return new TxSettings(this);
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashFunction;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.storage.datastore.config.EntityGroupLayout;
+import io.spine.server.storage.datastore.record.RecordId;
+import io.spine.string.Stringifiers;
+
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.hash.Hashing.sipHash24;
+import static io.spine.server.storage.datastore.delivery.InboxStorageLayout.findShardIn;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.lang.Math.floorMod;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Describes the ancestor-child structure of {@link InboxMessage}s, in which the messages
+ * of each shard are spread over several Entity groups.
+ *
+ * <p>Unlike {@link InboxStorageLayout}, which puts all the messages of a shard into a single
+ * Entity group, this layout splits each shard into a fixed number of buckets.
+ * Each bucket is a separate Entity group, so that the writes to a "hot" shard
+ * are not limited by the write rate of a single Entity group.
+ *
+ * <p>A message is routed to a bucket deterministically, by the hash of its
+ * {@linkplain InboxMessageId#getUuid() UUID}. Therefore, the message always resides in the same
+ * bucket, and the lookups by ID touch a single Entity group.
+ *
+ * <p>The queries by shard are run against each of the buckets of the shard. Their results
+ * are joined and sorted in memory.
+ *
+ * <p>The number of buckets is a part of the storage structure. It must not be changed
+ * for the already stored messages, as they would become unreachable otherwise.
+ *
+ * <p>The {@link InboxPageReader} reads a page from each of the buckets of a shard
+ * and merges them into a single page.
+ */
+public final class BucketedInboxStorageLayout
+        extends EntityGroupLayout<InboxMessageId, InboxMessage, ShardIndex> {
+
+    /**
+     * The maximum number of buckets per shard.
+     *
+     * <p>A single Datastore transaction may touch at most 25 Entity groups, so that
+     * a transaction spanning all the buckets of a shard remains possible.
+     */
+    @VisibleForTesting
+    static final int MAX_BUCKETS = 25;
+
+    private static final HashFunction hashFunction = sipHash24();
+
+    private final int buckets;
+
+    /**
+     * Creates a new instance of the layout.
+     *
+     * @param buckets
+     *         the number of Entity groups to spread the messages of each shard over;
+     *         must be positive and not greater than 25
+     */
+    public BucketedInboxStorageLayout(int buckets) {
+        super(InboxMessage.class, ShardIndex.class);
+        checkArgument(buckets > 0,
+                      "The number of buckets must be positive, but got %s.", buckets);
+        checkArgument(buckets <= MAX_BUCKETS,
+                      "The number of buckets must not exceed %s, but got %s.",
+                      MAX_BUCKETS, buckets);
+        this.buckets = buckets;
+    }
+
+    /**
+     * Returns the number of buckets per shard.
+     */
+    public int buckets() {
+        return buckets;
+    }
+
+    @Override
+    protected RecordId toAncestorRecordId(InboxMessageId id) {
+        var bucket = bucketOf(id);
+        return bucketId(id.getIndex(), bucket);
+    }
+
+    /**
+     * Returns the ID of the single bucket, the messages of which are queried.
+     *
+     * @throws IllegalArgumentException
+     *         if the query targets more than one bucket
+     * @see #extractAncestorIds(RecordQuery)
+     */
+    @Override
+    protected RecordId extractAncestorId(RecordQuery<InboxMessageId, InboxMessage> query) {
+        var ids = extractAncestorIds(query);
+        if (ids.size() != 1) {
+            throw newIllegalArgumentException(
+                    "The query fetching `InboxMessage`s spans %d buckets. Query = `%s`.",
+                    ids.size(), query);
+        }
+        return ids.get(0);
+    }
+
+    /**
+     * Returns the IDs of the buckets, in which the queried messages reside.
+     *
+     * <p>If the query is run by message IDs, returns the buckets of these messages.
+     * Otherwise, returns all the buckets of the shard referenced in the query.
+     */
+    @Override
+    protected ImmutableList<RecordId>
+    extractAncestorIds(RecordQuery<InboxMessageId, InboxMessage> query) {
+        var subject = query.subject();
+        var idValues = subject.id()
+                              .values();
+        if (!idValues.isEmpty()) {
+            var result = idValues.stream()
+                                 .map(this::toAncestorRecordId)
+                                 .distinct()
+                                 .collect(toImmutableList());
+            return result;
+        }
+        var referencedShard = findShardIn(subject.predicate());
+        if (referencedShard.isPresent()) {
+            var shard = referencedShard.get();
+            var result = IntStream.range(0, buckets)
+                                  .mapToObj(bucket -> bucketId(shard, bucket))
+                                  .collect(toImmutableList());
+            return result;
+        }
+        throw newIllegalArgumentException(
+                "Cannot detect the parent ID for the query fetching `InboxMessage`s. " +
+                        "Query = `%s`.", query);
+    }
+
+    @Override
+    protected RecordId asRecordId(InboxMessageId id) {
+        var result = RecordId.of(id.getUuid());
+        return result;
+    }
+
+    private int bucketOf(InboxMessageId id) {
+        var hash = hashFunction.hashString(id.getUuid(), UTF_8)
+                               .asLong();
+        return (int) floorMod(hash, (long) buckets);
+    }
+
+    private static RecordId bucketId(ShardIndex shard, int bucket) {
+        var shardId = Stringifiers.toString(shard);
+        var value = format("%s#%d", shardId, bucket);
+        return RecordId.of(value);
+    }
+}
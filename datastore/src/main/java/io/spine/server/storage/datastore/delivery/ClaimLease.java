@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.protobuf.Timestamp;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardSessionRecord;
+import io.spine.server.delivery.WorkerId;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+
+import static com.google.protobuf.util.Timestamps.compare;
+import static io.spine.base.Time.currentTime;
+import static io.spine.server.storage.datastore.delivery.RenewLease.heldBy;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Assigns the {@code worker} to the {@link ShardSessionRecord} with the specified
+ * {@link ShardIndex}, unless the session is held by another worker, which is still active.
+ *
+ * <p>Unlike {@link SetWorkerIfAbsent}, takes over the stale sessions still assigned to
+ * the node of the {@code worker}. Such sessions are left over from the leases, which
+ * the node has already dropped locally, e.g. after the renewals failed for the whole
+ * lease duration. A session is stale if it has not been picked up or renewed since
+ * the given time.
+ *
+ * <p>The sessions held by other nodes, as well as the non-stale sessions held by other
+ * workers of the same node, are never taken over.
+ *
+ * <p>If the record doesn't exist ({@code null} is passed), creates a new record,
+ * sets the worker to it, and returns it as a result.
+ */
+final class ClaimLease implements PrepareForWrite {
+
+    private final ShardIndex index;
+    private final WorkerId worker;
+    private final Timestamp staleBefore;
+
+    /**
+     * Creates the operation for the given shard index and worker ID.
+     *
+     * @param index
+     *         the index of the claimed shard
+     * @param worker
+     *         the worker claiming the shard
+     * @param staleBefore
+     *         the sessions of the same node last picked up before this time are stale
+     */
+    ClaimLease(ShardIndex index, WorkerId worker, Timestamp staleBefore) {
+        this.index = index;
+        this.worker = worker;
+        this.staleBefore = staleBefore;
+    }
+
+    @Override
+    public Optional<ShardSessionRecord> prepare(@Nullable ShardSessionRecord previous) {
+        if (nonNull(previous) && previous.hasWorker() && !mayTakeOver(previous)) {
+            return Optional.empty();
+        }
+        var builder = isNull(previous)
+                      ? ShardSessionRecord.newBuilder().setIndex(index)
+                      : previous.toBuilder();
+        var claimed = builder.setWorker(worker)
+                             .setWhenLastPicked(currentTime())
+                             .build();
+        return Optional.of(claimed);
+    }
+
+    private boolean mayTakeOver(ShardSessionRecord previous) {
+        if (previous.getWorker()
+                    .equals(worker)) {
+            return true;
+        }
+        if (!heldBy(previous, worker.getNodeId())) {
+            return false;
+        }
+        return compare(previous.getWhenLastPicked(), staleBefore) < 0;
+    }
+}
@@ -28,8 +28,12 @@ package io.spine.server.storage.datastore.delivery;
 
 import com.google.cloud.datastore.DatastoreException;
 import com.google.cloud.datastore.Entity;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
 import com.google.rpc.Code;
+import io.spine.query.RecordQuery;
 import io.spine.server.ContextSpec;
+import io.spine.server.NodeId;
 import io.spine.server.delivery.ShardIndex;
 import io.spine.server.delivery.ShardSessionRecord;
 import io.spine.server.storage.RecordSpec;
@@ -41,12 +45,18 @@ import io.spine.server.storage.datastore.record.DsEntitySpec;
 import io.spine.server.storage.datastore.record.DsRecordStorage;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Lists.partition;
 import static io.spine.server.storage.datastore.delivery.DsSessionStorage.UpdateResult.remainedAsIs;
 import static io.spine.server.storage.datastore.delivery.DsSessionStorage.UpdateResult.updatedSuccessfully;
+import static io.spine.server.storage.datastore.delivery.SessionRecordColumn.when_last_picked;
 import static io.spine.util.Exceptions.newIllegalStateException;
 
 /**
@@ -64,6 +74,15 @@ public final class DsSessionStorage
         extends DsRecordStorage<ShardIndex, ShardSessionRecord> {
 
     private static final boolean multitenant = false;
+
+    /**
+     * The maximum number of sessions updated in a single transaction.
+     *
+     * <p>Each session is a root entity, and so forms an Entity group of its own. Thus, the number
+     * matches the Datastore limit on the number of Entity groups accessed in a single transaction.
+     */
+    private static final int MAX_SESSIONS_PER_TRANSACTION = 25;
+
     private final RecordSpec<ShardIndex, ShardSessionRecord> spec;
 
     /**
@@ -118,13 +137,13 @@ public final class DsSessionStorage
     /**
      * Obtains the session record for the shard with the given index.
      *
-     * <p>The read operation is executed in a new transaction.
+     * <p>The read operation is executed in a new read-only transaction.
      */
     @Override
     public Optional<ShardSessionRecord> read(ShardIndex index) {
         checkNotClosed();
         var key = keyOf(index);
-        try (var tx = newTransaction()) {
+        try (var tx = newReadOnlyTransaction()) {
             var result = tx.read(key);
             tx.commit();
             return result.map(this::toRecord);
@@ -158,6 +177,46 @@ public final class DsSessionStorage
         }
     }
 
+    /**
+     * Attempts to execute the update of the {@link ShardSessionRecord} optimistically.
+     *
+     * <p>If the caller has already observed the record, the update is first checked against it.
+     * If the update cannot be applied, e.g. the session is already picked up by another worker,
+     * the observed record is returned as-is without making any Datastore requests.
+     *
+     * <p>Otherwise, the update is performed
+     * {@linkplain #updateTransactionally(ShardIndex, PrepareForWrite) in a transaction}, which
+     * reads the record once again. Should the record be modified concurrently in between,
+     * the record written by the concurrent modification is returned.
+     *
+     * @param index
+     *         index of a record to execute an update for
+     * @param observed
+     *         the record recently observed by the caller,
+     *         or {@code null} if the caller has no view of the record
+     * @param update
+     *         an update to perform
+     * @return the result of the update
+     * @throws DatastoreException
+     *         if there is a technical issue communicating with Datastore
+     */
+    UpdateResult claim(ShardIndex index,
+                       @Nullable ShardSessionRecord observed,
+                       PrepareForWrite update) throws DatastoreException {
+        checkNotClosed();
+        if (observed != null && update.prepare(observed).isEmpty()) {
+            return remainedAsIs(observed);
+        }
+        return updateTransactionally(index, update);
+    }
+
+    /**
+     * Looks up the session record with a strongly consistent read outside of a transaction.
+     */
+    Optional<ShardSessionRecord> lookUp(ShardIndex index) {
+        return super.read(index);
+    }
+
     /**
      * Attempts to execute the update of the {@link ShardSessionRecord} in a scope of a new
      * Datastore transaction.
@@ -186,9 +245,8 @@ public final class DsSessionStorage
             var key = keyOf(index);
             var result = tx.read(key);
 
-            @Nullable ShardSessionRecord existing =
-                    result.map(this::toRecord)
-                          .orElse(null);
+            var existing = result.map(this::toRecord)
+                                 .orElse(null);
             var toWrite = update.prepare(existing);
             if (toWrite.isPresent()) {
                 var asRecord = toWrite.get();
@@ -210,10 +268,13 @@ public final class DsSessionStorage
             // of technical issues. Therefore, it is rethrown as-is.
             //
             // See the original documentation on RPC return codes for more detail.
+            //
+            // The record observed by the aborted transaction is outdated. So the record written
+            // by the winning transaction is looked up, to report the actual worker.
             if (Code.ABORTED.getNumber() == errorCode) {
-                var existing = read(index);
-                if(existing.isPresent()) {
-                    return remainedAsIs(existing.get());
+                var actual = lookUp(index);
+                if (actual.isPresent()) {
+                    return remainedAsIs(actual.get());
                 }
             }
             throw e;
@@ -229,6 +290,123 @@ public final class DsSessionStorage
                 index);
     }
 
+    /**
+     * Releases the sessions which were last picked before the given threshold.
+     *
+     * <p>Only the expired sessions are read from the storage. They are released in batches,
+     * each in its own transaction. Should a batch transaction be aborted due to the concurrent
+     * modification of some of the sessions, the sessions of the batch are released one by one.
+     *
+     * <p>The sessions picked up again in between the read and the release are left intact.
+     *
+     * @param threshold
+     *         the time before which the sessions must have been picked to be released
+     * @return indexes of the released sessions
+     */
+    ImmutableList<ShardIndex> releaseExpired(Timestamp threshold) {
+        checkNotClosed();
+        var release = new ReleaseIfExpired(threshold);
+        var expired = ImmutableList.<ShardIndex>builder();
+        var records = readAll(expiredBefore(threshold));
+        while (records.hasNext()) {
+            var record = records.next();
+            if (release.isExpired(record)) {
+                expired.add(record.getIndex());
+            }
+        }
+        var released = updateInBatches(expired.build(), release);
+        return released.stream()
+                       .map(ShardSessionRecord::getIndex)
+                       .collect(toImmutableList());
+    }
+
+    private static RecordQuery<ShardIndex, ShardSessionRecord>
+    expiredBefore(Timestamp threshold) {
+        return RecordQuery.newBuilder(ShardIndex.class, ShardSessionRecord.class)
+                          .where(when_last_picked).isLessThan(threshold)
+                          .build();
+    }
+
+    /**
+     * Renews the sessions of the given shards, which are still held by the given node.
+     *
+     * <p>Sets the current time as the time when each session was last picked. The sessions are
+     * renewed in batches, each in its own transaction. Should a batch transaction be aborted
+     * due to the concurrent modification of some of the sessions, the sessions of the batch
+     * are renewed one by one.
+     *
+     * @param indexes
+     *         indexes of the shards to renew the sessions of
+     * @param node
+     *         the node holding the sessions
+     * @return the renewed sessions; the sessions no longer held by the node are not included
+     */
+    ImmutableList<ShardSessionRecord> renewAll(Collection<ShardIndex> indexes, NodeId node) {
+        checkNotClosed();
+        checkNotNull(indexes);
+        checkNotNull(node);
+        return updateInBatches(ImmutableList.copyOf(indexes), new RenewLease(node));
+    }
+
+    /**
+     * Applies the update to the records with the given indexes, splitting them into
+     * transactions of up to {@link #MAX_SESSIONS_PER_TRANSACTION} records.
+     *
+     * @return the updated records
+     */
+    private ImmutableList<ShardSessionRecord>
+    updateInBatches(List<ShardIndex> indexes, PrepareForWrite update) {
+        var updated = ImmutableList.<ShardSessionRecord>builder();
+        for (var batch : partition(indexes, MAX_SESSIONS_PER_TRANSACTION)) {
+            updated.addAll(updateBatch(batch, update));
+        }
+        return updated.build();
+    }
+
+    private ImmutableList<ShardSessionRecord>
+    updateBatch(List<ShardIndex> indexes, PrepareForWrite update) {
+        try (var tx = newTransaction()) {
+            var keys = indexes.stream()
+                              .map(this::keyOf)
+                              .collect(toImmutableList());
+            var updated = ImmutableList.<ShardSessionRecord>builder();
+            List<Entity> toWrite = new ArrayList<>(keys.size());
+            for (var entity : tx.lookup(keys)) {
+                if (entity == null) {
+                    continue;
+                }
+                var record = toRecord(entity);
+                var prepared = update.prepare(record);
+                if (prepared.isPresent()) {
+                    toWrite.add(toEntity(prepared.get()));
+                    updated.add(prepared.get());
+                }
+            }
+            if (!toWrite.isEmpty()) {
+                tx.createOrUpdate(toWrite);
+            }
+            tx.commit();
+            return updated.build();
+        } catch (DatastoreException e) {
+            if (Code.ABORTED.getNumber() == e.getCode()) {
+                return updateOneByOne(indexes, update);
+            }
+            throw e;
+        }
+    }
+
+    private ImmutableList<ShardSessionRecord>
+    updateOneByOne(List<ShardIndex> indexes, PrepareForWrite update) {
+        var updated = ImmutableList.<ShardSessionRecord>builder();
+        for (var index : indexes) {
+            var result = updateTransactionally(index, update);
+            if (result.isSuccessful()) {
+                updated.add(result.value());
+            }
+        }
+        return updated.build();
+    }
+
     private Entity toEntity(ShardSessionRecord record) {
         var withCols = appendColumns(record);
         var result = entityRecordToEntity(withCols);
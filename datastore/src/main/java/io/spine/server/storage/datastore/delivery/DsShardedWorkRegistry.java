@@ -27,7 +27,15 @@
 package io.spine.server.storage.datastore.delivery;
 
 import com.google.cloud.datastore.DatastoreException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
+import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
 import io.spine.logging.WithLogging;
 import io.spine.server.ContextSpec;
 import io.spine.server.NodeId;
@@ -37,13 +45,31 @@ import io.spine.server.delivery.ShardIndex;
 import io.spine.server.delivery.ShardSessionRecord;
 import io.spine.server.delivery.WorkerId;
 import io.spine.server.storage.datastore.DatastoreStorageFactory;
+import io.spine.server.storage.datastore.delivery.ShardLeases.Lease;
+import org.jspecify.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.protobuf.util.Durations.toMillis;
+import static com.google.protobuf.util.Timestamps.subtract;
+import static io.spine.base.Time.currentTime;
 import static io.spine.server.delivery.PickUpOutcomeMixin.alreadyPicked;
 import static io.spine.server.delivery.PickUpOutcomeMixin.pickedUp;
+import static io.spine.server.storage.datastore.delivery.ShardAffinity.preferredWorker;
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * A {@link io.spine.server.delivery.ShardedWorkRegistry} based on the Google Datastore storage.
@@ -55,11 +81,62 @@ import static io.spine.server.delivery.PickUpOutcomeMixin.pickedUp;
  * <p>This storage uses transactions for read and write operations. It is also recommended using
  * this implementation with Cloud Firestore in Datastore mode, as it enforces serializable isolation
  * for transactions.
+ *
+ * <h2>Shard leases</h2>
+ *
+ * <p>If {@linkplain Builder#setLeaseDuration(Duration, Duration) configured with a lease duration},
+ * the registry keeps the picked up sessions leased to the node after they are
+ * {@linkplain #release(ShardSessionRecord) released}. Until the lease expires, the node picks up
+ * the leased shard without touching the Datastore.
+ *
+ * <p>The leases are renewed in background by updating the time when the session was last picked.
+ * The leases which stay idle for longer than the lease duration are released in the Datastore.
+ * Therefore, the lease duration must be shorter than the inactivity period passed to
+ * {@link #releaseExpiredSessions(Duration) releaseExpiredSessions(...)}. Otherwise, the sessions
+ * of the live nodes may be considered expired. Both the builder and
+ * {@code releaseExpiredSessions(...)} enforce that.
+ *
+ * <p>A lease which expires while in use, e.g. as its renewals fail, is kept by the node
+ * until the worker releases it. Until then, no other worker of the node picks up the shard.
+ *
+ * <p>The registry working with leases must be {@linkplain #close() closed} once it is no
+ * longer needed, so that the shards leased by this node are made available to other nodes.
+ *
+ * <h2>Shard affinity</h2>
+ *
+ * <p>If {@linkplain Builder#setShardAffinity(Supplier, Duration) configured}, the registry
+ * assigns each shard to a preferred node of the cluster. The other nodes pick up the shard
+ * only when its session has been stale for a while. So, instead of racing for every shard,
+ * the nodes mostly pick up the shards they are preferred for.
  */
-public class DsShardedWorkRegistry extends AbstractWorkRegistry implements WithLogging {
+public class DsShardedWorkRegistry
+        extends AbstractWorkRegistry implements AutoCloseable, WithLogging {
+
+    /**
+     * The number of times a lease is renewed during the lease duration.
+     *
+     * <p>Leaves room for a couple of failed renewals before the lease expires.
+     */
+    private static final int RENEWALS_PER_LEASE = 3;
+
+    /**
+     * The number of locks guarding the shards.
+     *
+     * <p>Large enough for the shards to rarely share a lock in typical deployments.
+     */
+    private static final int LOCK_STRIPES = 256;
 
     private final DsSessionStorage storage;
 
+    @SuppressWarnings("UnstableApiUsage")   /* Relying onto Guava's API. */
+    private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+    private final @Nullable Duration leaseDuration;
+    private final @Nullable ShardLeases leases;
+    private final @Nullable ShardAffinity affinity;
+    private final WorkerIdentity workerIdentity;
+    private final @Nullable ScheduledExecutorService renewal;
+    private final AtomicBoolean renewalStarted = new AtomicBoolean();
+
     /**
      * Creates an instance of registry using the {@link DatastoreStorageFactory} passed.
      *
@@ -68,15 +145,57 @@ public class DsShardedWorkRegistry extends AbstractWorkRegistry implements WithL
      * Therefore, it is recommended to create this registry in scope of a single-tenant
      * system-internal Bounded Context.
      *
+     * <p>The created registry does not lease the shards. Please use
+     * {@link #newBuilder(DatastoreStorageFactory, ContextSpec) newBuilder(...)} to configure
+     * the leases.
+     *
      * @param factory
      *         factory to create a record storage for the registry
      * @param context
      *         specification of the Bounded Context in which the created storage will reside
      */
     public DsShardedWorkRegistry(DatastoreStorageFactory factory, ContextSpec context) {
+        this(newBuilder(factory, context));
+    }
+
+    /**
+     * Creates an instance of registry from the passed builder.
+     */
+    protected DsShardedWorkRegistry(Builder builder) {
         super();
+        this.storage = new DsSessionStorage(builder.factory, builder.context);
+        this.affinity = builder.affinity;
+        this.workerIdentity = builder.workerIdentity != null
+                              ? builder.workerIdentity
+                              : (node, index) -> currentWorkerFor(node);
+        var leaseDuration = builder.leaseDuration;
+        this.leaseDuration = leaseDuration;
+        if (leaseDuration == null) {
+            this.leases = null;
+            this.renewal = null;
+        } else {
+            this.leases = new ShardLeases(leaseDuration);
+            this.renewal = newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("shard-lease-renewal-%d")
+                            .setDaemon(true)
+                            .build()
+            );
+        }
+    }
+
+    /**
+     * Creates a new builder of the registry.
+     *
+     * @param factory
+     *         factory to create a record storage for the registry
+     * @param context
+     *         specification of the Bounded Context in which the created storage will reside
+     */
+    public static Builder newBuilder(DatastoreStorageFactory factory, ContextSpec context) {
         checkNotNull(factory);
-        this.storage = new DsSessionStorage(factory, context);
+        checkNotNull(context);
+        return new Builder(factory, context);
     }
 
     /**
@@ -85,16 +204,88 @@ public class DsShardedWorkRegistry extends AbstractWorkRegistry implements WithL
      * <p>The potential concurrent access to the same record is handled by using the Datastore
      * transaction mechanism. In case of any parallel executions of {@code pickUp} operation,
      * the one started earlier wins.
+     *
+     * <p>The shards which are already picked up are detected within the transaction,
+     * which is then left without writing anything.
+     *
+     * <p>Within this node, the pick-ups of the same shard are executed one by one.
+     * Different shards are picked up in parallel.
+     *
+     * <p>If this node holds a valid lease on the shard, the shard is picked up
+     * without reading from the Datastore.
+     *
+     * <p>If {@linkplain Builder#setShardAffinity(Supplier, Duration) the shard affinity} is set,
+     * and this node is not preferred for the shard, the shard is left to the preferred node.
+     * In this case, the returned outcome tells the shard is already picked by the preferred
+     * node. The shard is picked up by this node only after its session has been observed
+     * stale for the whole fallback period. The session looked up to decide on it is then
+     * checked before claiming the shard, so that no transaction is started for the shard
+     * already picked up.
      */
     @Override
-    public synchronized PickUpOutcome pickUp(ShardIndex index, NodeId node)
-            throws DatastoreException {
+    public PickUpOutcome pickUp(ShardIndex index, NodeId node) throws DatastoreException {
         checkNotNull(index);
         checkNotNull(node);
-        var worker = currentWorkerFor(node);
-        var operation = new SetWorkerIfAbsent(index, worker);
+        return underLock(index, () -> doPickUp(index, node));
+    }
+
+    private PickUpOutcome doPickUp(ShardIndex index, NodeId node) {
+        var worker = workerIdentity.workerFor(node, index);
+        if (leases != null) {
+            var lease = leases.find(index)
+                              .filter(l -> l.node().equals(node));
+            if (lease.isPresent()) {
+                return pickUpLeased(lease.get(), worker);
+            }
+        }
+        @Nullable ShardSessionRecord observed = null;
+        if (affinity != null) {
+            var preferred = affinity.preferredFor(index);
+            if (preferred.isPresent() && !preferred.get().equals(node)) {
+                observed = storage().lookUp(index)
+                                    .orElse(null);
+                var deferred = deferTo(preferred.get(), index, observed);
+                if (deferred.isPresent()) {
+                    return deferred.get();
+                }
+            }
+        }
+        if (leases == null) {
+            return pickUpFromStorage(index, observed, new SetWorkerIfAbsent(index, worker));
+        }
+        var claim = new ClaimLease(index, worker, leases.renewedSince());
+        var outcome = pickUpFromStorage(index, observed, claim);
+        if (outcome.hasSession()) {
+            leases.hold(outcome.getSession());
+            startRenewal();
+        }
+        return outcome;
+    }
 
-        var updateResult = storage().updateTransactionally(index, operation);
+    /**
+     * Starts renewing the leases in background, unless already started.
+     *
+     * <p>The renewal starts along with the first lease, rather than in the constructor,
+     * so that the registry is fully constructed by the time the renewal runs.
+     */
+    private void startRenewal() {
+        if (renewal == null || !renewalStarted.compareAndSet(false, true)) {
+            return;
+        }
+        var period = max(toMillis(checkNotNull(leaseDuration)) / RENEWALS_PER_LEASE, 1);
+        try {
+            renewal.scheduleWithFixedDelay(this::renewLeases, period, period, MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The registry is closed.
+            logger().atDebug()
+                    .log(() -> "The lease renewal is not started, as the registry is closed.");
+        }
+    }
+
+    private PickUpOutcome pickUpFromStorage(ShardIndex index,
+                                            @Nullable ShardSessionRecord observed,
+                                            PrepareForWrite operation) {
+        var updateResult = storage().claim(index, observed, operation);
         if (updateResult.isSuccessful()) {
             var updatedRecord = updateResult.value();
             return pickedUp(updatedRecord);
@@ -105,34 +296,265 @@ public class DsShardedWorkRegistry extends AbstractWorkRegistry implements WithL
         }
     }
 
+    /**
+     * Leaves the shard to the node preferred for it, unless the current node
+     * {@linkplain ShardAffinity#mayFallBack may fall back} to picking it up.
+     *
+     * @param preferred
+     *         the node preferred for the shard
+     * @param index
+     *         the index of the shard
+     * @param session
+     *         the session of the shard looked up by the current node,
+     *         or {@code null} if the shard was never picked up
+     * @return the outcome telling the shard is already picked up,
+     *         or {@code Optional.empty()} if the current node should pick up the shard
+     */
+    private Optional<PickUpOutcome> deferTo(NodeId preferred,
+                                            ShardIndex index,
+                                            @Nullable ShardSessionRecord session) {
+        if (session != null && session.hasWorker()) {
+            return Optional.of(alreadyPicked(session.getWorker(), session.getWhenLastPicked()));
+        }
+        if (checkNotNull(affinity).mayFallBack(index, session)) {
+            return Optional.empty();
+        }
+        var whenLastPicked = session == null
+                             ? Timestamp.getDefaultInstance()
+                             : session.getWhenLastPicked();
+        return Optional.of(alreadyPicked(preferredWorker(preferred), whenLastPicked));
+    }
+
+    private static PickUpOutcome pickUpLeased(Lease lease, WorkerId worker) {
+        var session = lease.acquire(worker);
+        if (session.isPresent()) {
+            return pickedUp(session.get());
+        }
+        var currentWorker = lease.worker();
+        return alreadyPicked(currentWorker == null ? worker : currentWorker,
+                             lease.whenPicked());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the session is leased to this node, the lease becomes idle, and the session remains
+     * assigned to this node in the Datastore. If the lease has expired while in use,
+     * it is dropped, and the session is released in the Datastore.
+     */
     @Override
     public void release(ShardSessionRecord session) {
+        checkNotNull(session);
+        if (leases != null) {
+            var found = leases.find(session.getIndex());
+            if (found.isPresent() && found.get().release(session.getWorker())) {
+                var lease = found.get();
+                if (lease.isValid()) {
+                    return;
+                }
+                leases.drop(lease);
+            }
+        }
         clearNode(session);
     }
 
+    /**
+     * Renews the leases held by this node, and releases the ones idle for too long.
+     *
+     * <p>The leases are renewed in batches, in the same way as {@link ShardHeartbeat} does.
+     * The idle leases which cannot be renewed, as the session has been taken over
+     * by another node, are dropped. Such leases in use are kept until their workers
+     * release them.
+     */
+    private void renewLeases() {
+        if (leases == null) {
+            return;
+        }
+        var active = ImmutableList.<Lease>builder();
+        for (var lease : leases.all()) {
+            if (lease.isIdleTooLong()) {
+                releaseIdle(lease);
+            } else {
+                active.add(lease);
+            }
+        }
+        var byNode = Multimaps.index(active.build(), Lease::node);
+        byNode.asMap()
+              .forEach(this::renew);
+    }
+
+    private void releaseIdle(Lease lease) {
+        try {
+            runUnderLock(lease.index(), () -> {
+                leases().drop(lease);
+                storage().updateTransactionally(lease.index(), new ReleaseLease(lease.node()));
+            });
+        } catch (RuntimeException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> format("Cannot release the lease on the shard `%s`.",
+                                      lease.index()));
+        }
+    }
+
+    private void renew(NodeId node, Collection<Lease> held) {
+        var indexes = held.stream()
+                          .map(Lease::index)
+                          .collect(toImmutableList());
+        try {
+            var renewed = Maps.uniqueIndex(storage().renewAll(indexes, node),
+                                           ShardSessionRecord::getIndex);
+            for (var lease : held) {
+                var session = renewed.get(lease.index());
+                if (session != null) {
+                    lease.renewed(session.getWhenLastPicked());
+                } else {
+                    dropIfIdle(lease);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> format("Cannot renew the leases of the node `%s`.",
+                                      node.getValue()));
+        }
+    }
+
+    /**
+     * Drops the lease, unless it is in use.
+     *
+     * <p>Holds the lock of the shard, so that the lease is not dropped while a worker
+     * of this node is acquiring it.
+     */
+    private void dropIfIdle(Lease lease) {
+        runUnderLock(lease.index(), () -> {
+            if (lease.worker() == null) {
+                leases().drop(lease);
+            }
+        });
+    }
+
+    /**
+     * Creates a heartbeat which keeps the sessions of the shards owned by the given node alive.
+     *
+     * <p>This is an alternative to the shard leases for those who track the picked up shards
+     * on their own. The heartbeat does not start beating until
+     * {@linkplain ShardHeartbeat#start(Duration) started}.
+     *
+     * @param node
+     *         the node owning the shards
+     * @param inactivityPeriod
+     *         the period after which the sessions are considered expired
+     * @param listener
+     *         the listener of lost and expiring sessions
+     */
+    public ShardHeartbeat newHeartbeat(NodeId node,
+                                       Duration inactivityPeriod,
+                                       ShardHeartbeat.Listener listener) {
+        checkNotNull(node);
+        checkNotNull(inactivityPeriod);
+        checkNotNull(listener);
+        return new ShardHeartbeat(storage(), node, inactivityPeriod, listener);
+    }
+
+    private ShardLeases leases() {
+        return checkNotNull(leases);
+    }
+
+    /**
+     * Stops renewing the leases and releases the sessions leased by this node.
+     *
+     * <p>Does nothing if this registry does not lease the shards.
+     */
+    @Override
+    public void close() {
+        if (leases == null || renewal == null) {
+            return;
+        }
+        renewal.shutdownNow();
+        for (var lease : leases.all()) {
+            try {
+                runUnderLock(lease.index(), () -> {
+                    leases().drop(lease);
+                    storage().updateTransactionally(lease.index(),
+                                                    new ReleaseLease(lease.node()));
+                });
+            } catch (RuntimeException e) {
+                logger().atWarning()
+                        .withCause(e)
+                        .log(() -> format("Cannot release the lease on the shard `%s`.",
+                                          lease.index()));
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
      * <p>This implementation uses an identifier of the current thread as a {@code WorkerId}.
+     *
+     * <p>Unless {@linkplain Builder#setWorkerIdentity(WorkerIdentity) another identity}
+     * is set, this method tells the worker which picks up the shards.
      */
     @Override
     protected WorkerId currentWorkerFor(NodeId node) {
-        var currentThread = Thread.currentThread().getId();
-        var worker = WorkerId.newBuilder()
-                .setNodeId(node)
-                .setValue(String.valueOf(currentThread))
-                .build();
-        return worker;
+        return WorkerIdentity.perThread()
+                             .workerFor(node, ShardIndex.getDefaultInstance());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Queries the storage for the expired sessions only, and releases them in batches.
+     * Thus, the cost of this operation depends on the number of the expired sessions
+     * rather than on the total number of shards.
+     *
+     * @throws IllegalArgumentException
+     *         if this registry leases the shards, and the inactivity period is not longer
+     *         than the lease duration
+     */
     @Override
-    public synchronized Iterable<ShardIndex> releaseExpiredSessions(Duration inactivityPeriod) {
-        return super.releaseExpiredSessions(inactivityPeriod);
+    public Iterable<ShardIndex> releaseExpiredSessions(Duration inactivityPeriod) {
+        checkNotNull(inactivityPeriod);
+        if (leaseDuration != null) {
+            checkLeaseShorter(leaseDuration, inactivityPeriod);
+        }
+        var threshold = subtract(currentTime(), inactivityPeriod);
+        return storage().releaseExpired(threshold);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Clears the node while holding the lock of the session shard, so that the concurrent
+     * pick-ups of this shard within this node do not interfere.
+     */
     @Override
-    protected synchronized void clearNode(ShardSessionRecord session) {
-        super.clearNode(session);
+    protected void clearNode(ShardSessionRecord session) {
+        runUnderLock(session.getIndex(), () -> super.clearNode(session));
+    }
+
+    private static void checkLeaseShorter(Duration leaseDuration, Duration inactivityPeriod) {
+        checkArgument(Durations.compare(leaseDuration, inactivityPeriod) < 0,
+                      "The lease duration `%s` must be shorter than the inactivity period `%s`.",
+                      Durations.toString(leaseDuration), Durations.toString(inactivityPeriod));
+    }
+
+    private <T> T underLock(ShardIndex index, Supplier<T> action) {
+        var lock = locks.get(index);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runUnderLock(ShardIndex index, Runnable action) {
+        underLock(index, () -> {
+            action.run();
+            return null;
+        });
     }
 
     @Override
@@ -157,4 +579,110 @@ public class DsShardedWorkRegistry extends AbstractWorkRegistry implements WithL
     protected DsSessionStorage storage() {
         return storage;
     }
+
+    /**
+     * A builder of {@code DsShardedWorkRegistry}.
+     */
+    public static final class Builder {
+
+        private final DatastoreStorageFactory factory;
+        private final ContextSpec context;
+        private @Nullable Duration leaseDuration;
+        private @Nullable ShardAffinity affinity;
+        private @Nullable WorkerIdentity workerIdentity;
+
+        /**
+         * Prevents this builder from direct instantiation.
+         */
+        private Builder(DatastoreStorageFactory factory, ContextSpec context) {
+            this.factory = factory;
+            this.context = context;
+        }
+
+        /**
+         * Enables the shard leases and sets their duration.
+         *
+         * <p>The lease duration must be shorter than the inactivity period, after which
+         * the sessions are {@linkplain DsShardedWorkRegistry#releaseExpiredSessions(Duration)
+         * considered expired}. Otherwise, the sessions leased by the live nodes would be
+         * released as expired.
+         *
+         * <p>By default, the shards are not leased.
+         *
+         * @param duration
+         *         the positive period for which a lease stays valid after it was last renewed
+         * @param inactivityPeriod
+         *         the period after which the sessions are released as expired
+         * @return this instance of {@code Builder}
+         * @throws IllegalArgumentException
+         *         if the lease duration is not positive, or is not shorter than
+         *         the inactivity period
+         */
+        @CanIgnoreReturnValue
+        public Builder setLeaseDuration(Duration duration, Duration inactivityPeriod) {
+            checkNotNull(duration);
+            checkNotNull(inactivityPeriod);
+            checkArgument(toMillis(duration) > 0,
+                          "The lease duration must be positive.");
+            checkLeaseShorter(duration, inactivityPeriod);
+            this.leaseDuration = duration;
+            return this;
+        }
+
+        /**
+         * Enables the shard affinity mode.
+         *
+         * <p>In this mode, each shard is assigned to a preferred node using rendezvous hashing
+         * over the nodes of the cluster. The nodes other than the preferred one pick up
+         * the shard only if its session has not been picked up for the fallback period,
+         * e.g. when the preferred node is down. This reduces the contention between the nodes
+         * racing for the same shards.
+         *
+         * <p>The supplier is asked for the cluster nodes on each pick-up. It must return
+         * the same set of nodes on all nodes, except for short periods when the cluster changes.
+         *
+         * <p>By default, all nodes race for all shards.
+         *
+         * @param clusterNodes
+         *         supplier of the nodes currently running in the cluster
+         * @param fallbackAfter
+         *         the period after which the stale sessions may be picked up by
+         *         the nodes other than the preferred one
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setShardAffinity(Supplier<? extends Collection<NodeId>> clusterNodes,
+                                        Duration fallbackAfter) {
+            checkNotNull(clusterNodes);
+            checkNotNull(fallbackAfter);
+            checkArgument(toMillis(fallbackAfter) > 0,
+                          "The fallback period must be positive.");
+            this.affinity = new ShardAffinity(clusterNodes, fallbackAfter);
+            return this;
+        }
+
+        /**
+         * Sets the strategy telling which worker of the node picks up a shard.
+         *
+         * <p>By default, the ID of the current thread is used as the worker ID.
+         * Please use {@link WorkerIdentity#perShard()} when the shards are processed
+         * on pooled or virtual threads, e.g. via {@link ShardExecutor}.
+         *
+         * @param identity
+         *         the worker identity strategy
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setWorkerIdentity(WorkerIdentity identity) {
+            this.workerIdentity = checkNotNull(identity);
+            return this;
+        }
+
+        /**
+         * Creates a new instance of the registry.
+         */
+        public DsShardedWorkRegistry build() {
+            return new DsShardedWorkRegistry(this);
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The position of the {@link InboxPageReader} within the inbox of a shard.
+ *
+ * <p>Holds a Datastore cursor per Entity group of the shard, pointing after the last message
+ * read from the group. The groups not read from yet have no cursor.
+ *
+ * <p>The position may be {@linkplain #toUrlSafe() converted} to a string and
+ * {@linkplain #fromUrlSafe(String) restored} from it, e.g. to continue reading the shard
+ * on another node.
+ */
+public final class InboxCursor {
+
+    private static final char GROUP_SEPARATOR = ',';
+    private static final char CURSOR_SEPARATOR = ':';
+
+    private final ImmutableMap<Integer, Cursor> cursors;
+
+    InboxCursor(Map<Integer, Cursor> cursors) {
+        this.cursors = ImmutableMap.copyOf(cursors);
+    }
+
+    /**
+     * Returns the cursor pointing after the last message read from the Entity group
+     * with the given number.
+     */
+    Optional<Cursor> of(int group) {
+        return Optional.ofNullable(cursors.get(group));
+    }
+
+    /**
+     * Returns the cursors of the Entity groups by their numbers.
+     */
+    ImmutableMap<Integer, Cursor> cursors() {
+        return cursors;
+    }
+
+    /**
+     * Converts this position into a URL-safe string.
+     */
+    public String toUrlSafe() {
+        return cursors.entrySet()
+                      .stream()
+                      .map(e -> e.getKey() + String.valueOf(CURSOR_SEPARATOR)
+                              + e.getValue().toUrlSafe())
+                      .collect(joining(String.valueOf(GROUP_SEPARATOR)));
+    }
+
+    /**
+     * Restores the position from the given URL-safe string.
+     *
+     * @param urlSafe
+     *         the string obtained by {@link #toUrlSafe()}
+     * @throws IllegalArgumentException
+     *         if the string does not represent a position
+     */
+    public static InboxCursor fromUrlSafe(String urlSafe) {
+        checkNotNull(urlSafe);
+        var cursors = ImmutableMap.<Integer, Cursor>builder();
+        if (!urlSafe.isEmpty()) {
+            for (var part : Splitter.on(GROUP_SEPARATOR).split(urlSafe)) {
+                var separator = part.indexOf(CURSOR_SEPARATOR);
+                checkArgument(separator > 0, "Malformed `InboxCursor`: `%s`.", urlSafe);
+                var group = Integer.parseInt(part.substring(0, separator));
+                var cursor = Cursor.fromUrlSafe(part.substring(separator + 1));
+                cursors.put(group, cursor);
+            }
+        }
+        return new InboxCursor(cursors.buildOrThrow());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var other = (InboxCursor) o;
+        return cursors.equals(other.cursors);
+    }
+
+    @Override
+    public int hashCode() {
+        return cursors.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toUrlSafe();
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Query;
+import com.google.cloud.datastore.StructuredQuery;
+import com.google.cloud.datastore.StructuredQuery.Filter;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.storage.datastore.DatastoreMedium;
+import io.spine.server.storage.datastore.Kind;
+import io.spine.server.storage.datastore.config.RecordLayout;
+import io.spine.type.TypeUrl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.cloud.datastore.StructuredQuery.OrderBy.asc;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.server.delivery.InboxColumn.inbox_shard;
+import static io.spine.server.delivery.InboxColumn.received_at;
+import static io.spine.server.delivery.InboxColumn.version;
+import static io.spine.server.storage.datastore.record.Entities.toMessage;
+import static java.lang.Math.min;
+
+/**
+ * Reads the {@link InboxMessage}s of a shard page by page.
+ *
+ * <p>Works with the inbox messages stored in Entity groups by shard, e.g. according to
+ * {@link InboxStorageLayout} or {@link BucketedInboxStorageLayout}. The messages of each
+ * Entity group of a shard are read with an ancestor query, so that the reads are strongly
+ * consistent. Each page holds at most {@code pageSize} messages, ordered by the time they were
+ * received and by their versions. If the shard is spread over several Entity groups,
+ * up to {@code pageSize} messages are read from each group, and the results are merged.
+ * Thus, the memory required to read a shard does not depend on the size of its backlog.
+ *
+ * <p>The reader remembers its {@linkplain InboxCursor position} per shard, so that each call to
+ * {@link #nextPage(ShardIndex) nextPage(index)} continues from where the previous one stopped.
+ * Once all the messages of the shard are read, the position is dropped, and the next call
+ * starts from the beginning of the shard. The positions may be
+ * {@linkplain #cursorOf(ShardIndex) obtained} and {@linkplain #resume(ShardIndex, InboxCursor)
+ * restored}, e.g. to continue the reading on another node.
+ *
+ * <p>The reader for the inbox of a {@code DatastoreStorageFactory} is obtained via
+ * {@link io.spine.server.storage.datastore.DatastoreStorageFactory#newInboxPageReader(boolean,
+ * int) DatastoreStorageFactory.newInboxPageReader(multitenant, pageSize)}. It uses the same
+ * layout of the inbox messages as the {@code InboxStorage} created by the factory.
+ *
+ * <p>The reads require a Datastore composite index on {@code received_at} and {@code version}
+ * properties of the {@code InboxMessage} kind, with the ancestor. See the index configuration
+ * files shipped with this library.
+ */
+public final class InboxPageReader {
+
+    private static final Kind messageKind = Kind.of(InboxMessage.class);
+    private static final TypeUrl messageType = TypeUrl.of(InboxMessage.class);
+
+    private static final Comparator<Read> order =
+            Comparator.<Read, Timestamp>comparing(read -> received_at.valueIn(read.message),
+                                                  Timestamps::compare)
+                      .thenComparing(read -> version.valueIn(read.message));
+
+    private final DatastoreMedium datastore;
+    private final RecordLayout<InboxMessageId, InboxMessage> layout;
+    private final int pageSize;
+    private final Map<ShardIndex, InboxCursor> cursors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new reader of the messages stored according to {@link InboxStorageLayout}.
+     *
+     * @param datastore
+     *         the Datastore medium used by the inbox storage
+     * @param pageSize
+     *         the maximum number of messages per page
+     */
+    public InboxPageReader(DatastoreMedium datastore, int pageSize) {
+        this(datastore, new InboxStorageLayout(), pageSize);
+    }
+
+    /**
+     * Creates a new reader of the messages stored according to the given layout.
+     *
+     * @param datastore
+     *         the Datastore medium used by the inbox storage
+     * <p>The layout is checked upon the first read, since the Entity groups of a shard
+     * may only be resolved in the namespace of the current tenant.
+     *
+     * @param layout
+     *         the layout of the inbox messages, which must store them in Entity groups by shard
+     * @param pageSize
+     *         the maximum number of messages per page
+     */
+    public InboxPageReader(DatastoreMedium datastore,
+                           RecordLayout<InboxMessageId, InboxMessage> layout,
+                           int pageSize) {
+        checkNotNull(datastore);
+        checkNotNull(layout);
+        checkArgument(pageSize > 0, "The page size must be positive.");
+        this.datastore = datastore;
+        this.layout = layout;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Reads the next page of messages of the shard.
+     *
+     * @param index
+     *         the index of the shard
+     * @return the messages of the page; an empty list if there are no more messages to read
+     * @throws IllegalStateException
+     *         if the layout does not store the messages in Entity groups
+     */
+    public ImmutableList<InboxMessage> nextPage(ShardIndex index) {
+        checkNotNull(index);
+        var groups = groupsOf(index);
+        checkState(!groups.isEmpty(),
+                   "The layout `%s` does not store `InboxMessage`s in Entity groups.",
+                   layout.getClass().getName());
+        var position = cursors.get(index);
+        List<Read> reads = new ArrayList<>();
+        for (var group = 0; group < groups.size(); group++) {
+            var cursor = position == null
+                         ? Optional.<Cursor>empty()
+                         : position.of(group);
+            readGroup(group, groups.get(group), cursor, reads);
+        }
+        reads.sort(order);
+        var page = reads.subList(0, min(pageSize, reads.size()));
+        if (page.size() < pageSize) {
+            cursors.remove(index);
+        } else {
+            Map<Integer, Cursor> moved = position == null
+                                         ? new HashMap<>()
+                                         : new HashMap<>(position.cursors());
+            for (var read : page) {
+                moved.put(read.group, read.cursorAfter);
+            }
+            cursors.put(index, new InboxCursor(moved));
+        }
+        return page.stream()
+                   .map(read -> read.message)
+                   .collect(toImmutableList());
+    }
+
+    /**
+     * Reads up to {@code pageSize} messages of the Entity group starting from the cursor.
+     *
+     * <p>Remembers the cursor after each read message, so that the reading of the group
+     * may continue right after the last message included into the page.
+     */
+    private void readGroup(int group, Filter ancestor, Optional<Cursor> cursor, List<Read> reads) {
+        var builder = Query.newEntityQueryBuilder()
+                .setKind(messageKind.value())
+                .setFilter(ancestor)
+                .addOrderBy(asc(received_at.name().value()),
+                            asc(version.name().value()))
+                .setLimit(pageSize);
+        cursor.ifPresent(builder::setStartCursor);
+        StructuredQuery<Entity> query = builder.build();
+        var results = datastore.read(query);
+        while (results.hasNext()) {
+            var entity = results.next();
+            var cursorAfter = results.nextPageQuery()
+                                     .getStartCursor();
+            InboxMessage message = toMessage(entity, messageType);
+            reads.add(new Read(group, message, cursorAfter));
+        }
+    }
+
+    /**
+     * Returns the ancestor filters of the Entity groups, in which the messages of the shard
+     * reside, in the order defined by the layout.
+     */
+    private ImmutableList<Filter> groupsOf(ShardIndex index) {
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .where(inbox_shard).is(index)
+                               .build();
+        return layout.ancestorFilters(query, datastore);
+    }
+
+    /**
+     * Returns the position of the reader within the shard, if the shard is being read.
+     */
+    public Optional<InboxCursor> cursorOf(ShardIndex index) {
+        checkNotNull(index);
+        return Optional.ofNullable(cursors.get(index));
+    }
+
+    /**
+     * Makes the next read of the shard start from the given position.
+     */
+    public void resume(ShardIndex index, InboxCursor cursor) {
+        checkNotNull(index);
+        checkNotNull(cursor);
+        cursors.put(index, cursor);
+    }
+
+    /**
+     * Makes the next read of the shard start from the beginning.
+     */
+    public void reset(ShardIndex index) {
+        checkNotNull(index);
+        cursors.remove(index);
+    }
+
+    /**
+     * A message read from an Entity group along with the cursor pointing after it.
+     */
+    private static final class Read {
+
+        private final int group;
+        private final InboxMessage message;
+        private final Cursor cursorAfter;
+
+        private Read(int group, InboxMessage message, Cursor cursorAfter) {
+            this.group = group;
+            this.message = message;
+            this.cursorAfter = cursorAfter;
+        }
+    }
+}
@@ -90,7 +90,7 @@ public final class InboxStorageLayout
     }
 
     @SuppressWarnings("MethodWithMultipleLoops")    /* For brevity. */
-    private static Optional<ShardIndex> findShardIn(QueryPredicate<InboxMessage> predicate) {
+    static Optional<ShardIndex> findShardIn(QueryPredicate<InboxMessage> predicate) {
         var parameters = predicate.allParams();
         for (var parameter : parameters) {
             var columnName = parameter.column()
@@ -34,6 +34,9 @@ import java.util.Optional;
 /**
  * A method object telling how to modify {@link ShardSessionRecord}s — depending on its content and
  * the current state of the system — before it can be written to the storage.
+ *
+ * <p>The same operation may be applied several times before the record is written,
+ * so implementations must not have side effects.
  */
 interface PrepareForWrite {
 
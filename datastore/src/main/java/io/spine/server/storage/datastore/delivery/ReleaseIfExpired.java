@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.protobuf.Timestamp;
+import io.spine.server.delivery.ShardSessionRecord;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+
+import static com.google.protobuf.util.Timestamps.compare;
+import static java.util.Objects.isNull;
+
+/**
+ * Clears the worker of the {@link ShardSessionRecord}, if the session was last picked
+ * before the given threshold.
+ *
+ * <p>If the session has been picked up again since it was found expired,
+ * no update is performed.
+ */
+final class ReleaseIfExpired implements PrepareForWrite {
+
+    private final Timestamp threshold;
+
+    /**
+     * Creates the operation for the sessions last picked before the given time.
+     */
+    ReleaseIfExpired(Timestamp threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Optional<ShardSessionRecord> prepare(@Nullable ShardSessionRecord previous) {
+        if (isNull(previous) || !isExpired(previous)) {
+            return Optional.empty();
+        }
+        var released = previous.toBuilder()
+                .clearWorker()
+                .build();
+        return Optional.of(released);
+    }
+
+    /**
+     * Tells whether the session is picked up, and was last picked before the threshold.
+     */
+    boolean isExpired(ShardSessionRecord session) {
+        return session.hasWorker()
+                && compare(session.getWhenLastPicked(), threshold) < 0;
+    }
+}
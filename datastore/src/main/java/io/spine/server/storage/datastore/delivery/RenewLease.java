@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import io.spine.server.NodeId;
+import io.spine.server.delivery.ShardSessionRecord;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+
+import static io.spine.base.Time.currentTime;
+import static java.util.Objects.isNull;
+
+/**
+ * Prolongs the lease of the {@link ShardSessionRecord} held by the given node.
+ *
+ * <p>Sets the current time as the time when the session was last picked, as long as the session
+ * is still assigned to a worker of the node. Otherwise, the lease is considered lost,
+ * and no update is performed.
+ */
+final class RenewLease implements PrepareForWrite {
+
+    private final NodeId node;
+
+    /**
+     * Creates the operation for the node holding the lease.
+     */
+    RenewLease(NodeId node) {
+        this.node = node;
+    }
+
+    @Override
+    public Optional<ShardSessionRecord> prepare(@Nullable ShardSessionRecord previous) {
+        if (isNull(previous) || !heldBy(previous, node)) {
+            return Optional.empty();
+        }
+        var renewed = previous.toBuilder()
+                .setWhenLastPicked(currentTime())
+                .build();
+        return Optional.of(renewed);
+    }
+
+    /**
+     * Tells whether the session is assigned to a worker of the given node.
+     */
+    static boolean heldBy(ShardSessionRecord session, NodeId node) {
+        return session.hasWorker()
+                && session.getWorker()
+                          .getNodeId()
+                          .equals(node);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.common.hash.HashFunction;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import io.spine.server.NodeId;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardSessionRecord;
+import io.spine.server.delivery.WorkerId;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.hash.Hashing.sipHash24;
+import static com.google.protobuf.util.Timestamps.add;
+import static com.google.protobuf.util.Timestamps.compare;
+import static com.google.protobuf.util.Timestamps.subtract;
+import static io.spine.base.Time.currentTime;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Assigns each shard to a preferred node of the cluster.
+ *
+ * <p>The preferred node is chosen with the rendezvous hashing. Each node is scored with a hash
+ * of its ID and the shard index, and the node with the highest score is preferred.
+ * As the cluster grows or shrinks, only the shards of the joined or left nodes
+ * change their preferred node.
+ *
+ * <p>The nodes other than the preferred one fall back to picking up the shard only if its
+ * session stays stale for the whole fallback period, as observed by the node. A session is stale
+ * if it has not been picked up during the fallback period. Observing the stale session for a
+ * while gives the preferred node a chance to pick the shard up first, e.g. when the whole
+ * cluster restarts.
+ */
+final class ShardAffinity {
+
+    private static final HashFunction hashFunction = sipHash24();
+
+    private final Supplier<? extends Collection<NodeId>> nodes;
+    private final Duration fallbackAfter;
+    private final Map<ShardIndex, Timestamp> staleSince = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param nodes
+     *         supplier of the nodes currently running in the cluster
+     * @param fallbackAfter
+     *         the period after which the stale sessions may be picked up by
+     *         the nodes other than the preferred one
+     */
+    ShardAffinity(Supplier<? extends Collection<NodeId>> nodes, Duration fallbackAfter) {
+        this.nodes = checkNotNull(nodes);
+        this.fallbackAfter = checkNotNull(fallbackAfter);
+    }
+
+    /**
+     * Returns the node preferred for the shard, or {@code Optional.empty()}
+     * if there are no nodes in the cluster.
+     */
+    Optional<NodeId> preferredFor(ShardIndex index) {
+        var cluster = nodes.get();
+        var result = cluster.stream()
+                .max(Comparator.<NodeId>comparingLong(node -> score(node, index))
+                             .thenComparing(NodeId::getValue));
+        return result;
+    }
+
+    /**
+     * Tells whether a node which is not preferred for the shard may pick it up.
+     *
+     * <p>Records the time when the session was first observed stale. Returns {@code true}
+     * only if the session has been stale since at least the fallback period ago.
+     *
+     * @param index
+     *         the index of the shard
+     * @param session
+     *         the session of the shard, or {@code null} if the shard was never picked up
+     */
+    boolean mayFallBack(ShardIndex index, @Nullable ShardSessionRecord session) {
+        var now = currentTime();
+        var threshold = subtract(now, fallbackAfter);
+        var stale = session == null
+                || compare(session.getWhenLastPicked(), threshold) < 0;
+        if (!stale) {
+            staleSince.remove(index);
+            return false;
+        }
+        var since = staleSince.computeIfAbsent(index, i -> now);
+        var fallBack = compare(now, add(since, fallbackAfter)) >= 0;
+        if (fallBack) {
+            staleSince.remove(index);
+        }
+        return fallBack;
+    }
+
+    /**
+     * Returns a worker ID denoting the preferred node as the one owning the shard.
+     *
+     * <p>The ID has no value, as the actual worker of the preferred node is unknown.
+     */
+    static WorkerId preferredWorker(NodeId node) {
+        return WorkerId.newBuilder()
+                .setNodeId(node)
+                .build();
+    }
+
+    private static long score(NodeId node, ShardIndex index) {
+        return hashFunction.newHasher()
+                           .putString(node.getValue(), UTF_8)
+                           .putInt(index.getIndex())
+                           .putInt(index.getOfTotal())
+                           .hash()
+                           .asLong();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.spine.server.delivery.ShardIndex;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+
+/**
+ * Runs the processing of each shard on its own thread.
+ *
+ * <p>The tasks of the same shard are executed one after another, in the order of submission.
+ * The tasks of different shards are executed in parallel.
+ *
+ * <p>When running on Java 21 or newer, each task is executed on a new virtual thread.
+ * This allows serving large numbers of shards per node. On older Java versions,
+ * the tasks are executed on a pool of daemon platform threads.
+ *
+ * <p>As the same shard is processed by different threads over time, this executor is meant to
+ * be used with the {@link WorkerIdentity#perShard() per-shard} worker identity.
+ * A typical usage looks as follows:
+ *
+ * <pre>{@code
+ * executor.execute(index, () -> delivery.deliverMessagesFrom(index));
+ * }</pre>
+ */
+public final class ShardExecutor implements AutoCloseable {
+
+    private final ExecutorService threads;
+    private final boolean virtual;
+    private final Map<ShardIndex, CompletableFuture<Void>> lastTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new executor using virtual threads, if available.
+     */
+    public ShardExecutor() {
+        var virtualThreads = newVirtualThreadPerTaskExecutor();
+        this.virtual = virtualThreads != null;
+        this.threads = virtualThreads != null
+                       ? virtualThreads
+                       : newCachedThreadPool(new ThreadFactoryBuilder()
+                                                     .setNameFormat("shard-executor-%d")
+                                                     .setDaemon(true)
+                                                     .build());
+    }
+
+    /**
+     * Creates the executor starting a new virtual thread per task.
+     *
+     * <p>The executor is created reflectively, as this library is compiled
+     * for the Java versions without virtual threads.
+     *
+     * @return the new executor, or {@code null} if virtual threads are not available
+     */
+    private static @Nullable ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            var factoryMethod = Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Submits the processing of the shard.
+     *
+     * <p>The task starts once all the tasks previously submitted for this shard complete,
+     * regardless of whether they complete normally or exceptionally.
+     *
+     * @param index
+     *         the index of the processed shard
+     * @param task
+     *         the processing to run
+     * @return the future completing along with the task
+     */
+    public CompletableFuture<Void> execute(ShardIndex index, Runnable task) {
+        checkNotNull(index);
+        checkNotNull(task);
+        return lastTasks.compute(index, (i, previous) -> {
+            var after = previous == null
+                        ? completedFuture((Void) null)
+                        : previous.exceptionally(t -> null);
+            return after.thenRunAsync(task, threads);
+        });
+    }
+
+    /**
+     * Tells whether the tasks are executed on virtual threads.
+     */
+    public boolean usesVirtualThreads() {
+        return virtual;
+    }
+
+    /**
+     * Stops accepting new tasks.
+     *
+     * <p>The tasks already submitted are executed.
+     */
+    @Override
+    public void close() {
+        threads.shutdown();
+    }
+}
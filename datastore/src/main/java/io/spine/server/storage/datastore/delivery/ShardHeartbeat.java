@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import io.spine.logging.WithLogging;
+import io.spine.server.NodeId;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardSessionRecord;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.protobuf.util.Durations.toMillis;
+import static com.google.protobuf.util.Timestamps.add;
+import static com.google.protobuf.util.Timestamps.compare;
+import static io.spine.base.Time.currentTime;
+import static java.lang.String.format;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Keeps the shard sessions owned by a node alive.
+ *
+ * <p>On each {@linkplain #beat() beat}, renews the time when the session was last picked
+ * for every {@linkplain #track(ShardSessionRecord) tracked} shard. The sessions are renewed
+ * in batches, each batch in a single multi-entity transaction.
+ *
+ * <p>The owner of the shards is notified via {@link Listener}:
+ * <ul>
+ *     <li>when a session is found to be held by another node, so the shard is lost;
+ *     <li>when the session cannot be renewed, and is about to expire before the next beat.
+ *         This happens before the session may be
+ *         {@linkplain DsShardedWorkRegistry#releaseExpiredSessions(Duration) released}
+ *         and taken over by another node. So the owner is able to stop processing the shard
+ *         in advance.
+ * </ul>
+ *
+ * <p>The heartbeat may be {@linkplain #start(Duration) started} to beat periodically
+ * in background. Once started, it must be {@linkplain #close() closed} when no longer needed.
+ *
+ * <p>Instances are created via
+ * {@link DsShardedWorkRegistry#newHeartbeat(NodeId, Duration, Listener)
+ * DsShardedWorkRegistry.newHeartbeat(...)}.
+ */
+public final class ShardHeartbeat implements AutoCloseable, WithLogging {
+
+    private final DsSessionStorage storage;
+    private final NodeId node;
+    private final Duration inactivityPeriod;
+    private final Listener listener;
+
+    /**
+     * The tracked shards along with the time their sessions were last renewed.
+     */
+    private final Map<ShardIndex, Timestamp> owned = new ConcurrentHashMap<>();
+
+    private @Nullable ScheduledExecutorService executor;
+    private Duration period;
+
+    ShardHeartbeat(DsSessionStorage storage,
+                   NodeId node,
+                   Duration inactivityPeriod,
+                   Listener listener) {
+        this.storage = checkNotNull(storage);
+        this.node = checkNotNull(node);
+        this.inactivityPeriod = checkNotNull(inactivityPeriod);
+        this.listener = checkNotNull(listener);
+        this.period = Duration.getDefaultInstance();
+    }
+
+    /**
+     * Starts tracking the session picked up by the node.
+     */
+    public void track(ShardSessionRecord session) {
+        checkNotNull(session);
+        checkArgument(RenewLease.heldBy(session, node),
+                      "The session of the shard `%s` is not held by the node `%s`.",
+                      session.getIndex(), node.getValue());
+        owned.put(session.getIndex(), session.getWhenLastPicked());
+    }
+
+    /**
+     * Stops tracking the session of the shard, e.g. once it has been released.
+     */
+    public void untrack(ShardIndex index) {
+        checkNotNull(index);
+        owned.remove(index);
+    }
+
+    /**
+     * Renews the sessions of all tracked shards.
+     *
+     * <p>The shards which sessions are held by another node are no longer tracked.
+     */
+    public synchronized void beat() {
+        if (owned.isEmpty()) {
+            return;
+        }
+        var indexes = ImmutableSet.copyOf(owned.keySet());
+        try {
+            var renewed = storage.renewAll(indexes, node);
+            Set<ShardIndex> lost = new HashSet<>(indexes);
+            for (var session : renewed) {
+                var index = session.getIndex();
+                lost.remove(index);
+                owned.replace(index, session.getWhenLastPicked());
+            }
+            for (var index : lost) {
+                if (owned.remove(index) != null) {
+                    listener.onLost(index);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> format("Cannot renew the shard sessions of the node `%s`.",
+                                      node.getValue()));
+            warnExpiring();
+        }
+    }
+
+    /**
+     * Notifies the listener of the sessions which expire before the next beat.
+     */
+    private void warnExpiring() {
+        var nextBeat = add(currentTime(), period);
+        owned.forEach((index, whenRenewed) -> {
+            var expiresAt = add(whenRenewed, inactivityPeriod);
+            if (compare(nextBeat, expiresAt) >= 0) {
+                listener.onExpiring(index, expiresAt);
+            }
+        });
+    }
+
+    /**
+     * Starts beating in background with the given period.
+     *
+     * <p>The period must be shorter than the inactivity period, after which
+     * the sessions are considered expired.
+     *
+     * @return this instance
+     */
+    @CanIgnoreReturnValue
+    public synchronized ShardHeartbeat start(Duration period) {
+        checkNotNull(period);
+        var millis = toMillis(period);
+        checkArgument(millis > 0, "The heartbeat period must be positive.");
+        checkArgument(Durations.compare(period, inactivityPeriod) < 0,
+                      "The heartbeat period must be shorter than the inactivity period.");
+        checkState(executor == null, "The heartbeat is already started.");
+        this.period = period;
+        this.executor = newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setNameFormat("shard-heartbeat-%d")
+                        .setDaemon(true)
+                        .build()
+        );
+        executor.scheduleWithFixedDelay(this::beat, millis, millis, MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Stops beating in background, if started.
+     */
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Receives the notifications on the state of the tracked sessions.
+     */
+    public interface Listener {
+
+        /**
+         * Called when the session of the shard turns out to be held by another node.
+         *
+         * <p>The shard is no longer tracked after this call.
+         */
+        void onLost(ShardIndex index);
+
+        /**
+         * Called when the session of the shard could not be renewed, and expires
+         * before the next beat.
+         *
+         * @param index
+         *         the index of the shard
+         * @param expiresAt
+         *         the time when the session expires
+         */
+        void onExpiring(ShardIndex index, Timestamp expiresAt);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import io.spine.server.NodeId;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardSessionRecord;
+import io.spine.server.delivery.WorkerId;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.util.Timestamps.add;
+import static com.google.protobuf.util.Timestamps.compare;
+import static com.google.protobuf.util.Timestamps.subtract;
+import static io.spine.base.Time.currentTime;
+
+/**
+ * The table of shard leases held by this node.
+ *
+ * <p>A lease is granted to the node once it picks up a shard session in the Datastore.
+ * While the lease remains {@linkplain Lease#isValid() valid}, the node may pick up the same shard
+ * again and again without touching the Datastore. The lease stays valid for the configured
+ * {@code duration} since the last time it was renewed.
+ *
+ * <p>A lease in use by a worker is never dropped from the table, even if it expires.
+ * Otherwise, another worker of the node could pick up the shard, which is still processed.
+ *
+ * <p>This class only tracks the leases. Their renewal and the release of the sessions
+ * in the Datastore is up to {@link DsShardedWorkRegistry}.
+ */
+final class ShardLeases {
+
+    private final Duration duration;
+    private final Map<ShardIndex, Lease> leases = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty table of leases.
+     *
+     * @param duration
+     *         the period for which a lease stays valid after it was last renewed
+     */
+    ShardLeases(Duration duration) {
+        this.duration = checkNotNull(duration);
+    }
+
+    /**
+     * Registers the lease on the freshly picked up session.
+     *
+     * <p>The registered lease is in use by the worker, set in the session.
+     */
+    Lease hold(ShardSessionRecord session) {
+        var lease = new Lease(session);
+        leases.put(session.getIndex(), lease);
+        return lease;
+    }
+
+    /**
+     * Finds the lease on the shard with the given index.
+     *
+     * <p>A lease in use is returned even if it has expired, as its worker may still be
+     * processing the shard. Such a lease stays in the table until the worker releases it.
+     *
+     * <p>If an idle lease has expired, drops it.
+     */
+    Optional<Lease> find(ShardIndex index) {
+        var lease = leases.get(index);
+        if (lease == null) {
+            return Optional.empty();
+        }
+        if (lease.isIdleAndExpired()) {
+            leases.remove(index, lease);
+            return Optional.empty();
+        }
+        return Optional.of(lease);
+    }
+
+    /**
+     * Returns the time since which a session must have been renewed, so that its lease
+     * is still valid.
+     *
+     * <p>A session of this node, which has not been renewed since then, is stale.
+     */
+    Timestamp renewedSince() {
+        return subtract(currentTime(), duration);
+    }
+
+    /**
+     * Drops the given lease from the table.
+     */
+    void drop(Lease lease) {
+        leases.remove(lease.index(), lease);
+    }
+
+    /**
+     * Returns all the leases held at the moment, including the expired ones.
+     */
+    ImmutableList<Lease> all() {
+        return ImmutableList.copyOf(leases.values());
+    }
+
+    /**
+     * A lease of a single shard.
+     *
+     * <p>The lease is either in use by a worker of the node, or idle. An idle lease may be
+     * acquired by any worker of the node which holds the lease.
+     */
+    final class Lease {
+
+        private final ShardIndex index;
+        private final NodeId node;
+
+        private @Nullable WorkerId worker;
+        private Timestamp whenPicked;
+        private Timestamp whenRenewed;
+        private Timestamp idleSince;
+
+        private Lease(ShardSessionRecord session) {
+            this.index = session.getIndex();
+            this.node = session.getWorker()
+                               .getNodeId();
+            this.worker = session.getWorker();
+            this.whenPicked = session.getWhenLastPicked();
+            this.whenRenewed = whenPicked;
+            this.idleSince = whenPicked;
+        }
+
+        /**
+         * Returns the index of the leased shard.
+         */
+        ShardIndex index() {
+            return index;
+        }
+
+        /**
+         * Returns the node holding the lease.
+         */
+        NodeId node() {
+            return node;
+        }
+
+        /**
+         * Attempts to hand the lease over to the given worker.
+         *
+         * @return the session picked up by the worker,
+         *         or {@code Optional.empty()} if the lease is already in use
+         */
+        synchronized Optional<ShardSessionRecord> acquire(WorkerId worker) {
+            if (this.worker != null) {
+                return Optional.empty();
+            }
+            this.worker = worker;
+            this.whenPicked = currentTime();
+            var session = ShardSessionRecord.newBuilder()
+                    .setIndex(index)
+                    .setWorker(worker)
+                    .setWhenLastPicked(whenPicked)
+                    .build();
+            return Optional.of(session);
+        }
+
+        /**
+         * Makes the lease idle, if it is in use by the given worker.
+         *
+         * @return {@code true} if the lease was in use by the worker, {@code false} otherwise
+         */
+        synchronized boolean release(WorkerId worker) {
+            if (!worker.equals(this.worker)) {
+                return false;
+            }
+            this.worker = null;
+            this.idleSince = currentTime();
+            return true;
+        }
+
+        /**
+         * Returns the worker using the lease, or {@code null} if the lease is idle.
+         */
+        synchronized @Nullable WorkerId worker() {
+            return worker;
+        }
+
+        /**
+         * Returns the time when the lease was last acquired.
+         */
+        synchronized Timestamp whenPicked() {
+            return whenPicked;
+        }
+
+        /**
+         * Records the successful renewal of the lease in the Datastore.
+         */
+        synchronized void renewed(Timestamp when) {
+            this.whenRenewed = when;
+        }
+
+        /**
+         * Tells whether the lease has been renewed within the lease duration.
+         */
+        synchronized boolean isValid() {
+            return compare(currentTime(), add(whenRenewed, duration)) < 0;
+        }
+
+        /**
+         * Tells whether the lease is idle, and has not been renewed within the lease duration.
+         */
+        synchronized boolean isIdleAndExpired() {
+            return worker == null && !isValid();
+        }
+
+        /**
+         * Tells whether the lease is idle for longer than the lease duration.
+         */
+        synchronized boolean isIdleTooLong() {
+            return worker == null
+                    && compare(currentTime(), add(idleSince, duration)) >= 0;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import io.spine.server.NodeId;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.WorkerId;
+
+import static java.lang.String.format;
+
+/**
+ * Tells which worker of the node picks up a shard.
+ *
+ * <p>The worker identity is written to the shard session once the shard is picked up.
+ * The same node may pick up the shard once again only after the previous worker
+ * has released it.
+ *
+ * @see DsShardedWorkRegistry.Builder#setWorkerIdentity(WorkerIdentity)
+ */
+@FunctionalInterface
+public interface WorkerIdentity {
+
+    /**
+     * Returns the ID of the worker of the given node, which picks up the shard.
+     *
+     * @param node
+     *         the node picking up the shard
+     * @param index
+     *         the index of the shard to pick up
+     */
+    WorkerId workerFor(NodeId node, ShardIndex index);
+
+    /**
+     * Returns the identity using the ID of the current thread as the worker ID.
+     *
+     * <p>Suits the deliveries running each shard on the same platform thread. With the pooled
+     * or virtual threads, the same logical worker gets a different ID on each pick-up.
+     */
+    static WorkerIdentity perThread() {
+        return (node, index) -> {
+            var currentThread = Thread.currentThread().getId();
+            return WorkerId.newBuilder()
+                    .setNodeId(node)
+                    .setValue(String.valueOf(currentThread))
+                    .build();
+        };
+    }
+
+    /**
+     * Returns the identity using the shard index as the worker ID.
+     *
+     * <p>The node has a single worker per shard, regardless of the thread it runs in.
+     * Suits the deliveries running on pooled or virtual threads, such as {@link ShardExecutor}.
+     */
+    static WorkerIdentity perShard() {
+        return (node, index) -> WorkerId.newBuilder()
+                .setNodeId(node)
+                .setValue(format("shard-%d-of-%d", index.getIndex(), index.getOfTotal()))
+                .build();
+    }
+}
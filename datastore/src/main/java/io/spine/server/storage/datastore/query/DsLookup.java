@@ -29,8 +29,14 @@ package io.spine.server.storage.datastore.query;
 import com.google.protobuf.Message;
 import io.spine.query.RecordQuery;
 import io.spine.server.storage.datastore.DatastoreMedium;
+import io.spine.server.storage.datastore.config.ReadType;
 import io.spine.server.storage.datastore.record.DsEntitySpec;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.server.storage.datastore.config.ReadType.ANCESTOR_QUERY;
+import static io.spine.server.storage.datastore.config.ReadType.BY_KEYS;
+import static io.spine.server.storage.datastore.config.ReadType.GLOBAL_QUERY;
+
 /**
  * Factory for record lookup methods.
  *
@@ -44,11 +50,16 @@ public final class DsLookup<I, R extends Message> {
     private final DatastoreMedium datastore;
     private final FilterAdapter adapter;
     private final DsEntitySpec<I, R> spec;
+    private final SlowQueryLog slowQueryLog;
 
-    private DsLookup(DatastoreMedium datastore, FilterAdapter adapter, DsEntitySpec<I, R> spec) {
+    private DsLookup(DatastoreMedium datastore,
+                     FilterAdapter adapter,
+                     DsEntitySpec<I, R> spec,
+                     SlowQueryLog slowQueryLog) {
         this.datastore = datastore;
         this.adapter = adapter;
         this.spec = spec;
+        this.slowQueryLog = slowQueryLog;
     }
 
     /**
@@ -69,7 +80,35 @@ public final class DsLookup<I, R extends Message> {
      */
     public static <I, R extends Message> DsLookup<I, R>
     onTopOf(DatastoreMedium datastore, FilterAdapter adapter, DsEntitySpec<I, R> spec) {
-        return new DsLookup<>(datastore, adapter, spec);
+        return onTopOf(datastore, adapter, spec, SlowQueryLog.disabled());
+    }
+
+    /**
+     * Creates a new instance of lookup method, which reports the slow queries
+     * to the given log.
+     *
+     * @param datastore
+     *         a facade to Datastore
+     * @param adapter
+     *         adapter for the column values to use in Datastore filters
+     * @param spec
+     *         the specification telling how the Protobuf Message is stored in terms of Datastore
+     *         Entities
+     * @param slowQueryLog
+     *         the log of the slow queries
+     * @param <I>
+     *         the type of identifiers of the searched records
+     * @param <R>
+     *         the type of searched records
+     * @return a new instance of Datastore lookup
+     */
+    public static <I, R extends Message> DsLookup<I, R>
+    onTopOf(DatastoreMedium datastore,
+            FilterAdapter adapter,
+            DsEntitySpec<I, R> spec,
+            SlowQueryLog slowQueryLog) {
+        checkNotNull(slowQueryLog);
+        return new DsLookup<>(datastore, adapter, spec, slowQueryLog);
     }
 
     /**
@@ -81,12 +120,34 @@ public final class DsLookup<I, R extends Message> {
      * @return a new instance of prepared query
      */
     public PreparedQuery<I, R> with(RecordQuery<I, R> query) {
-        var subject = query.subject();
-        if (!subject.id()
-                    .values()
-                    .isEmpty()) {
-            return new DsLookupByIds<>(datastore, query, adapter, spec);
+        if (byIds(query)) {
+            return new DsLookupByIds<>(datastore, query, adapter, spec, slowQueryLog);
+        }
+        return new DsLookupByQueries<>(datastore, query, adapter, spec, slowQueryLog);
+    }
+
+    /**
+     * Determines the type of Datastore read, which is required to execute the passed query.
+     *
+     * @param query
+     *         the query to analyze
+     * @return the type of read operation
+     */
+    public ReadType readTypeOf(RecordQuery<I, R> query) {
+        if (byIds(query)) {
+            return BY_KEYS;
         }
-        return new DsLookupByQueries<>(datastore, query, adapter, spec);
+        var ancestorFilters = spec.layout()
+                                  .ancestorFilters(query, datastore);
+        return ancestorFilters.isEmpty()
+               ? GLOBAL_QUERY
+               : ANCESTOR_QUERY;
+    }
+
+    private static boolean byIds(RecordQuery<?, ?> query) {
+        return !query.subject()
+                     .id()
+                     .values()
+                     .isEmpty();
     }
 }
@@ -72,15 +72,28 @@ final class DsLookupByIds<I, R extends Message> extends PreparedQuery<I, R> {
      *         an adapter of values of {@code RecordQuery} parameters to Datastore-native types
      * @param spec
      *         Entity specification of the queried records
+     * @param slowQueryLog
+     *         the log to report the slow executions of the query to
      */
     DsLookupByIds(DatastoreMedium datastore,
                   RecordQuery<I, R> query,
                   FilterAdapter adapter,
-                  DsEntitySpec<I, R> spec) {
-        super(query, adapter, spec);
+                  DsEntitySpec<I, R> spec,
+                  SlowQueryLog slowQueryLog) {
+        super(query, adapter, spec, slowQueryLog);
         this.datastore = datastore;
     }
 
+    @Override
+    public QueryPlan explain() {
+        var limit = limit();
+        return QueryPlan.byKeys(spec().kind(),
+                                identifiers().size(),
+                                !predicate().isEmpty(),
+                                hasSorting(),
+                                limit != null && limit > 0);
+    }
+
     @Override
     IntermediateResult fetchFromDatastore() {
         var rawEntities = readList(identifiers());
@@ -37,14 +37,19 @@ import io.spine.query.QueryPredicate;
 import io.spine.query.RecordQuery;
 import io.spine.server.storage.datastore.DatastoreMedium;
 import io.spine.server.storage.datastore.record.DsEntitySpec;
+import io.spine.server.storage.datastore.record.Entities;
+import io.spine.server.storage.datastore.record.FieldMaskApplier;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Function;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Iterators.transform;
 
 /**
  * An {@code Entity} lookup using {@linkplain QueryPredicate Spine query predicates}.
@@ -62,14 +67,14 @@ final class DsLookupByQueries<I, R extends Message> extends PreparedQuery<I, R>
     private final DatastoreMedium datastore;
 
     /**
-     * An ancestor filter specific to the record layout according to which the queried records
+     * Ancestor filters specific to the record layout according to which the queried records
      * are stored.
      *
      * <p>If the records are stored flat (i.e., no ancestor-child hierarchy is used)
-     * this filter is {@code null}.
+     * this list is empty. If the layout spreads the queried records over several
+     * Entity groups, there is a filter per each group.
      */
-    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    private final Optional<Filter> ancestorFilter;
+    private final ImmutableList<Filter> ancestorFilters;
 
     /**
      * A converter from {@link Entity} to {@code <R>} instances.
@@ -78,6 +83,14 @@ final class DsLookupByQueries<I, R extends Message> extends PreparedQuery<I, R>
      */
     private @MonotonicNonNull ToRecords<R> transformer = null;
 
+    /**
+     * The Datastore queries to run in order to execute the {@code RecordQuery}.
+     *
+     * <p>Initialized lazily, either upon fetching the entities or upon
+     * {@linkplain #explain() explaining} the query.
+     */
+    private @MonotonicNonNull ImmutableList<StructuredQuery<Entity>> datastoreQueries = null;
+
     /**
      * Creates a new lookup for the passed {@code RecordQuery}.
      *
@@ -89,25 +102,57 @@ final class DsLookupByQueries<I, R extends Message> extends PreparedQuery<I, R>
      *         an adapter of {@code RecordQuery} parameter values to Datastore-native types
      * @param spec
      *         Entity specification of the queried records
+     * @param slowQueryLog
+     *         the log to report the slow executions of the query to
      */
     DsLookupByQueries(DatastoreMedium datastore,
                       RecordQuery<I, R> query,
                       FilterAdapter columnAdapter,
-                      DsEntitySpec<I, R> spec) {
-        super(query, columnAdapter, spec);
+                      DsEntitySpec<I, R> spec,
+                      SlowQueryLog slowQueryLog) {
+        super(query, columnAdapter, spec, slowQueryLog);
         this.datastore = datastore;
-        this.ancestorFilter = ancestorFilter(query, datastore);
+        this.ancestorFilters = ancestorFilters(query, datastore);
     }
 
-    private Optional<Filter> ancestorFilter(RecordQuery<I, R> query, DatastoreMedium datastore) {
+    private ImmutableList<Filter> ancestorFilters(RecordQuery<I, R> query,
+                                                  DatastoreMedium datastore) {
         var result = spec().layout()
-                           .ancestorFilter(query, datastore);
+                           .ancestorFilters(query, datastore);
         return result;
     }
 
+    @Override
+    public QueryPlan explain() {
+        return QueryPlan.byQueries(spec().kind(),
+                                   datastoreQueries().size(),
+                                   hasSorting(),
+                                   limit() != null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The query is run lazily if it translates into a single Datastore query, that is,
+     * if its predicate has no disjunctions, and its records are not spread over several
+     * Entity groups.
+     */
+    @Override
+    public Iterator<R> executeInBatches(int batchSize) {
+        var queries = datastoreQueries();
+        if (queries.size() != 1) {
+            return super.executeInBatches(batchSize);
+        }
+        checkArgument(batchSize > 0, "The batch size must be positive.");
+        var entities = new QueryBatches(datastore, queries.get(0), batchSize);
+        Function<Entity, R> toRecord = Entities.toMessage(recordType());
+        var masker = FieldMaskApplier.recordMasker(mask());
+        return transform(entities, e -> masker.apply(toRecord.apply(e)));
+    }
+
     @Override
     IntermediateResult fetchFromDatastore() {
-        var rawEntities = findByPredicates(query());
+        var rawEntities = findByPredicates();
         return new IntermediateResult(rawEntities);
     }
 
@@ -119,9 +164,9 @@ final class DsLookupByQueries<I, R extends Message> extends PreparedQuery<I, R>
         return records;
     }
 
-    private ImmutableList<Entity> findByPredicates(RecordQuery<?, R> query) {
+    private ImmutableList<Entity> findByPredicates() {
         ImmutableList<Entity> results;
-        var queries = split(query);
+        var queries = datastoreQueries();
         if (queries.size() == 1) {
             results = runSingleQuery(queries.get(0));
             transformer = new ConvertAsIs<>(recordType(), mask());
@@ -133,6 +178,16 @@ final class DsLookupByQueries<I, R extends Message> extends PreparedQuery<I, R>
         return results;
     }
 
+    private ImmutableList<StructuredQuery<Entity>> datastoreQueries() {
+        if (datastoreQueries == null) {
+            datastoreQueries = split(query())
+                    .stream()
+                    .flatMap(q -> adjustForLayout(q).stream())
+                    .collect(toImmutableList());
+        }
+        return datastoreQueries;
+    }
+
     private List<StructuredQuery<Entity>> split(RecordQuery<?, R> query) {
         var rootPredicate = query.subject()
                                  .predicate();
@@ -155,8 +210,7 @@ final class DsLookupByQueries<I, R extends Message> extends PreparedQuery<I, R>
     }
 
     private ImmutableList<Entity> runSingleQuery(StructuredQuery<Entity> query) {
-        var adjustedForLayout = adjustForLayout(query);
-        var iterator = datastore.read(adjustedForLayout);
+        var iterator = datastore.read(query);
         var result = ImmutableList.copyOf(iterator);
         return result;
     }
@@ -164,14 +218,28 @@ final class DsLookupByQueries<I, R extends Message> extends PreparedQuery<I, R>
     /**
      * Appends the Datastore's native ancestor filter, if the queried records are stored
      * in ancestor-child hierarchy.
+     *
+     * <p>If the records are spread over several Entity groups, returns a query
+     * per each of the groups.
      */
-    private StructuredQuery<Entity> adjustForLayout(StructuredQuery<Entity> query) {
-        if (ancestorFilter.isEmpty()) {
-            return query;
+    private ImmutableList<StructuredQuery<Entity>>
+    adjustForLayout(StructuredQuery<Entity> query) {
+        if (ancestorFilters.isEmpty()) {
+            return ImmutableList.of(query);
         }
-        var filter = query.getFilter();
-        var filterWithNesting = CompositeFilter.and(filter, ancestorFilter.get());
+        var result = ancestorFilters
+                .stream()
+                .map(ancestorFilter -> withAncestor(query, ancestorFilter))
+                .collect(toImmutableList());
+        return result;
+    }
 
+    private static StructuredQuery<Entity> withAncestor(StructuredQuery<Entity> query,
+                                                        Filter ancestorFilter) {
+        var filter = query.getFilter();
+        var filterWithNesting = filter == null
+                                ? ancestorFilter
+                                : CompositeFilter.and(filter, ancestorFilter);
         var result = query.toBuilder()
                 .setFilter(filterWithNesting)
                 .build();
@@ -184,24 +252,21 @@ final class DsLookupByQueries<I, R extends Message> extends PreparedQuery<I, R>
      * <p>Joins the results of each query into a single {@code ImmutableList}. Duplicate entities
      * are filtered out.
      *
-     * <p>Each query is run without the {@code limit} set.
+     * <p>Each query keeps the {@code limit} of the {@code RecordQuery}. Since each query returns
+     * its entities in the requested order, any of the first {@code limit} entities of the joined
+     * result is also among the first {@code limit} entities of the query which returned it.
+     * The joined entities are then {@linkplain SortAndLimit sorted and limited} in memory.
+     * Thus, a limited query spread over several Entity groups does not read more than
+     * {@code limit} entities from each of them.
      */
     private ImmutableList<Entity> readAndJoin(Collection<StructuredQuery<Entity>> queries) {
         @SuppressWarnings("UnstableApiUsage")   /* Relying onto Guava's API. */
         var entities =
                 queries.stream()
-                        .map(DsLookupByQueries::clearLimit)
-                        .map(this::adjustForLayout)
                         .map(datastore::read)
                         .flatMap(Streams::stream)
                         .distinct()
                         .collect(toImmutableList());
         return entities;
     }
-
-    private static <R> StructuredQuery<R> clearLimit(StructuredQuery<R> q) {
-        return q.toBuilder()
-                .setLimit(Integer.MAX_VALUE)
-                .build();
-    }
 }
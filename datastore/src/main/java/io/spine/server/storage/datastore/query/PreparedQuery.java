@@ -38,6 +38,12 @@ import io.spine.server.storage.datastore.record.DsEntitySpec;
 import io.spine.type.TypeUrl;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Iterator;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.Iterables.size;
+
 /**
  * A {@link RecordQuery} prepared for optimal execution in terms of Datastore
  * {@link com.google.cloud.datastore.Query Query} language.
@@ -58,6 +64,7 @@ public abstract class PreparedQuery<I, R extends Message> {
     private final TypeUrl recordType;
     private final FilterAdapter columnAdapter;
     private final DsEntitySpec<I, R> spec;
+    private final SlowQueryLog slowQueryLog;
 
     /**
      * Creates a new instance.
@@ -69,24 +76,73 @@ public abstract class PreparedQuery<I, R extends Message> {
      *         to those applicable to Datastore-native Filters
      * @param spec
      *         a specification of an Entity
+     * @param slowQueryLog
+     *         the log to report the slow executions of this query to
      */
-    PreparedQuery(RecordQuery<I, R> query, FilterAdapter adapter, DsEntitySpec<I, R> spec) {
+    PreparedQuery(RecordQuery<I, R> query,
+                  FilterAdapter adapter,
+                  DsEntitySpec<I, R> spec,
+                  SlowQueryLog slowQueryLog) {
         this.query = query;
         this.recordType = TypeUrl.of(query.subject()
                                           .recordType());
         columnAdapter = adapter;
         this.spec = spec;
+        this.slowQueryLog = slowQueryLog;
     }
 
     /**
      * Executes the query and returns the read result.
+     *
+     * <p>If the {@linkplain SlowQueryLog slow query log} is enabled, the execution is timed
+     * and reported to the log if it takes too long.
      */
     public final Iterable<R> execute() {
+        if (!slowQueryLog.isEnabled()) {
+            var intermediateResult = fetchFromDatastore();
+            var result = toRecords(intermediateResult);
+            return result;
+        }
+        var startedAt = System.nanoTime();
         var intermediateResult = fetchFromDatastore();
         var result = toRecords(intermediateResult);
+        var elapsed = System.nanoTime() - startedAt;
+        var fetched = (int) intermediateResult.entities()
+                                              .stream()
+                                              .filter(Objects::nonNull)
+                                              .count();
+        slowQueryLog.report(explain(), fetched, size(result), elapsed);
         return result;
     }
 
+    /**
+     * Executes the query lazily, reading the Datastore entities in batches of the given size.
+     *
+     * <p>The next batch is read only when the records of the previous one are consumed.
+     * It is the caller who decides when to stop the iteration and, thus, how much is read.
+     *
+     * <p>The queries which cannot be run as a single Datastore query are
+     * {@linkplain #execute() executed} as usual, and their results are read at once.
+     *
+     * <p>The batched reads are not reported to the {@linkplain SlowQueryLog slow query log},
+     * as their duration depends on how fast the caller consumes the results.
+     *
+     * @param batchSize
+     *         the maximum number of the entities read in a single request
+     * @return the iterator over the query results
+     */
+    public Iterator<R> executeInBatches(int batchSize) {
+        checkArgument(batchSize > 0, "The batch size must be positive.");
+        return execute().iterator();
+    }
+
+    /**
+     * Tells how this query is executed against the Datastore.
+     *
+     * <p>Does not send any requests to the Datastore.
+     */
+    public abstract QueryPlan explain();
+
     /**
      * Queries Datastore for the {@code RecordQuery} part which may be processed by Datastore means.
      *
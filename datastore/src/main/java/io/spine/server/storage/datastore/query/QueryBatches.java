@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.query;
+
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.StructuredQuery;
+import com.google.common.collect.AbstractIterator;
+import io.spine.server.storage.datastore.DatastoreMedium;
+import io.spine.server.storage.datastore.DsQueryIterator;
+import org.jspecify.annotations.Nullable;
+
+import static java.lang.Math.min;
+
+/**
+ * A lazy iterator over the results of a Datastore query, which reads the entities
+ * in batches of a fixed size.
+ *
+ * <p>Each batch is read by a separate Datastore query, limited to the batch size and
+ * started at the cursor after the previous batch. The next batch is read only once
+ * the previous one is fully consumed. So, if the iteration stops early, the rest of
+ * the query results are never read.
+ *
+ * <p>The limit of the original query, if any, is respected.
+ */
+final class QueryBatches extends AbstractIterator<Entity> {
+
+    private final DatastoreMedium datastore;
+    private final StructuredQuery<Entity> query;
+    private final @Nullable Integer limit;
+    private final int batchSize;
+
+    private @Nullable DsQueryIterator<Entity> batch;
+    private int batchLimit;
+    private int readInBatch;
+    private int readTotal;
+
+    QueryBatches(DatastoreMedium datastore, StructuredQuery<Entity> query, int batchSize) {
+        this.datastore = datastore;
+        this.query = query;
+        this.limit = query.getLimit();
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    protected @Nullable Entity computeNext() {
+        while (true) {
+            if (batch != null && batch.hasNext()) {
+                readInBatch++;
+                readTotal++;
+                return batch.next();
+            }
+            if (lastBatchRead()) {
+                return endOfData();
+            }
+            readNextBatch();
+        }
+    }
+
+    /**
+     * Tells if the batch just consumed is the last one.
+     *
+     * <p>That is so if the batch was not full, or if the query limit is reached.
+     */
+    private boolean lastBatchRead() {
+        if (batch == null) {
+            return false;
+        }
+        return readInBatch < batchLimit
+                || (limit != null && readTotal >= limit);
+    }
+
+    private void readNextBatch() {
+        batchLimit = limit == null
+                     ? batchSize
+                     : min(batchSize, limit - readTotal);
+        var source = batch == null
+                     ? query
+                     : batch.nextPageQuery();
+        var batchQuery = source.toBuilder()
+                               .setLimit(batchLimit)
+                               .build();
+        batch = datastore.read(batchQuery);
+        readInBatch = 0;
+    }
+}
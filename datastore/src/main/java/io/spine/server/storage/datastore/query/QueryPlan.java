@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.query;
+
+import io.spine.server.storage.datastore.Kind;
+
+import javax.annotation.concurrent.Immutable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Describes how a {@link io.spine.query.RecordQuery RecordQuery} is executed against
+ * the Datastore.
+ *
+ * <p>Due to the Datastore restrictions, a single {@code RecordQuery} may be executed as several
+ * Datastore queries, the results of which are then sorted and limited in memory. Such queries
+ * may benefit from a composite index or from being rewritten.
+ *
+ * @see PreparedQuery#explain()
+ */
+@Immutable
+public final class QueryPlan {
+
+    /**
+     * The maximum number of keys read by a single Datastore lookup request.
+     */
+    private static final int MAX_KEYS_PER_LOOKUP = 1000;
+
+    /**
+     * The way the records are read from the Datastore.
+     */
+    public enum Strategy {
+
+        /**
+         * The records are read by their keys.
+         */
+        BY_KEYS,
+
+        /**
+         * The records are read by a single Datastore query.
+         */
+        SINGLE_QUERY,
+
+        /**
+         * The records are read by several Datastore queries, the results of which
+         * are merged in memory.
+         */
+        MERGED_QUERIES
+    }
+
+    private final Kind kind;
+    private final Strategy strategy;
+    private final int datastoreRequests;
+    private final boolean filteredInMemory;
+    private final boolean sortedInMemory;
+    private final boolean limitedInMemory;
+
+    private QueryPlan(Kind kind,
+                      Strategy strategy,
+                      int datastoreRequests,
+                      boolean filteredInMemory,
+                      boolean sortedInMemory,
+                      boolean limitedInMemory) {
+        this.kind = checkNotNull(kind);
+        this.strategy = checkNotNull(strategy);
+        this.datastoreRequests = datastoreRequests;
+        this.filteredInMemory = filteredInMemory;
+        this.sortedInMemory = sortedInMemory;
+        this.limitedInMemory = limitedInMemory;
+    }
+
+    /**
+     * Creates a plan of reading the records by their keys.
+     *
+     * <p>All the other query constraints are applied in memory.
+     */
+    static QueryPlan byKeys(Kind kind, int keyCount,
+                            boolean filtered, boolean sorted, boolean limited) {
+        var requests = Math.max(1, (keyCount + MAX_KEYS_PER_LOOKUP - 1) / MAX_KEYS_PER_LOOKUP);
+        return new QueryPlan(kind, Strategy.BY_KEYS, requests, filtered, sorted, limited);
+    }
+
+    /**
+     * Creates a plan of reading the records by the given number of Datastore queries.
+     *
+     * <p>A single query is sorted and limited by the Datastore. The results of multiple
+     * queries are sorted and limited in memory.
+     */
+    static QueryPlan byQueries(Kind kind, int queryCount, boolean sorted, boolean limited) {
+        if (queryCount == 1) {
+            return new QueryPlan(kind, Strategy.SINGLE_QUERY, 1, false, false, false);
+        }
+        return new QueryPlan(kind, Strategy.MERGED_QUERIES, queryCount, false, sorted, limited);
+    }
+
+    /**
+     * Returns the kind of the queried entities.
+     */
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * Returns the way the records are read.
+     */
+    public Strategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns the number of Datastore queries or lookups performed.
+     *
+     * <p>Does not account for the extra requests fetching the subsequent pages of
+     * the query results.
+     */
+    public int datastoreRequests() {
+        return datastoreRequests;
+    }
+
+    /**
+     * Tells whether the fetched entities are filtered in memory.
+     */
+    public boolean filteredInMemory() {
+        return filteredInMemory;
+    }
+
+    /**
+     * Tells whether the fetched entities are sorted in memory.
+     */
+    public boolean sortedInMemory() {
+        return sortedInMemory;
+    }
+
+    /**
+     * Tells whether the fetched entities are limited in memory.
+     */
+    public boolean limitedInMemory() {
+        return limitedInMemory;
+    }
+
+    @Override
+    public String toString() {
+        return format("`%s` %s: %d Datastore request(s), filtering %s, sorting %s, limit %s",
+                      kind, strategy, datastoreRequests,
+                      where(filteredInMemory), where(sortedInMemory), where(limitedInMemory));
+    }
+
+    private static String where(boolean inMemory) {
+        return inMemory ? "in memory" : "by Datastore";
+    }
+}
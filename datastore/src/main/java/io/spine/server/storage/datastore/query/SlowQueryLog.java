@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.query;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+import io.spine.annotation.Internal;
+import io.spine.logging.WithLogging;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Logs the record queries which take longer than the configured threshold.
+ *
+ * <p>Each entry tells the {@linkplain QueryPlan plan} of the query, along with the number of
+ * entities fetched from the Datastore versus the number of records returned. A big difference
+ * between the two means the query is mostly evaluated in memory.
+ */
+@Internal
+public final class SlowQueryLog implements WithLogging {
+
+    private static final SlowQueryLog DISABLED = new SlowQueryLog(Long.MAX_VALUE);
+
+    private final long thresholdNanos;
+
+    private SlowQueryLog(long thresholdNanos) {
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    /**
+     * Creates a log of the queries which take at least the given time.
+     *
+     * @param threshold
+     *         the minimum duration of the logged queries; must not be negative
+     */
+    public static SlowQueryLog withThreshold(Duration threshold) {
+        checkNotNull(threshold);
+        var nanos = Durations.toNanos(threshold);
+        checkArgument(nanos >= 0, "The slow query threshold must not be negative.");
+        return new SlowQueryLog(nanos);
+    }
+
+    /**
+     * Returns the log which logs nothing.
+     */
+    public static SlowQueryLog disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Tells whether the queries should be measured.
+     */
+    boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * Logs the executed query if it took longer than the threshold.
+     */
+    void report(QueryPlan plan, int fetched, int returned, long elapsedNanos) {
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        logger().atWarning()
+                .log(() -> format(
+                        "Slow query took %d ms. %s. Fetched %d entities, returned %d records.",
+                        NANOSECONDS.toMillis(elapsedNanos), plan, fetched, returned));
+    }
+}
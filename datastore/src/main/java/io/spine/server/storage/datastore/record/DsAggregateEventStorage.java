@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.record;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableSet;
+import io.spine.query.RecordQuery;
+import io.spine.server.aggregate.AggregateEventRecord;
+import io.spine.server.aggregate.AggregateEventRecordId;
+import io.spine.server.storage.datastore.config.CreateRecordStorage;
+import io.spine.server.storage.datastore.config.StorageConfiguration;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.query.Direction.DESC;
+
+/**
+ * A storage of the Aggregate event records, which reads the Aggregate history lazily.
+ *
+ * <p>The {@code AggregateStorage} loads an Aggregate by reading its event records
+ * from the newest to the oldest, until it meets the latest snapshot. The default
+ * {@link DsRecordStorage} reads all the records requested by such a query at once.
+ * This storage reads them in batches of the {@linkplain #creator(int) configured size},
+ * and stops reading right after the latest snapshot. So, loading a long-lived Aggregate
+ * reads only as many records as it needs.
+ *
+ * <p>To use this storage, register it in the storage factory:
+ * <pre>{@code
+ * DatastoreStorageFactory.newBuilder()
+ *         .setDatastore(datastore)
+ *         .useRecordStorage(AggregateEventRecordId.class, AggregateEventRecord.class,
+ *                           DsAggregateEventStorage.creator(20))
+ *         .build();
+ * }</pre>
+ *
+ * <p>A history query is the one which has a limit, and which is sorted by
+ * the {@code version} or the {@code created} column in descending order first.
+ * All other queries, such as the ones run to truncate the history, are executed
+ * as by the {@link DsRecordStorage}.
+ *
+ * <p>The batch size should be comparable to the number of the events between
+ * the snapshots of the stored Aggregates. A smaller batch size means more Datastore
+ * requests per load, while a larger one means reading the records which precede
+ * the snapshot in vain.
+ */
+public class DsAggregateEventStorage
+        extends DsRecordStorage<AggregateEventRecordId, AggregateEventRecord> {
+
+    /**
+     * The names of the columns, by which the history queries are sorted.
+     */
+    private static final ImmutableSet<String> HISTORY_ORDER = ImmutableSet.of("version", "created");
+
+    private final int batchSize;
+
+    /**
+     * Creates a new instance of the storage.
+     *
+     * @param config
+     *         the configuration of the storage
+     * @param batchSize
+     *         the maximum number of the records read in a single request
+     */
+    public DsAggregateEventStorage(
+            StorageConfiguration<AggregateEventRecordId, AggregateEventRecord> config,
+            int batchSize) {
+        super(config);
+        checkArgument(batchSize > 0, "The batch size must be positive.");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the function which creates the storages reading the history
+     * in batches of the given size.
+     *
+     * @see io.spine.server.storage.datastore.DatastoreStorageFactory.Builder#useRecordStorage
+     */
+    public static CreateRecordStorage<AggregateEventRecordId, AggregateEventRecord>
+    creator(int batchSize) {
+        checkArgument(batchSize > 0, "The batch size must be positive.");
+        return config -> new DsAggregateEventStorage(config, batchSize);
+    }
+
+    /**
+     * Returns the maximum number of the records read in a single request.
+     */
+    public final int batchSize() {
+        return batchSize;
+    }
+
+    @Override
+    protected Iterator<AggregateEventRecord>
+    readAllRecords(RecordQuery<AggregateEventRecordId, AggregateEventRecord> query) {
+        checkNotNull(query);
+        if (!isHistory(query)) {
+            return super.readAllRecords(query);
+        }
+        var records = readInBatches(query, batchSize);
+        return new UpToSnapshot(records);
+    }
+
+    private static boolean
+    isHistory(RecordQuery<AggregateEventRecordId, AggregateEventRecord> query) {
+        if (query.limit() == null) {
+            return false;
+        }
+        var sorting = query.sorting();
+        if (sorting.isEmpty()) {
+            return false;
+        }
+        var first = sorting.get(0);
+        var column = first.column()
+                          .name()
+                          .value();
+        return first.direction() == DESC && HISTORY_ORDER.contains(column);
+    }
+
+    /**
+     * Iterates over the records from the newest to the oldest, and stops
+     * right after the first snapshot.
+     */
+    private static final class UpToSnapshot extends AbstractIterator<AggregateEventRecord> {
+
+        private final Iterator<AggregateEventRecord> records;
+        private boolean snapshotMet;
+
+        private UpToSnapshot(Iterator<AggregateEventRecord> records) {
+            this.records = records;
+        }
+
+        @Override
+        protected @Nullable AggregateEventRecord computeNext() {
+            if (snapshotMet || !records.hasNext()) {
+                return endOfData();
+            }
+            var record = records.next();
+            snapshotMet = record.hasSnapshot();
+            return record;
+        }
+    }
+}
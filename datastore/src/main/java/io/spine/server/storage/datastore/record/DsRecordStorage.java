@@ -31,31 +31,44 @@ import com.google.cloud.datastore.Key;
 import com.google.cloud.datastore.Value;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Streams;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
 import io.spine.query.RecordQuery;
 import io.spine.server.storage.ColumnMapping;
 import io.spine.server.storage.RecordStorage;
 import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.datastore.DatastoreMedium;
 import io.spine.server.storage.datastore.DatastoreStorageFactory;
 import io.spine.server.storage.datastore.DatastoreWrapper;
 import io.spine.server.storage.datastore.Kind;
 import io.spine.server.storage.datastore.TransactionWrapper;
+import io.spine.server.storage.datastore.config.ReadConsistency;
+import io.spine.server.storage.datastore.config.ReadType;
 import io.spine.server.storage.datastore.config.StorageConfiguration;
 import io.spine.server.storage.datastore.config.TxSetting;
 import io.spine.server.storage.datastore.query.DsLookup;
 import io.spine.server.storage.datastore.query.FilterAdapter;
 import io.spine.server.storage.datastore.query.PreparedQuery;
+import io.spine.server.storage.datastore.query.QueryPlan;
+import io.spine.server.storage.datastore.query.SlowQueryLog;
 import io.spine.type.TypeUrl;
 import org.jspecify.annotations.NonNull;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.Iterators.transform;
+import static io.spine.server.storage.datastore.config.ReadType.BY_KEYS;
 import static io.spine.server.storage.datastore.record.Entities.builderFromMessage;
 import static io.spine.server.storage.datastore.record.Entities.toMessage;
+import static io.spine.server.storage.datastore.record.TxBatches.MAX_ENTITIES_PER_TRANSACTION;
 import static io.spine.util.Exceptions.newIllegalStateException;
 
 /**
@@ -76,6 +89,7 @@ public class DsRecordStorage<I, R extends Message> extends RecordStorage<I, R> {
     private final FilterAdapter columnFilterAdapter;
     private final ColumnMapping<Value<?>> columnMapping;
     private final TxSetting txSetting;
+    private final SlowQueryLog slowQueryLog;
 
     /**
      * Creates a new instance of the storage according to the passed configuration.
@@ -87,6 +101,7 @@ public class DsRecordStorage<I, R extends Message> extends RecordStorage<I, R> {
         columnMapping = config.columnMapping();
         this.columnFilterAdapter = FilterAdapter.of(columnMapping);
         this.txSetting = config.txSetting();
+        this.slowQueryLog = config.slowQueryLog();
         this.dsSpec = config.recordSpec();
         this.kind = dsSpec.kind();
         this.typeUrl = TypeUrl.of(config.storedType());
@@ -110,7 +125,7 @@ public class DsRecordStorage<I, R extends Message> extends RecordStorage<I, R> {
     public Optional<R> read(I id) {
         checkNotClosed();
         var key = keyOf(id);
-        var raw = datastore.read(key);
+        var raw = read(BY_KEYS, storage -> storage.read(key));
         var result = raw.map(r -> {
             R record = toMessage(raw.get(), typeUrl);
             return record;
@@ -141,19 +156,80 @@ public class DsRecordStorage<I, R extends Message> extends RecordStorage<I, R> {
             entitiesToWrite.add(entity);
         }
         var prepared = entitiesToWrite.build();
-        write((storage) -> datastore.createOrUpdate(prepared));
+        for (var batch : batchesOf(prepared, Entity::getKey)) {
+            write((storage) -> storage.createOrUpdate(batch));
+        }
     }
 
     @Override
     protected Iterator<R> readAllRecords(RecordQuery<I, R> query) {
-        var result = read((storage) -> lookupWith(query).execute());
+        return readAllRecordsDirectly(query);
+    }
+
+    /**
+     * Executes the query at once, bypassing the overrides of
+     * {@link #readAllRecords(RecordQuery) readAllRecords(..)}.
+     */
+    private Iterator<R> readAllRecordsDirectly(RecordQuery<I, R> query) {
+        var readType = lookupOnTopOf(datastore).readTypeOf(query);
+        var result = read(readType, storage -> lookupOnTopOf(storage).with(query)
+                                                                     .execute());
         return result.iterator();
     }
 
+    /**
+     * Executes the query lazily, reading the Datastore entities in batches of the given size.
+     *
+     * <p>If the reads of this type are {@linkplain ReadConsistency#TRANSACTIONAL transactional},
+     * the results are read at once, as the transaction cannot outlive this call.
+     *
+     * @param query
+     *         the query to execute
+     * @param batchSize
+     *         the maximum number of the entities read in a single request
+     * @return the iterator over the query results
+     * @see PreparedQuery#executeInBatches(int)
+     */
+    protected final Iterator<R> readInBatches(RecordQuery<I, R> query, int batchSize) {
+        checkNotNull(query);
+        checkArgument(batchSize > 0, "The batch size must be positive.");
+        var readType = lookupOnTopOf(datastore).readTypeOf(query);
+        var consistency = txSetting.consistencyOf(readType);
+        switch (consistency) {
+            case TRANSACTIONAL:
+                return readAllRecordsDirectly(query);
+            case EVENTUAL:
+                return lookupOnTopOf(datastore.eventuallyConsistent())
+                        .with(query)
+                        .executeInBatches(batchSize);
+            case STRONG:
+                return lookupOnTopOf(datastore)
+                        .with(query)
+                        .executeInBatches(batchSize);
+            default:
+                throw newIllegalStateException("Unsupported read consistency: `%s`.",
+                                               consistency);
+        }
+    }
+
+    /**
+     * Tells how the given query would be executed by this storage.
+     *
+     * <p>The query itself is not executed.
+     *
+     * @param query
+     *         the query to explain
+     * @return the plan of the query execution
+     */
+    public QueryPlan explain(RecordQuery<I, R> query) {
+        checkNotNull(query);
+        return lookupOnTopOf(datastore).with(query)
+                                       .explain();
+    }
+
     @NonNull
-    private PreparedQuery<I, R> lookupWith(RecordQuery<I, R> query) {
-        return DsLookup.onTopOf(datastore, columnFilterAdapter, dsSpec)
-                       .with(query);
+    private DsLookup<I, R> lookupOnTopOf(DatastoreMedium storage) {
+        return DsLookup.onTopOf(storage, columnFilterAdapter, dsSpec, slowQueryLog);
     }
 
     /**
@@ -170,6 +246,40 @@ public class DsRecordStorage<I, R extends Message> extends RecordStorage<I, R> {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the transactions are enabled for the stored records, the records belonging to
+     * the same Entity group are deleted in a single transaction.
+     */
+    @Override
+    protected void deleteAllRecords(Iterable<I> ids) {
+        checkNotNull(ids);
+        var keys = Streams.stream(ids)
+                          .map(this::keyOf)
+                          .collect(toImmutableList());
+        for (var batch : batchesOf(keys, key -> key)) {
+            var keysToDelete = batch.toArray(new Key[0]);
+            write(storage -> storage.delete(keysToDelete));
+        }
+    }
+
+    /**
+     * Splits the items to write or to delete into batches, each written separately.
+     *
+     * <p>If the transactions are enabled, each batch fits a single transaction.
+     * Otherwise, each batch fits a single Datastore write request.
+     *
+     * @see TxBatches
+     */
+    private <T> List<? extends List<T>> batchesOf(ImmutableList<T> items,
+                                                 Function<T, Key> keyOf) {
+        if (txSetting.txEnabled()) {
+            return TxBatches.split(items, keyOf);
+        }
+        return Lists.partition(items, MAX_ENTITIES_PER_TRANSACTION);
+    }
+
     /**
      * Returns the kind of Datastore Entity.
      */
@@ -212,6 +322,14 @@ public class DsRecordStorage<I, R extends Message> extends RecordStorage<I, R> {
         return datastore.newTransaction();
     }
 
+    /**
+     * Starts a new read-only Datastore transaction, and returns a {@link TransactionWrapper}
+     * around it.
+     */
+    protected final TransactionWrapper newReadOnlyTransaction() {
+        return datastore.newReadOnlyTransaction();
+    }
+
     /**
      * Converts a Datastore {@code Entity} to the record of type served by this storage.
      */
@@ -219,18 +337,27 @@ public class DsRecordStorage<I, R extends Message> extends RecordStorage<I, R> {
         return toMessage(entity, typeUrl);
     }
 
-    private <V> V read(ReadOperation<V> operation) {
-        if (txSetting.txEnabled()) {
-            try (var tx = newTransaction()) {
-                var result = operation.perform(tx);
-                tx.commit();
-                return result;
-            } catch (RuntimeException e) {
-                throw exceptionWithMessage(e, "ReadOperation");
-            }
-        } else {
-            var result = operation.perform(datastore);
-            return result;
+    /**
+     * Performs the read operation with the consistency configured for the given type of reads.
+     */
+    private <V> V read(ReadType type, ReadOperation<V> operation) {
+        var consistency = txSetting.consistencyOf(type);
+        switch (consistency) {
+            case TRANSACTIONAL:
+                try (var tx = newReadOnlyTransaction()) {
+                    var result = operation.perform(tx);
+                    tx.commit();
+                    return result;
+                } catch (RuntimeException e) {
+                    throw exceptionWithMessage(e, "ReadOperation");
+                }
+            case EVENTUAL:
+                return operation.perform(datastore.eventuallyConsistent());
+            case STRONG:
+                return operation.perform(datastore);
+            default:
+                throw newIllegalStateException("Unsupported read consistency: `%s`.",
+                                               consistency);
         }
     }
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.record;
+
+import com.google.cloud.datastore.Key;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Splits the items to write or to delete into batches, each of which fits
+ * a single Datastore transaction.
+ *
+ * <p>The items belonging to the same Entity group are put into the same batch, as long as
+ * the limits allow it. This way, the changes to the records of an Entity group,
+ * such as the messages of a single inbox shard, are committed in a single transaction
+ * rather than in a transaction per record.
+ *
+ * <p>Each batch contains at most {@value #MAX_ENTITIES_PER_TRANSACTION} items
+ * belonging to at most {@value #MAX_ENTITY_GROUPS_PER_TRANSACTION} Entity groups.
+ * See the <a href="https://cloud.google.com/datastore/docs/concepts/limits">transaction
+ * limits</a> for more info.
+ */
+final class TxBatches {
+
+    /**
+     * The maximum number of entities written in a single transaction.
+     */
+    static final int MAX_ENTITIES_PER_TRANSACTION = 500;
+
+    /**
+     * The maximum number of Entity groups accessed in a single transaction
+     * in Datastore native mode.
+     */
+    static final int MAX_ENTITY_GROUPS_PER_TRANSACTION = 25;
+
+    /** Prevents the utility class instantiation. */
+    private TxBatches() {
+    }
+
+    /**
+     * Splits the passed items into the transaction-sized batches.
+     *
+     * <p>The order of items within each Entity group is preserved.
+     *
+     * @param items
+     *         the items to split
+     * @param keyOf
+     *         obtains the Datastore key of an item
+     * @param <T>
+     *         the type of items
+     * @return the batches of items
+     */
+    static <T> ImmutableList<ImmutableList<T>> split(Collection<T> items,
+                                                     Function<T, Key> keyOf) {
+        checkNotNull(items);
+        checkNotNull(keyOf);
+        var groups = new LinkedHashMap<Object, List<T>>();
+        for (var item : items) {
+            var group = entityGroupOf(keyOf.apply(item));
+            groups.computeIfAbsent(group, g -> new ArrayList<>())
+                  .add(item);
+        }
+        var result = ImmutableList.<ImmutableList<T>>builder();
+        var batch = ImmutableList.<T>builder();
+        var batchSize = 0;
+        var groupsInBatch = 0;
+        for (var group : groups.values()) {
+            if (groupsInBatch == MAX_ENTITY_GROUPS_PER_TRANSACTION) {
+                result.add(batch.build());
+                batch = ImmutableList.builder();
+                batchSize = 0;
+                groupsInBatch = 0;
+            }
+            groupsInBatch++;
+            for (var item : group) {
+                if (batchSize == MAX_ENTITIES_PER_TRANSACTION) {
+                    result.add(batch.build());
+                    batch = ImmutableList.builder();
+                    batchSize = 0;
+                    groupsInBatch = 1;
+                }
+                batch.add(item);
+                batchSize++;
+            }
+        }
+        if (batchSize > 0) {
+            result.add(batch.build());
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the identity of the Entity group to which the entity with the passed key belongs.
+     *
+     * <p>The Entity group is identified by the root of the key path. For the entities
+     * having no ancestors, it is the key itself.
+     */
+    private static Object entityGroupOf(Key key) {
+        var ancestors = key.getAncestors();
+        if (ancestors.isEmpty()) {
+            return key;
+        }
+        return ancestors.get(0);
+    }
+}
@@ -27,6 +27,7 @@
 package io.spine.server.storage.datastore.tenant;
 
 import com.google.cloud.datastore.Datastore;
+import com.google.protobuf.Duration;
 import io.spine.server.tenant.TenantIndex;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -87,4 +88,32 @@ public final class DatastoreTenants {
         TenantIndex index = new NamespaceIndex(datastore, true, converterFactory);
         return index;
     }
+
+    /**
+     * Creates a {@link TenantIndex} for the given {@link Datastore}, which refreshes
+     * the cached namespaces with the given interval.
+     *
+     * <p>The tenant index caches the Datastore namespaces in memory, and refreshes them
+     * in background. The namespaces created by other processes become known to the index
+     * with a delay of up to the refresh interval.
+     *
+     * @param datastore
+     *         the {@link Datastore} to get the {@link TenantIndex} for
+     * @param converterFactory
+     *         the factory of the namespace converters
+     * @param refreshInterval
+     *         the interval of refreshing the cached namespaces; must be positive
+     * @return a new instance of the {@link TenantIndex}
+     * @see #index(Datastore, NamespaceConverterFactory)
+     */
+    public static TenantIndex index(Datastore datastore,
+                                    NamespaceConverterFactory converterFactory,
+                                    Duration refreshInterval) {
+        checkNotNull(datastore);
+        checkNotNull(converterFactory);
+        checkNotNull(refreshInterval);
+        TenantIndex index =
+                new NamespaceIndex(datastore, true, converterFactory, refreshInterval);
+        return index;
+    }
 }
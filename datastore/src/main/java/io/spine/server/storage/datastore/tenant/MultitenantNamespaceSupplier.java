@@ -26,6 +26,8 @@
 
 package io.spine.server.storage.datastore.tenant;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.spine.core.TenantId;
 import io.spine.server.tenant.TenantFunction;
 
@@ -39,8 +41,24 @@ import static java.util.Objects.requireNonNull;
  */
 final class MultitenantNamespaceSupplier extends NamespaceSupplier {
 
+    /**
+     * The maximum number of namespaces cached per supplier.
+     */
+    private static final int MAX_CACHED_NAMESPACES = 10_000;
+
     private final NamespaceConverterFactory converterFactory;
 
+    /**
+     * The namespaces previously resolved for the tenants.
+     *
+     * <p>The conversion of a {@code TenantId} into a {@code Namespace} is expected to be
+     * a pure function, so its results are reused for the subsequent storage calls.
+     */
+    private final Cache<TenantId, Namespace> namespaces =
+            CacheBuilder.newBuilder()
+                        .maximumSize(MAX_CACHED_NAMESPACES)
+                        .build();
+
     static NamespaceSupplier withConvertersBy(NamespaceConverterFactory converterFactory) {
         return new MultitenantNamespaceSupplier(converterFactory);
     }
@@ -60,7 +78,12 @@ final class MultitenantNamespaceSupplier extends NamespaceSupplier {
         var retriever = new TenantIdRetriever();
         var tenantId = retriever.execute();
         requireNonNull(tenantId);
+        var cached = namespaces.getIfPresent(tenantId);
+        if (cached != null) {
+            return cached;
+        }
         var result = Namespace.of(tenantId, true, converterFactory);
+        namespaces.put(tenantId, result);
         return result;
     }
 
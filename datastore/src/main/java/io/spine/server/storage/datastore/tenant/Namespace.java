@@ -33,11 +33,9 @@ import io.spine.core.TenantId;
 import org.jspecify.annotations.Nullable;
 
 import javax.annotation.concurrent.Immutable;
-import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Strings.isNullOrEmpty;
-import static java.util.regex.Matcher.quoteReplacement;
 
 /**
  * A value object representing the Datastore
@@ -87,7 +85,7 @@ public final class Namespace {
                             EMAIL_PREFIX, Namespace.ConverterType.EMAIL,
                             STRING_VALUE_PREFIX, Namespace.ConverterType.VALUE);
 
-    private static final Pattern AT_SYMBOL_PATTERN = Pattern.compile("@", Pattern.LITERAL);
+    private static final String AT_SYMBOL = "@";
     private static final String AT_SYMBOL_REPLACEMENT = "-at-";
 
     private final String value;
@@ -212,10 +210,11 @@ public final class Namespace {
         return TYPE_PREFIX_TO_CONVERTER.get(prefix);
     }
 
+    /**
+     * Replaces the {@code @} symbols, which are illegal in the Datastore namespaces.
+     */
     private static String escapeIllegalCharacters(String candidateNamespace) {
-        var result = AT_SYMBOL_PATTERN.matcher(candidateNamespace)
-                                      .replaceAll(quoteReplacement(AT_SYMBOL_REPLACEMENT));
-        return result;
+        return candidateNamespace.replace(AT_SYMBOL, AT_SYMBOL_REPLACEMENT);
     }
 
     /**
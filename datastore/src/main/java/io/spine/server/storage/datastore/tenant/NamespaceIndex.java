@@ -31,9 +31,16 @@ import com.google.cloud.datastore.Entity;
 import com.google.cloud.datastore.Key;
 import com.google.cloud.datastore.KeyQuery;
 import com.google.cloud.datastore.Query;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import io.spine.core.TenantId;
+import io.spine.logging.WithLogging;
 import io.spine.server.storage.datastore.Kind;
 import io.spine.server.tenant.TenantIndex;
 import org.jspecify.annotations.Nullable;
@@ -41,40 +48,140 @@ import org.jspecify.annotations.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Sets.newHashSet;
 import static io.spine.server.storage.datastore.tenant.NamespaceConverter.NOT_A_TENANT;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Executors.newCachedThreadPool;
 
 /**
  * A DAO for the Datastore {@link Namespace Namespaces}.
+ *
+ * <p>The index caches the known namespaces in memory. The cache is read without locking,
+ * through an immutable snapshot, which is replaced on each change.
+ *
+ * <p>The namespaces are fetched from the Datastore synchronously only once, on the first
+ * request. After that, the cache is refreshed in background, once it is older than
+ * the configured refresh interval. Also, a refresh is started when an unknown namespace
+ * is checked. The unknown namespaces are remembered for the duration of the refresh interval,
+ * so that repeated checks of the same unknown namespace do not cause extra refreshes.
+ *
+ * <p>Therefore, a namespace created by another process becomes known to this index
+ * with a delay of up to the refresh interval.
  */
 @ThreadSafe
-final class NamespaceIndex implements TenantIndex {
+final class NamespaceIndex implements TenantIndex, WithLogging {
 
     private static final Kind NAMESPACE_KIND = Kind.ofNamespace();
 
-    private final Set<Namespace> cache = new HashSet<>();
-    private final Object lock = new Object();
+    /**
+     * The default interval of refreshing the cached namespaces.
+     */
+    static final Duration DEFAULT_REFRESH_INTERVAL = Durations.fromSeconds(30);
+
+    /**
+     * The executor shared by all indexes to refresh the cached namespaces.
+     */
+    private static final Executor sharedRefresher = newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("namespace-index-refresh-%d")
+                    .setDaemon(true)
+                    .build());
+
     private final NamespaceQuery namespaceQuery;
     private final NamespaceConverterFactory converterFactory;
     private final boolean multitenant;
+    private final long refreshIntervalNanos;
+    private final Ticker ticker;
+    private final Executor refresher;
+
+    /**
+     * Guards the replacement of the {@code known} namespaces snapshot.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Guards the initial synchronous fetch of the namespaces.
+     */
+    private final Object loadLock = new Object();
+
+    /**
+     * The snapshot of the known namespaces.
+     *
+     * <p>Only replaced under the {@code lock}.
+     */
+    private volatile ImmutableSet<Namespace> known = ImmutableSet.of();
+
+    /**
+     * Tells whether the namespaces have been fetched from the Datastore at least once.
+     */
+    private volatile boolean loaded = false;
+
+    /**
+     * The {@linkplain Ticker#read() time} of the last fetch of the namespaces.
+     */
+    private volatile long lastFetched = 0L;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /**
+     * The namespaces recently found to be unknown, along with the time until which
+     * they are considered unknown without a refresh.
+     */
+    private final Map<Namespace, Long> unknown = new ConcurrentHashMap<>();
 
     NamespaceIndex(Datastore datastore, boolean multitenant, NamespaceConverterFactory converterFactory) {
+        this(datastore, multitenant, converterFactory, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    NamespaceIndex(Datastore datastore,
+                   boolean multitenant,
+                   NamespaceConverterFactory converterFactory,
+                   Duration refreshInterval) {
         this(new DefaultNamespaceQuery(datastore),
              multitenant,
-             converterFactory
+             converterFactory,
+             refreshInterval,
+             Ticker.systemTicker(),
+             sharedRefresher
         );
     }
 
     NamespaceIndex(NamespaceQuery namespaceQuery,
                    boolean multitenant,
                    NamespaceConverterFactory converterFactory) {
+        this(namespaceQuery,
+             multitenant,
+             converterFactory,
+             DEFAULT_REFRESH_INTERVAL,
+             Ticker.systemTicker(),
+             sharedRefresher
+        );
+    }
+
+    @VisibleForTesting
+    NamespaceIndex(NamespaceQuery namespaceQuery,
+                   boolean multitenant,
+                   NamespaceConverterFactory converterFactory,
+                   Duration refreshInterval,
+                   Ticker ticker,
+                   Executor refresher) {
         this.namespaceQuery = checkNotNull(namespaceQuery);
         this.converterFactory = converterFactory;
         this.multitenant = multitenant;
+        checkNotNull(refreshInterval);
+        checkArgument(Durations.toNanos(refreshInterval) > 0,
+                      "The namespace refresh interval must be positive.");
+        this.refreshIntervalNanos = Durations.toNanos(refreshInterval);
+        this.ticker = checkNotNull(ticker);
+        this.refresher = checkNotNull(refresher);
     }
 
     /**
@@ -88,27 +195,32 @@ final class NamespaceIndex implements TenantIndex {
     @Override
     public void keep(TenantId id) {
         checkNotNull(id);
-        synchronized (lock) {
-            cache.add(Namespace.of(id, multitenant, converterFactory));
+        var namespace = Namespace.of(id, multitenant, converterFactory);
+        if (known.contains(namespace)) {
+            return;
         }
+        remember(ImmutableSet.of(namespace));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Fetches the namespaces from the Datastore synchronously, if not done yet.
+     * Otherwise, returns the cached tenants, starting a background refresh if the cache
+     * is older than the refresh interval.
+     */
     @Override
     public Set<TenantId> all() {
-        synchronized (lock) {
-            fetchNamespaces();
-
-            Set<TenantId> result = new HashSet<>(cache.size());
-            for (var namespace : cache) {
-                if (namespace != null) {
-                    var tenantId = namespace.toTenantId();
-                    if (!NOT_A_TENANT.equals(tenantId)) {
-                        result.add(tenantId);
-                    }
-                }
+        ensureFresh();
+        var namespaces = known;
+        Set<TenantId> result = new HashSet<>(namespaces.size());
+        for (var namespace : namespaces) {
+            var tenantId = namespace.toTenantId();
+            if (!NOT_A_TENANT.equals(tenantId)) {
+                result.add(tenantId);
             }
-            return result;
         }
+        return result;
     }
 
     /**
@@ -134,6 +246,10 @@ final class NamespaceIndex implements TenantIndex {
      * Checks if the Datastore has the given {@linkplain Namespace}, i.e. there is at least one
      * {@linkplain Entity Entity} in this {@linkplain Namespace}.
      *
+     * <p>Does not wait for the Datastore, unless the namespaces have never been fetched yet.
+     * If the namespace is not known, starts a background refresh, so that the namespace
+     * created recently is found by one of the next calls.
+     *
      * @param namespace
      *         the {@linkplain Namespace} to look for
      * @return {@code true} if there is at least one
@@ -147,16 +263,78 @@ final class NamespaceIndex implements TenantIndex {
         if (namespace.value().isEmpty()) { // Default namespace, always exists
             return true;
         }
-
-        synchronized (lock) {
-            var cachedNamespace = cache.contains(namespace);
-            if (cachedNamespace) {
+        if (known.contains(namespace)) {
+            return true;
+        }
+        if (!loaded) {
+            loadNow();
+            if (known.contains(namespace)) {
                 return true;
             }
+            rememberUnknown(namespace);
+            return false;
+        }
+        var unknownUntil = unknown.get(namespace);
+        if (unknownUntil != null && ticker.read() - unknownUntil < 0) {
+            return false;
+        }
+        rememberUnknown(namespace);
+        refreshInBackground();
+        return known.contains(namespace);
+    }
+
+    private void rememberUnknown(Namespace namespace) {
+        unknown.put(namespace, ticker.read() + refreshIntervalNanos);
+    }
+
+    /**
+     * Makes sure the cached namespaces are fetched and are not older than the refresh interval.
+     *
+     * <p>Blocks only if the namespaces have never been fetched.
+     */
+    private void ensureFresh() {
+        if (!loaded) {
+            loadNow();
+        } else if (ticker.read() - lastFetched >= refreshIntervalNanos) {
+            refreshInBackground();
+        }
+    }
+
+    /**
+     * Fetches the namespaces synchronously, unless another thread has done it already.
+     */
+    private void loadNow() {
+        synchronized (loadLock) {
+            if (!loaded) {
+                fetchNamespaces();
+            }
+        }
+    }
 
+    /**
+     * Starts fetching the namespaces in background, unless a fetch is already in progress.
+     */
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(this::refresh);
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            throw e;
+        }
+    }
+
+    private void refresh() {
+        try {
             fetchNamespaces();
-            var result = cache.contains(namespace);
-            return result;
+        } catch (RuntimeException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> "Failed to refresh the Datastore namespaces.");
+        } finally {
+            refreshing.set(false);
         }
     }
 
@@ -165,13 +343,36 @@ final class NamespaceIndex implements TenantIndex {
      */
     private void fetchNamespaces() {
         var existingNamespaces = namespaceQuery.run();
-        Set<Namespace> newNamespaces = newHashSet();
         var unpacker = new NamespaceUnpacker(multitenant, converterFactory);
         var extractedNamespaces = Iterators.transform(existingNamespaces, unpacker);
-        Iterators.addAll(newNamespaces, extractedNamespaces);
+        var newNamespaces = ImmutableSet.copyOf(Iterators.filter(extractedNamespaces,
+                                                                 Objects::nonNull));
+        remember(newNamespaces);
+        var now = ticker.read();
+        lastFetched = now;
+        loaded = true;
+        unknown.values()
+               .removeIf(unknownUntil -> now - unknownUntil >= 0);
+    }
 
-        // Never delete tenants, only add new ones
-        cache.addAll(newNamespaces);
+    /**
+     * Adds the passed namespaces to the cache, replacing the snapshot of the known namespaces.
+     *
+     * <p>Never deletes tenants, only adds new ones.
+     */
+    private void remember(ImmutableSet<Namespace> namespaces) {
+        synchronized (lock) {
+            var current = known;
+            if (current.containsAll(namespaces)) {
+                return;
+            }
+            known = ImmutableSet.<Namespace>builder()
+                                .addAll(current)
+                                .addAll(namespaces)
+                                .build();
+        }
+        unknown.keySet()
+               .removeAll(namespaces);
     }
 
     /**
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.tenant;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Limits the number of concurrent Datastore requests per {@link Namespace}.
+ *
+ * <p>In a multitenant application, each tenant is served in its own namespace. Limiting
+ * the concurrent requests per namespace prevents a tenant issuing many requests at once
+ * from saturating the connections to the Datastore shared by all tenants.
+ *
+ * <p>A request made when the limit for its namespace is reached waits until one of
+ * the ongoing requests in the same namespace completes. If the limits are fair, the waiting
+ * requests are served in the order of arrival. Otherwise, the throughput is higher, but
+ * a request may wait longer.
+ *
+ * <p>The load of each namespace is available via {@link #loadOf(Namespace)}.
+ *
+ * @see io.spine.server.storage.datastore.DatastoreStorageFactory.Builder#setNamespaceLimits(NamespaceLimits)
+ */
+public final class NamespaceLimits {
+
+    private static final NamespaceLimits UNLIMITED = new NamespaceLimits(0, false);
+
+    private final int maxConcurrentRequests;
+    private final boolean fair;
+    private final Map<Namespace, Limit> limits = new ConcurrentHashMap<>();
+
+    private NamespaceLimits(int maxConcurrentRequests, boolean fair) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.fair = fair;
+    }
+
+    /**
+     * Creates limits allowing the given number of concurrent requests per namespace.
+     *
+     * @param maxConcurrentRequests
+     *         the maximum number of concurrent requests per namespace; must be positive
+     * @param fair
+     *         whether the waiting requests are served in the order of arrival
+     * @return new limits
+     */
+    public static NamespaceLimits of(int maxConcurrentRequests, boolean fair) {
+        checkArgument(maxConcurrentRequests > 0,
+                      "The maximum number of concurrent requests must be positive.");
+        return new NamespaceLimits(maxConcurrentRequests, fair);
+    }
+
+    /**
+     * Returns the instance which imposes no limits.
+     */
+    public static NamespaceLimits unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Tells whether these limits restrict the concurrent requests at all.
+     */
+    public boolean isLimited() {
+        return maxConcurrentRequests > 0;
+    }
+
+    /**
+     * Returns the maximum number of concurrent requests per namespace,
+     * or zero if {@linkplain #unlimited() unlimited}.
+     */
+    public int maxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Tells whether the waiting requests are served in the order of arrival.
+     */
+    public boolean isFair() {
+        return fair;
+    }
+
+    /**
+     * Performs the given request within the limit of the given namespace.
+     *
+     * <p>Waits until the request is allowed by the limit.
+     *
+     * @param namespace
+     *         the namespace in which the request is performed
+     * @param request
+     *         the request to perform
+     * @param <T>
+     *         the type of the request result
+     * @return the result of the request
+     * @throws IllegalStateException
+     *         if interrupted while waiting
+     */
+    public <T> T call(Namespace namespace, Supplier<T> request) {
+        checkNotNull(namespace);
+        checkNotNull(request);
+        if (!isLimited()) {
+            return request.get();
+        }
+        var limit = limitOf(namespace);
+        limit.acquire(namespace);
+        try {
+            return request.get();
+        } finally {
+            limit.release();
+        }
+    }
+
+    /**
+     * Performs the given request, which has no result, within the limit of the given namespace.
+     *
+     * @see #call(Namespace, Supplier)
+     */
+    public void run(Namespace namespace, Runnable request) {
+        checkNotNull(request);
+        call(namespace, () -> {
+            request.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the current load of the given namespace.
+     */
+    public NamespaceLoad loadOf(Namespace namespace) {
+        checkNotNull(namespace);
+        var limit = limits.get(namespace);
+        return limit == null
+               ? NamespaceLoad.idle()
+               : limit.load();
+    }
+
+    /**
+     * Returns the current load of each namespace which has been requested through these limits.
+     */
+    public ImmutableMap<Namespace, NamespaceLoad> load() {
+        return limits.entrySet()
+                     .stream()
+                     .collect(toImmutableMap(Map.Entry::getKey, e -> e.getValue().load()));
+    }
+
+    private Limit limitOf(Namespace namespace) {
+        return limits.computeIfAbsent(namespace, ns -> new Limit(maxConcurrentRequests, fair));
+    }
+
+    /**
+     * The limit of concurrent requests within a single namespace.
+     */
+    private static final class Limit {
+
+        private final Semaphore permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder delayed = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+
+        private Limit(int maxConcurrentRequests, boolean fair) {
+            this.permits = new Semaphore(maxConcurrentRequests, fair);
+        }
+
+        /**
+         * Acquires a permit for a request in the given namespace.
+         *
+         * <p>The permit is first requested with a zero timeout rather than with
+         * the untimed {@link Semaphore#tryAcquire()}, since the latter takes an available permit
+         * ahead of the waiting requests even if the semaphore is fair.
+         */
+        private void acquire(Namespace namespace) {
+            try {
+                if (!permits.tryAcquire(0, NANOSECONDS)) {
+                    awaitPermit();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw newIllegalStateException(
+                        e, "Interrupted while waiting for a Datastore request in namespace `%s`.",
+                        namespace);
+            }
+            inFlight.incrementAndGet();
+        }
+
+        private void awaitPermit() throws InterruptedException {
+            var start = System.nanoTime();
+            waiting.incrementAndGet();
+            try {
+                permits.acquire();
+            } finally {
+                waiting.decrementAndGet();
+                delayed.increment();
+                waitNanos.add(System.nanoTime() - start);
+            }
+        }
+
+        private void release() {
+            inFlight.decrementAndGet();
+            completed.increment();
+            permits.release();
+        }
+
+        private NamespaceLoad load() {
+            return new NamespaceLoad(inFlight.get(),
+                                     waiting.get(),
+                                     completed.sum(),
+                                     delayed.sum(),
+                                     waitNanos.sum());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.tenant;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A snapshot of the Datastore requests made in a single {@link Namespace}.
+ *
+ * @see NamespaceLimits#loadOf(Namespace)
+ */
+@Immutable
+public final class NamespaceLoad {
+
+    private static final NamespaceLoad IDLE = new NamespaceLoad(0, 0, 0L, 0L, 0L);
+
+    private final int inFlight;
+    private final int waiting;
+    private final long completed;
+    private final long delayed;
+    private final long waitNanos;
+
+    NamespaceLoad(int inFlight, int waiting, long completed, long delayed, long waitNanos) {
+        this.inFlight = inFlight;
+        this.waiting = waiting;
+        this.completed = completed;
+        this.delayed = delayed;
+        this.waitNanos = waitNanos;
+    }
+
+    /**
+     * Returns the load of a namespace in which no requests have been made.
+     */
+    static NamespaceLoad idle() {
+        return IDLE;
+    }
+
+    /**
+     * Returns the number of requests currently being performed.
+     */
+    public int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of requests currently waiting for the limit.
+     */
+    public int waiting() {
+        return waiting;
+    }
+
+    /**
+     * Returns the total number of the completed requests.
+     */
+    public long completed() {
+        return completed;
+    }
+
+    /**
+     * Returns the total number of requests which had to wait for the limit.
+     */
+    public long delayed() {
+        return delayed;
+    }
+
+    /**
+     * Returns the total time the requests have spent waiting for the limit.
+     */
+    public Duration totalWaitTime() {
+        return Durations.fromNanos(waitNanos);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("inFlight", inFlight)
+                          .add("waiting", waiting)
+                          .add("completed", completed)
+                          .add("delayed", delayed)
+                          .add("totalWaitTime", Durations.toString(totalWaitTime()))
+                          .toString();
+    }
+}
@@ -31,6 +31,7 @@ import com.google.cloud.datastore.Datastore;
 import com.google.cloud.datastore.DatastoreOptions;
 import com.google.cloud.datastore.Value;
 import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.util.Durations;
 import io.spine.core.TenantId;
 import io.spine.server.storage.ColumnMapping;
 import io.spine.server.storage.datastore.config.DsColumnMapping;
@@ -39,6 +40,7 @@ import io.spine.server.storage.datastore.config.RecordLayout;
 import io.spine.server.storage.datastore.given.TestColumnMapping;
 import io.spine.server.storage.datastore.tenant.NamespaceConverter;
 import io.spine.server.storage.datastore.tenant.NamespaceConverterFactory;
+import io.spine.server.storage.datastore.tenant.NamespaceLimits;
 import io.spine.test.storage.StgProject;
 import io.spine.testing.server.storage.datastore.EmulatorTest;
 import io.spine.testing.server.storage.datastore.TestDatastores;
@@ -49,6 +51,8 @@ import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.server.ContextSpec.singleTenant;
+import static io.spine.server.storage.datastore.config.ReadConsistency.TRANSACTIONAL;
+import static io.spine.server.storage.datastore.config.ReadType.GLOBAL_QUERY;
 import static io.spine.testing.Assertions.assertHasPrivateParameterlessCtor;
 import static io.spine.testing.DisplayNames.HAVE_PARAMETERLESS_CTOR;
 import static io.spine.testing.DisplayNames.NOT_ACCEPT_NULLS;
@@ -75,6 +79,8 @@ final class DatastoreStorageFactoryBuilderTest {
                             datastore())
                 .setDefault(ColumnMapping.class, new DsColumnMapping())
                 .setDefault(RecordLayout.class, new FlatLayout<>(StgProject.class))
+                .setDefault(com.google.protobuf.Duration.class, Durations.fromSeconds(1))
+                .setDefault(NamespaceLimits.class, NamespaceLimits.unlimited())
                 .testInstanceMethods(DatastoreStorageFactory.newBuilder(),
                                      NullPointerTester.Visibility.PACKAGE);
     }
@@ -150,6 +156,16 @@ final class DatastoreStorageFactoryBuilderTest {
         assertThat(produced).isSameInstanceAs(first);
     }
 
+    @Test
+    @DisplayName("reject transactional consistency for global queries")
+    void testRejectTransactionalGlobalQueries() {
+        var builder = DatastoreStorageFactory.newBuilder()
+                .setDatastore(datastore());
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder.setReadConsistency(StgProject.class, GLOBAL_QUERY,
+                                                      TRANSACTIONAL));
+    }
+
     @Nested
     class Namespaces {
 
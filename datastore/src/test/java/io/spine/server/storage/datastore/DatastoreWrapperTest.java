@@ -35,6 +35,7 @@ import io.spine.core.TenantId;
 import io.spine.net.EmailAddress;
 import io.spine.net.InternetDomain;
 import io.spine.server.storage.datastore.record.Entities;
+import io.spine.server.storage.datastore.tenant.NamespaceLimits;
 import io.spine.server.storage.datastore.record.RecordId;
 import io.spine.server.tenant.TenantAwareFunction0;
 import io.spine.server.tenant.TenantAwareOperation;
@@ -48,6 +49,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -58,6 +60,10 @@ import java.util.NoSuchElementException;
 import static com.google.cloud.datastore.Query.newEntityQueryBuilder;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.storage.datastore.DatastoreOperation.DELETE;
+import static io.spine.server.storage.datastore.DatastoreOperation.LOOKUP;
+import static io.spine.server.storage.datastore.DatastoreOperation.PUT;
+import static io.spine.server.storage.datastore.DatastoreOperation.RUN_QUERY;
 import static io.spine.server.storage.datastore.DatastoreWrapper.wrap;
 import static io.spine.server.storage.datastore.given.DatastoreWrapperTestEnv.NAMESPACE_HOLDER_KIND;
 import static io.spine.server.storage.datastore.given.DatastoreWrapperTestEnv.ensureNamespace;
@@ -68,6 +74,7 @@ import static io.spine.server.storage.datastore.given.TestNamespaceSuppliers.mul
 import static io.spine.server.storage.datastore.given.TestNamespaceSuppliers.singleTenant;
 import static io.spine.testing.server.storage.datastore.TestDatastoreWrapper.wrap;
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -374,6 +381,72 @@ final class DatastoreWrapperTest {
         assertThrows(NoSuchElementException.class, result::next);
     }
 
+    @Test
+    @DisplayName("report the metrics of the operations")
+    void reportMetrics() {
+        List<OperationMetrics> recorded = new ArrayList<>();
+        DatastoreMetrics metrics = recorded::add;
+        var wrapper = DatastoreWrapper.wrap(localDatastore(), singleTenant(),
+                                            NamespaceLimits.unlimited(), metrics);
+        var entities = newTestEntities(2, wrapper).values();
+        wrapper.createOrUpdate(entities);
+        var keys = ImmutableList.copyOf(newTestEntities(2, wrapper).keySet());
+        wrapper.lookup(keys);
+        wrapper.delete(keys.toArray(new Key[0]));
+
+        var operations = recorded.stream()
+                                 .map(OperationMetrics::operation)
+                                 .collect(toList());
+        assertThat(operations).containsExactly(PUT, LOOKUP, DELETE)
+                              .inOrder();
+        var put = recorded.get(0);
+        assertThat(put.entityCount()).isEqualTo(2);
+        assertThat(put.kind()).hasValue(GENERIC_ENTITY_KIND);
+        assertThat(put.isSuccessful()).isTrue();
+    }
+
+    @Test
+    @DisplayName("report the found entities and the entities read from the query page")
+    void reportReadEntities() {
+        List<OperationMetrics> recorded = new ArrayList<>();
+        DatastoreMetrics metrics = recorded::add;
+        var wrapper = DatastoreWrapper.wrap(localDatastore(), singleTenant(),
+                                            NamespaceLimits.unlimited(), metrics);
+        var stored = newTestEntities(2, wrapper);
+        wrapper.createOrUpdate(stored.values());
+        var missing = newTestEntities(1, wrapper).keySet();
+        var keys = ImmutableList.<Key>builder()
+                .addAll(stored.keySet())
+                .addAll(missing)
+                .build();
+        wrapper.lookup(keys);
+
+        StructuredQuery<Entity> query = newEntityQueryBuilder()
+                .setKind(GENERIC_ENTITY_KIND.value())
+                .setLimit(2)
+                .build();
+        var results = wrapper.read(query);
+        results.next();
+        assertThat(operationsOf(recorded)).doesNotContain(RUN_QUERY);
+        results.next();
+        assertThat(results.hasNext()).isFalse();
+
+        assertThat(operationsOf(recorded)).containsExactly(PUT, LOOKUP, RUN_QUERY)
+                                          .inOrder();
+        var lookup = recorded.get(1);
+        assertThat(lookup.entityCount()).isEqualTo(2);
+        var page = recorded.get(2);
+        assertThat(page.entityCount()).isEqualTo(2);
+        assertThat(page.pageCount()).isEqualTo(1);
+        assertThat(page.kind()).hasValue(GENERIC_ENTITY_KIND);
+    }
+
+    private static List<DatastoreOperation> operationsOf(List<OperationMetrics> recorded) {
+        return recorded.stream()
+                       .map(OperationMetrics::operation)
+                       .collect(toList());
+    }
+
     @Test
     @DisplayName("allow to add new namespaces 'on the go'")
     void testNewNamespaces() {
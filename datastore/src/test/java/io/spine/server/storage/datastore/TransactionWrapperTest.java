@@ -115,6 +115,38 @@ class TransactionWrapperTest {
                 .isEqualTo(entity);
     }
 
+    @Test
+    @DisplayName("read in a read-only transaction")
+    void readOnly() {
+        var key = keyFactory.newKey(newUuid());
+        var entity = Entity.newBuilder(key)
+                .set("field_name", newUuid())
+                .build();
+        datastore.create(entity);
+        try (var tx = datastore.newReadOnlyTransaction()) {
+            assertThat(tx.isReadOnly()).isTrue();
+            var read = tx.read(key);
+            tx.commit();
+            assertThat(read.orElseGet(Assertions::fail))
+                    .isEqualTo(entity);
+        }
+    }
+
+    @Test
+    @DisplayName("reject writes in a read-only transaction")
+    void rejectWritesInReadOnly() {
+        var key = keyFactory.newKey(newUuid());
+        var entity = Entity.newBuilder(key)
+                .set("field", 42)
+                .build();
+        try (var tx = datastore.newReadOnlyTransaction()) {
+            assertThrows(IllegalStateException.class, () -> tx.createOrUpdate(entity));
+            assertThrows(IllegalStateException.class, () -> tx.create(entity));
+            assertThrows(IllegalStateException.class, () -> tx.delete(key));
+        }
+        assertNoEntityWith(key);
+    }
+
     @Test
     @DisplayName("read and write transactionally")
     void readWrite() {
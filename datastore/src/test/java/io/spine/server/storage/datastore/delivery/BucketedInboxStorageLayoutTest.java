@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.storage.datastore.delivery.BucketedInboxStorageLayout.MAX_BUCKETS;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`BucketedInboxStorageLayout` should")
+final class BucketedInboxStorageLayoutTest {
+
+    @Test
+    @DisplayName("reject non-positive number of buckets")
+    void rejectNonPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new BucketedInboxStorageLayout(0));
+    }
+
+    @Test
+    @DisplayName("reject more buckets than Entity groups a transaction may touch")
+    void rejectTooManyBuckets() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new BucketedInboxStorageLayout(MAX_BUCKETS + 1));
+    }
+
+    @Test
+    @DisplayName("accept the maximum number of buckets")
+    void acceptMaxBuckets() {
+        var layout = new BucketedInboxStorageLayout(MAX_BUCKETS);
+        assertThat(layout.buckets()).isEqualTo(MAX_BUCKETS);
+    }
+}
@@ -26,9 +26,15 @@
 
 package io.spine.server.storage.datastore.delivery;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.testing.NullPointerTester;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
 import com.google.protobuf.util.Timestamps;
+import com.google.rpc.Code;
+import io.spine.base.Time;
 import io.spine.server.NodeId;
 import io.spine.server.delivery.ShardIndex;
 import io.spine.server.delivery.ShardSessionRecord;
@@ -37,19 +43,32 @@ import io.spine.server.delivery.ShardedWorkRegistryTest;
 import io.spine.server.delivery.WorkerId;
 import io.spine.testing.server.storage.datastore.EmulatorTest;
 import io.spine.testing.server.storage.datastore.TestDatastoreStorageFactory;
+import io.spine.testing.server.storage.datastore.TestDatastores;
+import io.spine.testing.server.storage.datastore.chaos.FaultInjector;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.server.ContextSpec.singleTenant;
 import static io.spine.server.storage.datastore.given.TestShardIndex.newIndex;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("`DsShardedWorkRegistry` should")
 @EmulatorTest
@@ -58,6 +77,11 @@ final class DsShardedWorkRegistryTest extends ShardedWorkRegistryTest {
     private static final ShardIndex index = newIndex(1, 15);
     private static final NodeId node = newNode();
 
+    /**
+     * The number of shards, the sessions of which do not fit a single transaction.
+     */
+    private static final int MANY_SHARDS = 32;
+
     private final TestDatastoreStorageFactory factory = TestDatastoreStorageFactory.local();
     private DsShardedWorkRegistry registry;
 
@@ -70,6 +94,7 @@ final class DsShardedWorkRegistryTest extends ShardedWorkRegistryTest {
 
     @AfterEach
     void tearDown() {
+        Time.resetProvider();
         factory.tearDown();
     }
 
@@ -116,6 +141,56 @@ final class DsShardedWorkRegistryTest extends ShardedWorkRegistryTest {
             );
         }
 
+        @Test
+        @DisplayName("shards using the configured worker identity")
+        void pickUpWithWorkerIdentity() {
+            var context = singleTenant(DsShardedWorkRegistryTest.class.getName());
+            var perShard = DsShardedWorkRegistry.newBuilder(factory, context)
+                    .setWorkerIdentity(WorkerIdentity.perShard())
+                    .build();
+            var outcome = perShard.pickUp(index, node);
+            assertThat(outcome.hasSession()).isTrue();
+            assertThat(outcome.getSession()
+                              .getWorker())
+                    .isEqualTo(WorkerIdentity.perShard()
+                                             .workerFor(node, index));
+        }
+
+        @Test
+        @DisplayName("one by one for the same shard, and in parallel for different shards")
+        void serializePerShard() throws Exception {
+            var sameShard = newIndex(0, 15);
+            var otherShards = ImmutableList.of(newIndex(1, 15), newIndex(2, 15),
+                                               newIndex(3, 15), newIndex(4, 15));
+            var concurrency = new PickUpConcurrency();
+            var context = singleTenant(DsShardedWorkRegistryTest.class.getName());
+            var observed = DsShardedWorkRegistry.newBuilder(factory, context)
+                    .setWorkerIdentity(concurrency)
+                    .build();
+            var pickUps = ImmutableList.<ShardIndex>builder()
+                    .add(sameShard, sameShard, sameShard)
+                    .addAll(otherShards)
+                    .build();
+            var executor = Executors.newFixedThreadPool(pickUps.size());
+            var start = new CountDownLatch(1);
+            try {
+                var futures = pickUps.stream()
+                        .map(shard -> executor.submit(() -> {
+                            start.await();
+                            return observed.pickUp(shard, node);
+                        }))
+                        .collect(toImmutableList());
+                start.countDown();
+                for (var future : futures) {
+                    future.get(1, MINUTES);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(concurrency.maxPerShard(sameShard)).isEqualTo(1);
+            assertThat(concurrency.maxOverall()).isAtLeast(2);
+        }
+
         @CanIgnoreReturnValue
         private ShardSessionRecord assertPickUp(ShardIndex index) {
             var outcome = registry.pickUp(index, node);
@@ -191,6 +266,320 @@ final class DsShardedWorkRegistryTest extends ShardedWorkRegistryTest {
         assertThat(Timestamps.compare(whenPickedFirst, whenPickedSecond)).isLessThan(0);
     }
 
+    @Test
+    @DisplayName("release only the sessions picked up before the inactivity period")
+    void releaseExpiredOnly() {
+        var expiredIndex = newIndex(3, 15);
+        var expiredOutcome = registry.pickUp(expiredIndex, node);
+        assertThat(expiredOutcome.hasSession()).isTrue();
+        var pickedLongAgo = expiredOutcome.getSession()
+                                          .toBuilder()
+                                          .setWhenLastPicked(Timestamps.fromSeconds(42))
+                                          .build();
+        registry.storage().write(pickedLongAgo);
+
+        var activeOutcome = registry.pickUp(index, node);
+        assertThat(activeOutcome.hasSession()).isTrue();
+
+        var released = registry.releaseExpiredSessions(Durations.fromMinutes(5));
+        assertThat(released).containsExactly(expiredIndex);
+        assertThat(readSingleRecord(expiredIndex).hasWorker()).isFalse();
+        assertThat(readSingleRecord(index).hasWorker()).isTrue();
+    }
+
+    @Test
+    @DisplayName("release more expired sessions than a single transaction may hold")
+    void releaseManyExpired() {
+        var shards = shards(MANY_SHARDS);
+        for (var shard : shards) {
+            var session = session(shard, worker()).toBuilder()
+                    .setWhenLastPicked(Timestamps.fromSeconds(42))
+                    .build();
+            registry.storage().write(session);
+        }
+
+        var released = registry.releaseExpiredSessions(Durations.fromMinutes(5));
+
+        assertThat(released).containsExactlyElementsIn(shards);
+        for (var shard : shards) {
+            assertThat(readSingleRecord(shard).hasWorker()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("with shard leases")
+    class Leases {
+
+        private DsShardedWorkRegistry leasing;
+
+        @BeforeEach
+        void setUp() {
+            var context = singleTenant(DsShardedWorkRegistryTest.class.getName());
+            leasing = DsShardedWorkRegistry.newBuilder(factory, context)
+                    .setLeaseDuration(Durations.fromMinutes(1), Durations.fromMinutes(5))
+                    .build();
+        }
+
+        @AfterEach
+        void tearDown() {
+            leasing.close();
+        }
+
+        @Test
+        @DisplayName("keep the released session leased to the node")
+        void keepLease() {
+            var outcome = leasing.pickUp(index, node);
+            assertThat(outcome.hasSession()).isTrue();
+            leasing.release(outcome.getSession());
+
+            var record = readSingleRecord(index);
+            assertThat(record.getWorker()
+                             .getNodeId()).isEqualTo(node);
+
+            var anotherNode = leasing.pickUp(index, newNode());
+            assertThat(anotherNode.hasSession()).isFalse();
+
+            var sameNode = leasing.pickUp(index, node);
+            assertThat(sameNode.hasSession()).isTrue();
+        }
+
+        @Test
+        @DisplayName("not hand the leased shard to another worker while it is in use")
+        void notPickUpLeaseInUse() {
+            var outcome = leasing.pickUp(index, node);
+            assertThat(outcome.hasSession()).isTrue();
+
+            var again = leasing.pickUp(index, node);
+            assertThat(again.hasSession()).isFalse();
+            assertThat(again.getAlreadyPicked()
+                            .getWorker()).isEqualTo(outcome.getSession()
+                                                           .getWorker());
+        }
+
+        @Test
+        @DisplayName("not take over a fresh session of another worker of the same node")
+        void notTakeOverFreshSession() {
+            var otherWorker = worker();
+            var held = ShardSessionRecord.newBuilder()
+                    .setIndex(index)
+                    .setWorker(otherWorker)
+                    .setWhenLastPicked(Time.currentTime())
+                    .build();
+            leasing.storage().write(held);
+
+            var outcome = leasing.pickUp(index, node);
+            assertThat(outcome.hasSession()).isFalse();
+            assertThat(outcome.getAlreadyPicked()
+                              .getWorker()).isEqualTo(otherWorker);
+        }
+
+        @Test
+        @DisplayName("release the leased sessions on close")
+        void releaseOnClose() {
+            var outcome = leasing.pickUp(index, node);
+            assertThat(outcome.hasSession()).isTrue();
+
+            leasing.close();
+
+            var record = readSingleRecord(index);
+            assertThat(record.hasWorker()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("reject the lease duration not shorter than the inactivity period")
+    void rejectLongLease() {
+        var context = singleTenant(DsShardedWorkRegistryTest.class.getName());
+        var builder = DsShardedWorkRegistry.newBuilder(factory, context);
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder.setLeaseDuration(Durations.fromMinutes(5),
+                                                    Durations.fromMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("not claim the session observed held by another worker without reading it")
+    void notClaimObservedHeldByAnother() {
+        var injector = FaultInjector.newBuilder()
+                .setErrorRate(Code.UNAVAILABLE, 1.0)
+                .build();
+        injector.disable();
+        var faultyFactory = TestDatastoreStorageFactory.basedOn(
+                injector.wrap(TestDatastores.local()));
+        faultyFactory.setUp();
+        var context = singleTenant(DsShardedWorkRegistryTest.class.getName());
+        var storage = new DsShardedWorkRegistry(faultyFactory, context).storage();
+        var anotherWorker = worker();
+        var observed = ShardSessionRecord.newBuilder()
+                .setIndex(index)
+                .setWorker(anotherWorker)
+                .setWhenLastPicked(Time.currentTime())
+                .build();
+        try {
+            // Any Datastore request fails from now on.
+            injector.enable();
+            var result = storage.claim(index, observed, new SetWorkerIfAbsent(index, worker()));
+            assertThat(result.isSuccessful()).isFalse();
+            assertThat(result.value()
+                             .getWorker()).isEqualTo(anotherWorker);
+        } finally {
+            injector.disable();
+            faultyFactory.tearDown();
+        }
+    }
+
+    @Test
+    @DisplayName("report the worker which won the concurrent claim")
+    void reportConcurrentWinner() {
+        var inMemory = TestDatastoreStorageFactory.inMemory();
+        inMemory.setUp();
+        var context = singleTenant(DsShardedWorkRegistryTest.class.getName());
+        var storage = new DsShardedWorkRegistry(inMemory, context).storage();
+        var winner = worker();
+        var loser = worker();
+        var raced = new AtomicBoolean();
+        PrepareForWrite racingClaim = previous -> {
+            if (!raced.getAndSet(true)) {
+                // Another node claims the shard after this transaction has read the session.
+                storage.write(session(index, winner));
+            }
+            return new SetWorkerIfAbsent(index, loser).prepare(previous);
+        };
+        try {
+            var result = storage.claim(index, null, racingClaim);
+            assertThat(result.isSuccessful()).isFalse();
+            assertThat(result.value()
+                             .getWorker()).isEqualTo(winner);
+        } finally {
+            inMemory.tearDown();
+        }
+    }
+
+    @Test
+    @DisplayName("keep the lease which expired while in use until it is released")
+    void keepExpiredLeaseInUse() {
+        var firstWorker = worker();
+        var secondWorker = worker();
+        var current = new AtomicReference<>(firstWorker);
+        var context = singleTenant(DsShardedWorkRegistryTest.class.getName());
+        var leasing = DsShardedWorkRegistry.newBuilder(factory, context)
+                .setLeaseDuration(Durations.fromMinutes(1), Durations.fromMinutes(5))
+                .setWorkerIdentity((nodeId, shard) -> current.get())
+                .build();
+        try {
+            var first = leasing.pickUp(index, node);
+            assertThat(first.hasSession()).isTrue();
+
+            // The lease is not renewed for longer than the lease duration.
+            var later = Timestamps.add(Time.currentTime(), Durations.fromMinutes(2));
+            Time.setProvider(() -> later);
+
+            current.set(secondWorker);
+            var second = leasing.pickUp(index, node);
+            assertThat(second.hasSession()).isFalse();
+            assertThat(second.getAlreadyPicked()
+                             .getWorker()).isEqualTo(firstWorker);
+        } finally {
+            Time.resetProvider();
+            leasing.close();
+        }
+    }
+
+    @Test
+    @DisplayName("renew the owned sessions by heartbeat and report the lost ones")
+    void heartbeat() {
+        var kept = registry.pickUp(index, node)
+                           .getSession();
+        var lostIndex = newIndex(7, 15);
+        var lost = registry.pickUp(lostIndex, node)
+                           .getSession();
+        var lostShards = new ArrayList<ShardIndex>();
+        var heartbeat = registry.newHeartbeat(node, Durations.fromMinutes(1),
+                                              new ShardHeartbeat.Listener() {
+            @Override
+            public void onLost(ShardIndex index) {
+                lostShards.add(index);
+            }
+
+            @Override
+            public void onExpiring(ShardIndex index, Timestamp expiresAt) {
+                // Not expected in this test.
+            }
+        });
+        heartbeat.track(kept);
+        heartbeat.track(lost);
+
+        var takenOver = lost.toBuilder()
+                            .setWorker(WorkerId.newBuilder()
+                                               .setNodeId(newNode())
+                                               .setValue(newUuid()))
+                            .build();
+        registry.storage().write(takenOver);
+
+        heartbeat.beat();
+
+        assertThat(lostShards).containsExactly(lostIndex);
+        var renewed = readSingleRecord(index).getWhenLastPicked();
+        assertThat(Timestamps.compare(kept.getWhenLastPicked(), renewed)).isLessThan(0);
+    }
+
+    @Test
+    @DisplayName("renew more sessions than a single transaction may hold")
+    void renewManySessions() {
+        var shards = shards(MANY_SHARDS);
+        var heartbeat = registry.newHeartbeat(node, Durations.fromMinutes(1),
+                                              new ShardHeartbeat.Listener() {
+            @Override
+            public void onLost(ShardIndex index) {
+                throw new AssertionError("The session of the shard `" + index + "` is lost.");
+            }
+
+            @Override
+            public void onExpiring(ShardIndex index, Timestamp expiresAt) {
+                // Not expected in this test.
+            }
+        });
+        for (var shard : shards) {
+            heartbeat.track(registry.pickUp(shard, node)
+                                    .getSession());
+        }
+        var later = Timestamps.add(Time.currentTime(), Durations.fromSeconds(10));
+        Time.setProvider(() -> later);
+        try {
+            heartbeat.beat();
+        } finally {
+            Time.resetProvider();
+        }
+
+        for (var shard : shards) {
+            assertThat(readSingleRecord(shard).getWhenLastPicked()).isEqualTo(later);
+        }
+    }
+
+    @Test
+    @DisplayName("leave the shard to the preferred node in the shard affinity mode")
+    void leaveShardToPreferredNode() {
+        var first = newNode();
+        var second = newNode();
+        var context = singleTenant(DsShardedWorkRegistryTest.class.getName());
+        var withAffinity = DsShardedWorkRegistry.newBuilder(factory, context)
+                .setShardAffinity(() -> ImmutableSet.of(first, second),
+                                  Durations.fromMinutes(1))
+                .build();
+
+        var firstOutcome = withAffinity.pickUp(index, first);
+        var secondOutcome = withAffinity.pickUp(index, second);
+
+        assertThat(firstOutcome.hasSession()).isNotEqualTo(secondOutcome.hasSession());
+        var picked = firstOutcome.hasSession() ? firstOutcome : secondOutcome;
+        var deferred = firstOutcome.hasSession() ? secondOutcome : firstOutcome;
+        assertThat(deferred.getAlreadyPicked()
+                           .getWorker()
+                           .getNodeId())
+                .isEqualTo(picked.getSession()
+                                 .getWorker()
+                                 .getNodeId());
+    }
+
     @Test
     @DisplayName("not accept `null` values in public API methods")
     void notAcceptNulls() {
@@ -207,6 +596,71 @@ final class DsShardedWorkRegistryTest extends ShardedWorkRegistryTest {
         return record.get();
     }
 
+    /**
+     * A worker identity which tracks how many pick-ups are in progress at the same time.
+     *
+     * <p>The registry asks for the worker while holding the lock of the shard. The first two
+     * pick-ups wait for each other, so that the pick-ups running in parallel are
+     * observed overlapping regardless of the timing.
+     */
+    private static final class PickUpConcurrency implements WorkerIdentity {
+
+        private final Map<ShardIndex, AtomicInteger> inProgress = new ConcurrentHashMap<>();
+        private final Map<ShardIndex, Integer> maxPerShard = new ConcurrentHashMap<>();
+        private final AtomicInteger overall = new AtomicInteger();
+        private final AtomicInteger maxOverall = new AtomicInteger();
+        private final CountDownLatch rendezvous = new CountDownLatch(2);
+
+        @Override
+        public WorkerId workerFor(NodeId node, ShardIndex index) {
+            var perShard = inProgress.computeIfAbsent(index, i -> new AtomicInteger());
+            var current = perShard.incrementAndGet();
+            maxPerShard.merge(index, current, Math::max);
+            maxOverall.accumulateAndGet(overall.incrementAndGet(), Math::max);
+            try {
+                rendezvous.countDown();
+                rendezvous.await(1, MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            } finally {
+                overall.decrementAndGet();
+                perShard.decrementAndGet();
+            }
+            return WorkerIdentity.perShard()
+                                 .workerFor(node, index);
+        }
+
+        int maxPerShard(ShardIndex index) {
+            return maxPerShard.getOrDefault(index, 0);
+        }
+
+        int maxOverall() {
+            return maxOverall.get();
+        }
+    }
+
+    private static ImmutableList<ShardIndex> shards(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> newIndex(i, count))
+                        .collect(toImmutableList());
+    }
+
+    private static ShardSessionRecord session(ShardIndex index, WorkerId worker) {
+        return ShardSessionRecord.newBuilder()
+                .setIndex(index)
+                .setWorker(worker)
+                .setWhenLastPicked(Time.currentTime())
+                .build();
+    }
+
+    private static WorkerId worker() {
+        return WorkerId.newBuilder()
+                .setNodeId(node)
+                .setValue(newUuid())
+                .build();
+    }
+
     private static NodeId newNode() {
         return NodeId.newBuilder()
                 .setValue(newUuid())
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.delivery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.delivery.InboxStorage;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.storage.datastore.DatastoreStorageFactory;
+import io.spine.server.storage.datastore.config.RecordLayout;
+import io.spine.testing.server.storage.datastore.EmulatorTest;
+import io.spine.testing.server.storage.datastore.TestDatastoreStorageFactory;
+import io.spine.testing.server.storage.datastore.TestDatastores;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.protobuf.util.Timestamps.fromSeconds;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.datastore.given.TestShardIndex.newIndex;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`InboxPageReader` should")
+@EmulatorTest
+final class InboxPageReaderTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final ShardIndex shard = newIndex(3, 10);
+    private static final ShardIndex anotherShard = newIndex(4, 10);
+
+    private TestDatastoreStorageFactory factory;
+    private InboxStorage storage;
+    private InboxPageReader reader;
+
+    private void setUp(RecordLayout<InboxMessageId, InboxMessage> layout) {
+        var builder = DatastoreStorageFactory.newBuilderWithDefaults(TestDatastores.local())
+                                             .organizeRecords(InboxMessage.class, layout);
+        factory = TestDatastoreStorageFactory.basedOn(builder);
+        factory.setUp();
+        storage = factory.createInboxStorage(false);
+        reader = factory.newInboxPageReader(false, PAGE_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (factory != null) {
+            factory.tearDown();
+        }
+    }
+
+    @Test
+    @DisplayName("reject the layout which does not store the messages in Entity groups")
+    void rejectFlatLayout() {
+        var flat = TestDatastoreStorageFactory.local();
+        var flatReader = flat.newInboxPageReader(false, PAGE_SIZE);
+        assertThrows(IllegalStateException.class, () -> flatReader.nextPage(shard));
+    }
+
+    @Test
+    @DisplayName("be created for a multitenant inbox outside of a tenant context")
+    void createMultitenant() {
+        setUp(new BucketedInboxStorageLayout(3));
+        var multitenantReader = factory.newInboxPageReader(true, PAGE_SIZE);
+        assertThat(multitenantReader.cursorOf(shard)).isEmpty();
+    }
+
+    @Nested
+    @DisplayName("read the messages stored in a single Entity group per shard")
+    class SingleGroup extends ReadPages {
+
+        @BeforeEach
+        void setUp() {
+            InboxPageReaderTest.this.setUp(new InboxStorageLayout());
+        }
+    }
+
+    @Nested
+    @DisplayName("read the messages spread over several Entity groups per shard")
+    class Buckets extends ReadPages {
+
+        @BeforeEach
+        void setUp() {
+            InboxPageReaderTest.this.setUp(new BucketedInboxStorageLayout(3));
+        }
+    }
+
+    /**
+     * The tests run against each of the layouts.
+     */
+    abstract class ReadPages {
+
+        @Test
+        @DisplayName("page by page in the order of receiving")
+        void inOrderOfReceiving() {
+            var third = write(shard, 30, 0);
+            var first = write(shard, 10, 0);
+            var fifth = write(shard, 50, 0);
+            var second = write(shard, 20, 0);
+            var fourth = write(shard, 40, 0);
+
+            assertThat(reader.nextPage(shard)).containsExactly(first, second).inOrder();
+            assertThat(reader.nextPage(shard)).containsExactly(third, fourth).inOrder();
+            assertThat(reader.nextPage(shard)).containsExactly(fifth);
+            assertThat(reader.cursorOf(shard)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("in the order of versions, if received at the same time")
+        void inOrderOfVersions() {
+            var second = write(shard, 10, 2);
+            var first = write(shard, 10, 1);
+            var third = write(shard, 10, 3);
+
+            assertThat(readAll(shard)).containsExactly(first, second, third).inOrder();
+        }
+
+        @Test
+        @DisplayName("of the requested shard only")
+        void ofShardOnly() {
+            var own = write(shard, 10, 0);
+            write(anotherShard, 5, 0);
+
+            assertThat(readAll(shard)).containsExactly(own);
+        }
+
+        @Test
+        @DisplayName("starting over once the shard is read")
+        void startOver() {
+            var first = write(shard, 10, 0);
+            var second = write(shard, 20, 0);
+
+            assertThat(reader.nextPage(shard)).containsExactly(first, second).inOrder();
+            assertThat(reader.nextPage(shard)).isEmpty();
+            assertThat(reader.nextPage(shard)).containsExactly(first, second).inOrder();
+        }
+
+        @Test
+        @DisplayName("resuming from the cursor, including the messages written in between")
+        void resumeFromCursor() {
+            var first = write(shard, 10, 0);
+            var second = write(shard, 20, 0);
+            var third = write(shard, 30, 0);
+            var fourth = write(shard, 40, 0);
+
+            assertThat(reader.nextPage(shard)).containsExactly(first, second).inOrder();
+            var cursor = reader.cursorOf(shard);
+            assertThat(cursor).isPresent();
+
+            var fifth = write(shard, 50, 0);
+            var restored = InboxCursor.fromUrlSafe(cursor.get().toUrlSafe());
+            assertThat(restored).isEqualTo(cursor.get());
+
+            var anotherReader = factory.newInboxPageReader(false, PAGE_SIZE);
+            anotherReader.resume(shard, restored);
+            assertThat(anotherReader.nextPage(shard)).containsExactly(third, fourth).inOrder();
+            assertThat(anotherReader.nextPage(shard)).containsExactly(fifth);
+        }
+
+        private InboxMessage write(ShardIndex index, long receivedAtSeconds, int version) {
+            var message = newMessage(index, fromSeconds(receivedAtSeconds), version);
+            storage.write(message);
+            return message;
+        }
+
+        private List<InboxMessage> readAll(ShardIndex index) {
+            List<InboxMessage> result = new ArrayList<>();
+            ImmutableList<InboxMessage> page;
+            do {
+                page = reader.nextPage(index);
+                result.addAll(page);
+            } while (page.size() == PAGE_SIZE);
+            return result;
+        }
+    }
+
+    private static InboxMessage newMessage(ShardIndex index, Timestamp receivedAt, int version) {
+        var id = InboxMessageId.newBuilder()
+                .setUuid(newUuid())
+                .setIndex(index)
+                .build();
+        return InboxMessage.newBuilder()
+                .setId(id)
+                .setWhenReceived(receivedAt)
+                .setVersion(version)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.query;
+
+import com.google.protobuf.util.Durations;
+import io.spine.server.storage.datastore.Kind;
+import io.spine.test.storage.StgProject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.storage.datastore.query.QueryPlan.Strategy.BY_KEYS;
+import static io.spine.server.storage.datastore.query.QueryPlan.Strategy.MERGED_QUERIES;
+import static io.spine.server.storage.datastore.query.QueryPlan.Strategy.SINGLE_QUERY;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`QueryPlan` should")
+final class QueryPlanTest {
+
+    private static final Kind kind = Kind.of(StgProject.class);
+
+    @Test
+    @DisplayName("count a lookup request per each thousand of keys")
+    void countLookups() {
+        var plan = QueryPlan.byKeys(kind, 2500, true, false, true);
+
+        assertThat(plan.strategy()).isEqualTo(BY_KEYS);
+        assertThat(plan.datastoreRequests()).isEqualTo(3);
+        assertThat(plan.filteredInMemory()).isTrue();
+        assertThat(plan.sortedInMemory()).isFalse();
+        assertThat(plan.limitedInMemory()).isTrue();
+    }
+
+    @Test
+    @DisplayName("let Datastore sort and limit a single query")
+    void singleQuery() {
+        var plan = QueryPlan.byQueries(kind, 1, true, true);
+
+        assertThat(plan.strategy()).isEqualTo(SINGLE_QUERY);
+        assertThat(plan.datastoreRequests()).isEqualTo(1);
+        assertThat(plan.sortedInMemory()).isFalse();
+        assertThat(plan.limitedInMemory()).isFalse();
+    }
+
+    @Test
+    @DisplayName("sort and limit the results of merged queries in memory")
+    void mergedQueries() {
+        var plan = QueryPlan.byQueries(kind, 4, true, true);
+
+        assertThat(plan.strategy()).isEqualTo(MERGED_QUERIES);
+        assertThat(plan.datastoreRequests()).isEqualTo(4);
+        assertThat(plan.filteredInMemory()).isFalse();
+        assertThat(plan.sortedInMemory()).isTrue();
+        assertThat(plan.limitedInMemory()).isTrue();
+        assertThat(plan.toString()).contains("4 Datastore request(s)");
+    }
+
+    @Nested
+    @DisplayName("be reported to `SlowQueryLog` which")
+    class Log {
+
+        @Test
+        @DisplayName("is disabled by default")
+        void disabled() {
+            assertThat(SlowQueryLog.disabled()
+                                   .isEnabled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("is enabled with a threshold")
+        void enabled() {
+            var log = SlowQueryLog.withThreshold(Durations.fromMillis(100));
+            assertThat(log.isEnabled()).isTrue();
+        }
+
+        @Test
+        @DisplayName("rejects a negative threshold")
+        void negativeThreshold() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> SlowQueryLog.withThreshold(Durations.fromMillis(-1)));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.record;
+
+import io.spine.environment.Tests;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.aggregate.AggregateEventRecord;
+import io.spine.server.aggregate.AggregateEventRecordId;
+import io.spine.server.aggregate.AggregateStorageTest;
+import io.spine.server.storage.datastore.DatastoreStorageFactory;
+import io.spine.testing.server.storage.datastore.EmulatorTest;
+import io.spine.testing.server.storage.datastore.TestDatastoreStorageFactory;
+import io.spine.testing.server.storage.datastore.TestDatastores;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+
+/**
+ * Runs the {@code AggregateStorage} test suite against the storage, which reads
+ * the Aggregate history in batches.
+ *
+ * <p>The batch size is deliberately small, so that most of the histories
+ * are read in several batches.
+ */
+@DisplayName("`AggregateStorage` reading history in batches should")
+@EmulatorTest
+final class DsAggregateEventStorageTest extends AggregateStorageTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    private static final TestDatastoreStorageFactory datastoreFactory =
+            TestDatastoreStorageFactory.basedOn(
+                    DatastoreStorageFactory.newBuilder()
+                            .setDatastore(TestDatastores.local())
+                            .useRecordStorage(AggregateEventRecordId.class,
+                                              AggregateEventRecord.class,
+                                              DsAggregateEventStorage.creator(BATCH_SIZE))
+            );
+
+    @BeforeAll
+    static void setUpClass() {
+        datastoreFactory.setUp();
+        ServerEnvironment
+                .when(Tests.class)
+                .useStorageFactory((env) -> datastoreFactory);
+    }
+
+    @AfterEach
+    void tearDownTest() {
+        datastoreFactory.clear();
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        datastoreFactory.tearDown();
+    }
+}
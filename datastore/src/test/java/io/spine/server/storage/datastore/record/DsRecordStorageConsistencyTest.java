@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.record;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.Identifier;
+import io.spine.server.ContextSpec;
+import io.spine.server.storage.RecordStorage;
+import io.spine.server.storage.datastore.DatastoreMetrics;
+import io.spine.server.storage.datastore.DatastoreOperation;
+import io.spine.server.storage.datastore.DatastoreStorageFactory;
+import io.spine.server.storage.datastore.OperationMetrics;
+import io.spine.server.storage.datastore.config.ReadType;
+import io.spine.test.storage.StgProject;
+import io.spine.test.storage.StgProjectId;
+import io.spine.testing.server.storage.datastore.EmulatorTest;
+import io.spine.testing.server.storage.datastore.TestDatastoreStorageFactory;
+import io.spine.testing.server.storage.datastore.TestDatastores;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.storage.datastore.DatastoreOperation.BEGIN;
+import static io.spine.server.storage.datastore.DatastoreOperation.LOOKUP;
+import static io.spine.server.storage.datastore.DatastoreOperation.RUN_QUERY;
+import static io.spine.server.storage.datastore.config.ReadConsistency.EVENTUAL;
+import static io.spine.server.storage.datastore.config.ReadType.BY_KEYS;
+import static io.spine.server.storage.datastore.config.ReadType.GLOBAL_QUERY;
+import static io.spine.server.storage.given.GivenStorageProject.messageSpec;
+
+@DisplayName("`DsRecordStorage` with eventually consistent reads should")
+@EmulatorTest
+final class DsRecordStorageConsistencyTest {
+
+    private final List<OperationMetrics> recorded = new CopyOnWriteArrayList<>();
+    private TestDatastoreStorageFactory factory;
+
+    @AfterEach
+    void tearDown() {
+        if (factory != null) {
+            factory.tearDown();
+        }
+    }
+
+    @Test
+    @DisplayName("look up a record by its key outside of a transaction")
+    void lookUpOutsideTransaction() {
+        var storage = storageReading(BY_KEYS);
+        var project = newProject();
+        storage.write(project.getId(), project);
+        recorded.clear();
+
+        var found = storage.read(project.getId());
+
+        assertThat(found).hasValue(project);
+        assertThat(operations()).doesNotContain(BEGIN);
+        assertThat(operations()).contains(LOOKUP);
+    }
+
+    @Test
+    @DisplayName("return the results of a query")
+    void queryResults() {
+        var storage = storageReading(GLOBAL_QUERY);
+        var first = newProject();
+        var second = newProject();
+        storage.write(first.getId(), first);
+        storage.write(second.getId(), second);
+        recorded.clear();
+
+        var found = ImmutableList.copyOf(storage.readAll());
+
+        assertThat(found).containsExactly(first, second);
+        assertThat(operations()).doesNotContain(BEGIN);
+        assertThat(operations()).contains(RUN_QUERY);
+    }
+
+    private RecordStorage<StgProjectId, StgProject> storageReading(ReadType type) {
+        DatastoreMetrics metrics = recorded::add;
+        var builder = DatastoreStorageFactory.newBuilder()
+                .setDatastore(TestDatastores.local())
+                .setMetrics(metrics)
+                .enableTransactions(StgProject.class)
+                .setReadConsistency(StgProject.class, type, EVENTUAL);
+        factory = TestDatastoreStorageFactory.basedOn(builder);
+        factory.setUp();
+        var spec = ContextSpec.singleTenant(DsRecordStorageConsistencyTest.class.getSimpleName());
+        return factory.createRecordStorage(spec, messageSpec());
+    }
+
+    private ImmutableList<DatastoreOperation> operations() {
+        return recorded.stream()
+                       .map(OperationMetrics::operation)
+                       .collect(ImmutableList.toImmutableList());
+    }
+
+    private static StgProject newProject() {
+        var id = StgProjectId.newBuilder()
+                .setId(Identifier.newUuid())
+                .build();
+        return StgProject.newBuilder()
+                .setId(id)
+                .setName("Eventually read project")
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.record;
+
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.PathElement;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.storage.datastore.record.TxBatches.MAX_ENTITIES_PER_TRANSACTION;
+import static io.spine.server.storage.datastore.record.TxBatches.MAX_ENTITY_GROUPS_PER_TRANSACTION;
+
+@DisplayName("`TxBatches` should")
+final class TxBatchesTest {
+
+    private static final String PROJECT = "tx-batches-test";
+    private static final String KIND = "Record";
+    private static final String PARENT_KIND = "Parent";
+
+    @Test
+    @DisplayName("put the records of a single Entity group into a single batch")
+    void singleGroup() {
+        var keys = childrenOf("shard-1", 100);
+        var batches = TxBatches.split(keys, key -> key);
+        assertThat(batches).containsExactly(keys);
+    }
+
+    @Test
+    @DisplayName("split an Entity group exceeding the transaction size")
+    void largeGroup() {
+        var keys = childrenOf("shard-1", MAX_ENTITIES_PER_TRANSACTION + 1);
+        var batches = TxBatches.split(keys, key -> key);
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(MAX_ENTITIES_PER_TRANSACTION);
+        assertThat(batches.get(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("limit the number of Entity groups per batch")
+    void manyGroups() {
+        var keys = IntStream.range(0, MAX_ENTITY_GROUPS_PER_TRANSACTION + 1)
+                            .mapToObj(TxBatchesTest::rootKey)
+                            .collect(toImmutableList());
+        var batches = TxBatches.split(keys, key -> key);
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(MAX_ENTITY_GROUPS_PER_TRANSACTION);
+        assertThat(batches.get(1)).containsExactly(keys.get(MAX_ENTITY_GROUPS_PER_TRANSACTION));
+    }
+
+    @Test
+    @DisplayName("keep the records of the same Entity group together")
+    void groupRecords() {
+        var first = childrenOf("shard-1", 2);
+        var second = childrenOf("shard-2", 2);
+        var mixed = ImmutableList.of(first.get(0), second.get(0), first.get(1), second.get(1));
+        var batches = TxBatches.split(mixed, key -> key);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0))
+                .containsExactly(first.get(0), first.get(1), second.get(0), second.get(1))
+                .inOrder();
+    }
+
+    private static ImmutableList<Key> childrenOf(String parent, int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> Key.newBuilder(PROJECT, KIND, i + 1L)
+                                          .addAncestor(PathElement.of(PARENT_KIND, parent))
+                                          .build())
+                        .collect(toImmutableList());
+    }
+
+    private static Key rootKey(int index) {
+        return Key.newBuilder(PROJECT, KIND, index + 1L)
+                  .build();
+    }
+}
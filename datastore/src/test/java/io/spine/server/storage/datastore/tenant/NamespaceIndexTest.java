@@ -28,7 +28,10 @@ package io.spine.server.storage.datastore.tenant;
 
 import com.google.cloud.datastore.Datastore;
 import com.google.cloud.datastore.Key;
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.FakeTicker;
 import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.util.Durations;
 import io.spine.base.Identifier;
 import io.spine.core.TenantId;
 import io.spine.environment.Tests;
@@ -52,15 +55,19 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 
 import static com.google.common.base.Throwables.getStackTraceAsString;
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.spine.protobuf.AnyPacker.pack;
 import static io.spine.server.tenant.TenantAwareRunner.with;
 import static io.spine.testing.DisplayNames.NOT_ACCEPT_NULLS;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -73,6 +80,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 final class NamespaceIndexTest {
 
     private static final NamespaceConverterFactory converterFactory = NamespaceConverterFactory.defaults();
+    private static final long REFRESH_INTERVAL_SECONDS = 10L;
 
     private NamespaceIndex namespaceIndex;
     private BoundedContext context;
@@ -276,6 +284,50 @@ final class NamespaceIndexTest {
         }
     }
 
+    @Test
+    @DisplayName("not re-fetch the namespaces for a recently checked unknown namespace")
+    void cacheUnknownNamespaces() {
+        var query = new CountingQuery(key("Vtenant1"));
+        var ticker = new FakeTicker();
+        var index = nsIndexFor(query, ticker);
+        var unknown = Namespace.of(newTenantId(), true);
+
+        assertFalse(index.contains(unknown));
+        assertThat(query.runs).isEqualTo(1);
+
+        assertFalse(index.contains(unknown));
+        assertThat(query.runs).isEqualTo(1);
+
+        ticker.advance(REFRESH_INTERVAL_SECONDS, SECONDS);
+        assertFalse(index.contains(unknown));
+        assertThat(query.runs).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("refresh the namespaces once the refresh interval passes")
+    void refreshNamespaces() {
+        var query = new CountingQuery(key("Vtenant1"));
+        var ticker = new FakeTicker();
+        var index = nsIndexFor(query, ticker);
+
+        assertThat(index.all()).hasSize(1);
+        query.add(key("Vtenant2"));
+        assertThat(index.all()).hasSize(1);
+        assertThat(query.runs).isEqualTo(1);
+
+        ticker.advance(REFRESH_INTERVAL_SECONDS, SECONDS);
+        index.all();
+        assertThat(query.runs).isEqualTo(2);
+        assertThat(index.all()).hasSize(2);
+    }
+
+    private static NamespaceIndex nsIndexFor(NamespaceIndex.NamespaceQuery namespaceQuery,
+                                             FakeTicker ticker) {
+        return new NamespaceIndex(namespaceQuery, true, converterFactory,
+                                  Durations.fromSeconds(REFRESH_INTERVAL_SECONDS),
+                                  ticker, directExecutor());
+    }
+
     private static NamespaceIndex nsIndexFor(NamespaceIndex.NamespaceQuery namespaceQuery) {
         return new NamespaceIndex(namespaceQuery, true, converterFactory);
     }
@@ -290,6 +342,30 @@ final class NamespaceIndexTest {
         return key;
     }
 
+    /**
+     * A namespace query which counts its runs.
+     */
+    private static final class CountingQuery implements NamespaceIndex.NamespaceQuery {
+
+        private final Collection<Key> keys = new ArrayList<>();
+        private int runs = 0;
+
+        private CountingQuery(Key... keys) {
+            this.keys.addAll(Arrays.asList(keys));
+        }
+
+        private void add(Key key) {
+            keys.add(key);
+        }
+
+        @Override
+        public Iterator<Key> run() {
+            runs++;
+            return ImmutableList.copyOf(keys)
+                                .iterator();
+        }
+    }
+
     private static Datastore datastore() {
         var namespace = "Vsome-namespace";
         var options = TestDatastores
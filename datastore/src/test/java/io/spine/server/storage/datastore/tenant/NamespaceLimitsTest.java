@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.datastore.tenant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`NamespaceLimits` should")
+final class NamespaceLimitsTest {
+
+    private static final Namespace BIG_TENANT = Namespace.of("Vbig");
+    private static final Namespace SMALL_TENANT = Namespace.of("Vsmall");
+
+    @Test
+    @DisplayName("reject non-positive limits")
+    void rejectNonPositive() {
+        assertThrows(IllegalArgumentException.class, () -> NamespaceLimits.of(0, false));
+    }
+
+    @Test
+    @DisplayName("not track the requests if unlimited")
+    void unlimited() {
+        var limits = NamespaceLimits.unlimited();
+        var result = limits.call(BIG_TENANT, () -> 42);
+        assertThat(result).isEqualTo(42);
+        assertThat(limits.load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("count the completed requests per namespace")
+    void countCompleted() {
+        var limits = NamespaceLimits.of(2, true);
+        limits.run(BIG_TENANT, () -> {});
+        limits.run(BIG_TENANT, () -> {});
+        limits.run(SMALL_TENANT, () -> {});
+
+        assertThat(limits.loadOf(BIG_TENANT).completed()).isEqualTo(2);
+        assertThat(limits.loadOf(SMALL_TENANT).completed()).isEqualTo(1);
+        assertThat(limits.loadOf(BIG_TENANT).inFlight()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("not let a busy namespace delay the requests of another namespace")
+    void isolateNamespaces() throws InterruptedException {
+        var limits = NamespaceLimits.of(1, true);
+        var started = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.execute(() -> limits.run(BIG_TENANT, () -> {
+                started.countDown();
+                awaitQuietly(finish);
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(limits.loadOf(BIG_TENANT).inFlight()).isEqualTo(1);
+
+            var result = limits.call(SMALL_TENANT, () -> "served");
+            assertThat(result).isEqualTo("served");
+            assertThat(limits.loadOf(SMALL_TENANT).delayed()).isEqualTo(0);
+        } finally {
+            finish.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("serve the waiting requests in the order of arrival if fair")
+    void serveInOrder() throws InterruptedException {
+        var limits = NamespaceLimits.of(1, true);
+        var held = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+        var served = new CopyOnWriteArrayList<String>();
+        var holder = new Thread(() -> limits.run(BIG_TENANT, () -> {
+            held.countDown();
+            awaitQuietly(finish);
+        }));
+        holder.start();
+        assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+        var first = waitingRequest(limits, "first", served);
+        var second = waitingRequest(limits, "second", served);
+        finish.countDown();
+        limits.run(BIG_TENANT, () -> served.add("third"));
+
+        first.join();
+        second.join();
+        holder.join();
+        assertThat(served).containsExactly("first", "second", "third")
+                          .inOrder();
+    }
+
+    /**
+     * Starts a request which adds the given name to {@code served} once it is performed,
+     * and returns when the request is parked waiting for the limit.
+     */
+    private static Thread waitingRequest(NamespaceLimits limits,
+                                         String name,
+                                         List<String> served) {
+        var request = new Thread(() -> limits.run(BIG_TENANT, () -> served.add(name)));
+        request.start();
+        while (request.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        return request;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+}
@@ -178,6 +178,13 @@ final class NamespaceTest {
         assertEquals(expectedId, actualId);
     }
 
+    @Test
+    @DisplayName("escape the `@` symbols")
+    void escapeAtSymbols() {
+        var namespace = Namespace.of("@user@example.com@");
+        assertEquals("-at-user-at-example.com-at-", namespace.value());
+    }
+
     private static void checkConstructFromKey(String ns, boolean multitenant) {
         var key = Key.newBuilder("my-simple-project", "any.kind", ns)
                 .build();
@@ -25,10 +25,26 @@
  */
 
 import io.spine.dependency.lib.GoogleCloud
+import io.spine.dependency.lib.Gson
+import io.spine.dependency.test.Testcontainers
 
 dependencies {
     // Google Cloud Pubsub protos
     api(GoogleCloud.pubSubGrpcApi)
+
+    // The Pub/Sub client, used by the publishing and subscribing transport.
+    api(GoogleCloud.pubSub)
+
+    // The Datastore client, used to deduplicate the redelivered messages.
+    api(GoogleCloud.datastore)
+
+    // Streaming parser of the JSON bodies of the push requests.
+    implementation(Gson.lib)
+
+    // The Pub/Sub emulator, and the in-memory Datastore for the deduplication tests.
+    testImplementation(Testcontainers.lib)
+    testImplementation(Testcontainers.gcloud)
+    testImplementation(project(":testlib"))
 }
 
 tasks {
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.protobuf.Message;
+import com.google.pubsub.v1.PubsubMessage;
+import io.grpc.stub.StreamObserver;
+import io.spine.core.Ack;
+import io.spine.core.Command;
+import io.spine.core.Event;
+import io.spine.logging.WithLogging;
+import io.spine.server.BoundedContext;
+import org.jspecify.annotations.Nullable;
+
+import static io.spine.pubsub.push.PushOutcome.DISPATCHED;
+import static io.spine.pubsub.push.PushOutcome.REJECTED;
+import static java.lang.String.format;
+
+/**
+ * Posts the pushed commands and events to the buses of a Bounded Context.
+ *
+ * @see PushDispatcher#to(BoundedContext)
+ */
+final class ContextDispatcher implements PushDispatcher, WithLogging {
+
+    private final BoundedContext context;
+
+    ContextDispatcher(BoundedContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public PushOutcome dispatch(Message message, PubsubMessage origin) throws Exception {
+        var observer = new AckObserver();
+        if (message instanceof Command) {
+            context.commandBus()
+                   .post((Command) message, observer);
+        } else if (message instanceof Event) {
+            context.eventBus()
+                   .post((Event) message, observer);
+        } else {
+            logger().atWarning()
+                    .log(() -> format(
+                            "The message `%s` of type `%s` is neither a command nor an event.",
+                            origin.getMessageId(), message.getClass()
+                                                          .getName()));
+            return REJECTED;
+        }
+        return observer.outcome(origin);
+    }
+
+    /**
+     * Captures the acknowledgement of a posted message.
+     */
+    private final class AckObserver implements StreamObserver<Ack> {
+
+        private @Nullable Ack ack;
+        private @Nullable Throwable error;
+
+        @Override
+        public void onNext(Ack value) {
+            ack = value;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {
+            // Nothing to do.
+        }
+
+        private PushOutcome outcome(PubsubMessage origin) throws Exception {
+            if (error != null) {
+                if (error instanceof Exception) {
+                    throw (Exception) error;
+                }
+                throw new IllegalStateException(error);
+            }
+            if (ack != null && ack.getStatus()
+                                  .hasError()) {
+                var reason = ack.getStatus()
+                                .getError()
+                                .getMessage();
+                logger().atWarning()
+                        .log(() -> format("The message `%s` is rejected: %s",
+                                          origin.getMessageId(), reason));
+                return REJECTED;
+            }
+            return DISPATCHED;
+        }
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.DatastoreException;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.KeyFactory;
+import com.google.cloud.datastore.LongValue;
+import com.google.cloud.datastore.Query;
+import com.google.cloud.datastore.StructuredQuery.PropertyFilter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import com.google.pubsub.v1.PubsubMessage;
+import com.google.rpc.Code;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.base.Time.currentTime;
+import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
+import static java.lang.String.format;
+
+/**
+ * The {@link Deduplication} which keeps the claims of the messages in Datastore.
+ *
+ * <p>A message is claimed by inserting an entity named after the message. The entity
+ * holds the time, until which the claim lasts. Once the message is handled, the entity
+ * is replaced with the one with no properties. Should the entity already exist,
+ * the message is a redelivery. It is acknowledged as a duplicate if the message
+ * is handled, and is not acknowledged while the claim lasts. Once the claim expires,
+ * the message is claimed again. The properties of the entity are not indexed,
+ * so that the claim costs a single write with no index updates.
+ *
+ * <p>The entity names start with the {@linkplain Builder#setWindow(Duration) time window},
+ * in which the message was published, followed by the message ID. As a redelivered
+ * message keeps its publishing time, its entity name stays the same. The names of
+ * older windows sort before the names of newer ones, so the claims of the messages
+ * published long ago are {@linkplain #purgeBefore(Timestamp) purged} by a keys-only
+ * query over a range of keys.
+ *
+ * <p>The recently handled messages are also remembered locally. The redeliveries
+ * of such messages are detected without calling Datastore.
+ *
+ * <p>The message IDs are unique within a Pub/Sub topic. If there are several
+ * subscriptions deduplicated in the same Datastore namespace, each of them should use
+ * its own {@linkplain Builder#setKind(String) kind}.
+ */
+public final class DatastoreDeduplication implements Deduplication {
+
+    private static final int MAX_KEYS_PER_DELETE = 500;
+
+    /**
+     * The property of the claim entity, which holds the time in milliseconds,
+     * until which the claim lasts.
+     *
+     * <p>The entities of the handled messages do not have it.
+     */
+    private static final String CLAIMED_UNTIL = "claimedUntil";
+
+    private final Datastore datastore;
+    private final KeyFactory keyFactory;
+    private final String kind;
+    private final long windowSeconds;
+    private final Duration claimTimeout;
+    private final Cache<String, Boolean> handled;
+
+    /**
+     * The claims made by this instance, which are neither completed nor released yet.
+     *
+     * <p>Maps the name of a claim entity to the value of its {@link #CLAIMED_UNTIL} property.
+     */
+    private final Map<String, Long> ownClaims = new ConcurrentHashMap<>();
+
+    private DatastoreDeduplication(Builder builder) {
+        this.datastore = builder.datastore;
+        this.kind = builder.kind;
+        this.keyFactory = datastore.newKeyFactory()
+                                   .setKind(kind);
+        this.windowSeconds = Durations.toSeconds(builder.window);
+        this.claimTimeout = builder.claimTimeout;
+        this.handled = CacheBuilder.newBuilder()
+                                   .maximumSize(builder.localCapacity)
+                                   .build();
+    }
+
+    /**
+     * Creates a new builder of the deduplication on top of the given Datastore.
+     */
+    public static Builder newBuilder(Datastore datastore) {
+        checkNotNull(datastore);
+        return new Builder(datastore);
+    }
+
+    @Override
+    public Claim claim(PubsubMessage message) {
+        checkNotNull(message);
+        var name = nameOf(message);
+        if (handled.getIfPresent(name) != null) {
+            return Claim.HANDLED;
+        }
+        var key = keyFactory.newKey(name);
+        try {
+            var claim = claimOf(key);
+            datastore.add(claim);
+            remember(claim);
+            return Claim.CLAIMED;
+        } catch (DatastoreException e) {
+            if (e.getCode() != Code.ALREADY_EXISTS_VALUE) {
+                throw e;
+            }
+        }
+        return reclaim(key);
+    }
+
+    /**
+     * Checks the existing claim of the message, and claims the message again,
+     * if the claim has expired.
+     */
+    private Claim reclaim(Key key) {
+        var tx = datastore.newTransaction();
+        try {
+            var existing = tx.get(key);
+            if (existing != null && !existing.contains(CLAIMED_UNTIL)) {
+                handled.put(key.getName(), Boolean.TRUE);
+                return Claim.HANDLED;
+            }
+            if (existing != null && existing.getLong(CLAIMED_UNTIL) > now()) {
+                return Claim.IN_PROGRESS;
+            }
+            var claim = claimOf(key);
+            tx.put(claim);
+            tx.commit();
+            remember(claim);
+            return Claim.CLAIMED;
+        } catch (DatastoreException e) {
+            if (e.getCode() == Code.ABORTED_VALUE) {
+                // Another delivery of the message has claimed it concurrently.
+                return Claim.IN_PROGRESS;
+            }
+            throw e;
+        } finally {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+        }
+    }
+
+    @Override
+    public void complete(PubsubMessage message) {
+        checkNotNull(message);
+        var name = nameOf(message);
+        datastore.put(Entity.newBuilder(keyFactory.newKey(name))
+                            .build());
+        ownClaims.remove(name);
+        handled.put(name, Boolean.TRUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Deletes the claim only if it is still the one made by this instance. Once the claim
+     * expires, another delivery of the message may claim it again, and such a claim
+     * is left intact.
+     */
+    @Override
+    public void release(PubsubMessage message) {
+        checkNotNull(message);
+        var name = nameOf(message);
+        handled.invalidate(name);
+        var claimedUntil = ownClaims.remove(name);
+        if (claimedUntil != null) {
+            deleteIfUnchanged(keyFactory.newKey(name), claimedUntil);
+        }
+    }
+
+    private void deleteIfUnchanged(Key key, long claimedUntil) {
+        var tx = datastore.newTransaction();
+        try {
+            var existing = tx.get(key);
+            if (existing != null
+                    && existing.contains(CLAIMED_UNTIL)
+                    && existing.getLong(CLAIMED_UNTIL) == claimedUntil) {
+                tx.delete(key);
+                tx.commit();
+            }
+        } catch (DatastoreException e) {
+            if (e.getCode() != Code.ABORTED_VALUE) {
+                throw e;
+            }
+            // The claim has been changed concurrently, so it is no longer ours to release.
+        } finally {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+        }
+    }
+
+    private void remember(Entity claim) {
+        ownClaims.put(claim.getKey()
+                           .getName(), claim.getLong(CLAIMED_UNTIL));
+    }
+
+    private Entity claimOf(Key key) {
+        var until = now() + Durations.toMillis(claimTimeout);
+        return Entity.newBuilder(key)
+                     .set(CLAIMED_UNTIL, LongValue.newBuilder(until)
+                                                  .setExcludeFromIndexes(true)
+                                                  .build())
+                     .build();
+    }
+
+    private static long now() {
+        return Timestamps.toMillis(currentTime());
+    }
+
+    /**
+     * Deletes the claims of the messages published before the time window,
+     * which includes the given time.
+     *
+     * <p>The redeliveries of such messages are no longer detected. Thus, the time should be
+     * well before the end of the message retention period of the subscription.
+     *
+     * <p>The claims are read and deleted page by page. As each page is deleted before
+     * the next one is read, every page is read from the start of the key range.
+     *
+     * @return the number of the deleted claims
+     */
+    @CanIgnoreReturnValue
+    public int purgeBefore(Timestamp time) {
+        checkNotNull(time);
+        var bound = keyFactory.newKey(windowOf(time));
+        var query = Query.newKeyQueryBuilder()
+                         .setKind(kind)
+                         .setFilter(PropertyFilter.lt("__key__", bound))
+                         .setLimit(MAX_KEYS_PER_DELETE)
+                         .build();
+        var purged = 0;
+        ImmutableList<Key> page;
+        do {
+            page = ImmutableList.copyOf(datastore.run(query));
+            if (!page.isEmpty()) {
+                datastore.delete(page.toArray(new Key[0]));
+                purged += page.size();
+            }
+        } while (page.size() == MAX_KEYS_PER_DELETE);
+        return purged;
+    }
+
+    private String nameOf(PubsubMessage message) {
+        return windowOf(message.getPublishTime()) + '/' + message.getMessageId();
+    }
+
+    /**
+     * Returns the zero-padded hexadecimal number of the time window, so that
+     * the numbers sort in the same order as the strings.
+     */
+    private String windowOf(Timestamp time) {
+        return format("%08x", time.getSeconds() / windowSeconds);
+    }
+
+    /**
+     * A builder of {@code DatastoreDeduplication} instances.
+     */
+    public static final class Builder {
+
+        private static final String DEFAULT_KIND = "PubsubMessageClaim";
+        private static final Duration DEFAULT_WINDOW = Durations.fromHours(1);
+        private static final long DEFAULT_LOCAL_CAPACITY = 100_000L;
+        private static final Duration DEFAULT_CLAIM_TIMEOUT = Durations.fromMinutes(10);
+
+        private final Datastore datastore;
+        private String kind = DEFAULT_KIND;
+        private Duration window = DEFAULT_WINDOW;
+        private long localCapacity = DEFAULT_LOCAL_CAPACITY;
+        private Duration claimTimeout = DEFAULT_CLAIM_TIMEOUT;
+
+        private Builder(Datastore datastore) {
+            this.datastore = datastore;
+        }
+
+        /**
+         * Sets the kind of the claim entities.
+         *
+         * <p>Default value is {@code PubsubMessageClaim}.
+         */
+        @CanIgnoreReturnValue
+        public Builder setKind(String kind) {
+            checkNotEmptyOrBlank(kind);
+            checkArgument(!kind.startsWith("__"), "The kind must not start with `__`.");
+            this.kind = kind;
+            return this;
+        }
+
+        /**
+         * Sets the length of the time windows, by which the claims are purged.
+         *
+         * <p>Default value is 1 hour.
+         */
+        @CanIgnoreReturnValue
+        public Builder setWindow(Duration window) {
+            checkNotNull(window);
+            checkArgument(Durations.toSeconds(window) > 0,
+                          "The window must be at least one second long.");
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets the time, after which the claim of a message, which is neither handled
+         * nor released, expires.
+         *
+         * <p>Should be longer than it takes to dispatch a message. Until the claim expires,
+         * the redeliveries of the message are not acknowledged.
+         *
+         * <p>Default value is 10 minutes.
+         */
+        @CanIgnoreReturnValue
+        public Builder setClaimTimeout(Duration timeout) {
+            checkNotNull(timeout);
+            checkArgument(Durations.toMillis(timeout) > 0, "The timeout must be positive.");
+            this.claimTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets the number of the recently handled messages remembered locally.
+         *
+         * <p>Default value is 100,000.
+         */
+        @CanIgnoreReturnValue
+        public Builder setLocalCapacity(long capacity) {
+            checkArgument(capacity >= 0, "The capacity must not be negative.");
+            this.localCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Creates a new deduplication.
+         */
+        public DatastoreDeduplication build() {
+            return new DatastoreDeduplication(this);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.pubsub.v1.PubsubMessage;
+
+/**
+ * Detects the messages delivered by Pub/Sub more than once.
+ *
+ * <p>Pub/Sub delivers each message at least once. Before dispatching a message,
+ * the {@link PushEndpoint} claims it. Once the message is dispatched, the claim is
+ * {@linkplain #complete(PubsubMessage) completed}, and the further deliveries of
+ * the message are acknowledged without dispatching. If the dispatching fails, the claim
+ * is {@linkplain #release(PubsubMessage) released}, so that the next delivery
+ * of the message is dispatched.
+ *
+ * <p>The deliveries of a message, which is claimed, but not yet handled, are not
+ * acknowledged until the claim expires. Thus, a message is not lost, even if its claim
+ * is neither completed nor released, e.g. since the process stopped while dispatching it.
+ */
+public interface Deduplication {
+
+    /**
+     * Claims the given message for dispatching.
+     */
+    Claim claim(PubsubMessage message);
+
+    /**
+     * Marks the claimed message as handled.
+     */
+    void complete(PubsubMessage message);
+
+    /**
+     * Releases the claim of the message, which failed to be dispatched.
+     */
+    void release(PubsubMessage message);
+
+    /**
+     * Returns the deduplication, which treats each delivery as a new message.
+     */
+    static Deduplication none() {
+        return NoDeduplication.INSTANCE;
+    }
+}
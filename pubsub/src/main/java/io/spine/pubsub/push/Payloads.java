@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.pubsub.v1.PubsubMessage;
+import io.spine.protobuf.AnyPacker;
+
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Converts the Spine messages to the data of the Pub/Sub messages, and back.
+ *
+ * <p>The data of a message is a serialized {@link Any}, which packs the Spine message,
+ * such as a {@link io.spine.core.Command Command} or an {@link io.spine.core.Event Event}.
+ *
+ * <p>The data may be compressed with GZIP. In this case, the message has
+ * the {@value #CONTENT_ENCODING} attribute set to {@value #GZIP}.
+ */
+public final class Payloads {
+
+    /**
+     * The attribute of a Pub/Sub message, which tells how its data is encoded.
+     */
+    public static final String CONTENT_ENCODING = "content-encoding";
+
+    /**
+     * The value of the {@value #CONTENT_ENCODING} attribute for the compressed data.
+     */
+    public static final String GZIP = "gzip";
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private Payloads() {
+    }
+
+    /**
+     * Packs the given Spine message into a new Pub/Sub message.
+     *
+     * @param message
+     *         the message to pack
+     * @param compressionThreshold
+     *         the size of the packed message in bytes, starting from which it is compressed;
+     *         {@code Integer.MAX_VALUE} turns the compression off
+     * @return the builder of the Pub/Sub message with the data and the attributes set
+     */
+    public static PubsubMessage.Builder pack(Message message, int compressionThreshold) {
+        checkNotNull(message);
+        checkArgument(compressionThreshold >= 0,
+                      "The compression threshold must not be negative.");
+        var data = AnyPacker.pack(message)
+                            .toByteString();
+        var result = PubsubMessage.newBuilder();
+        if (data.size() >= compressionThreshold) {
+            result.setData(compress(data))
+                  .putAttributes(CONTENT_ENCODING, GZIP);
+        } else {
+            result.setData(data);
+        }
+        return result;
+    }
+
+    private static ByteString compress(ByteString data) {
+        var output = ByteString.newOutput(data.size() / 2);
+        try (var gzip = new GZIPOutputStream(output)) {
+            data.writeTo(gzip);
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to compress the message.");
+        }
+        return output.toByteString();
+    }
+
+    /**
+     * Unpacks the Spine message from the data of the given Pub/Sub message.
+     *
+     * <p>Unless the data is compressed, the bytes of the packed message are not copied out
+     * of the message data while parsing the enclosing {@code Any}.
+     *
+     * @throws IllegalArgumentException
+     *         if the data is not a packed message of a known type
+     */
+    public static Message unpack(PubsubMessage message) {
+        checkNotNull(message);
+        Any any;
+        try {
+            any = parseAny(message);
+        } catch (IOException e) {
+            throw newIllegalArgumentException(
+                    e, "The data of the message `%s` is not a packed message.",
+                    message.getMessageId());
+        }
+        try {
+            return AnyPacker.unpack(any);
+        } catch (RuntimeException e) {
+            throw newIllegalArgumentException(
+                    e, "Unable to unpack the message `%s` of type `%s`.",
+                    message.getMessageId(), any.getTypeUrl());
+        }
+    }
+
+    private static Any parseAny(PubsubMessage message) throws IOException {
+        var data = message.getData();
+        if (GZIP.equals(message.getAttributesOrDefault(CONTENT_ENCODING, ""))) {
+            try (var input = new GZIPInputStream(data.newInput())) {
+                return Any.parseFrom(input);
+            }
+        }
+        var input = data.newCodedInput();
+        input.enableAliasing(true);
+        return Any.parseFrom(input);
+    }
+}
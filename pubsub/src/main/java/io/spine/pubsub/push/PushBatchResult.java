@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * The outcomes of handling a batch of the Pub/Sub push requests.
+ *
+ * <p>The outcomes are mapped by the IDs of the pushed messages.
+ */
+public final class PushBatchResult {
+
+    private final ImmutableMap<String, PushOutcome> outcomes;
+
+    PushBatchResult(Map<String, PushOutcome> outcomes) {
+        this.outcomes = ImmutableMap.copyOf(outcomes);
+    }
+
+    /**
+     * Returns the outcome of handling the message with the given ID.
+     *
+     * @throws IllegalArgumentException
+     *         if there was no message with such an ID in the batch
+     */
+    public PushOutcome outcome(String messageId) {
+        checkNotNull(messageId);
+        var outcome = outcomes.get(messageId);
+        if (outcome == null) {
+            throw newIllegalArgumentException(
+                    "There was no message `%s` in the batch.", messageId);
+        }
+        return outcome;
+    }
+
+    /**
+     * Returns the IDs of the messages which should be acknowledged.
+     */
+    public ImmutableSet<String> acknowledged() {
+        return idsWhere(true);
+    }
+
+    /**
+     * Returns the IDs of the messages which should not be acknowledged,
+     * so that Pub/Sub delivers them again.
+     */
+    public ImmutableSet<String> unacknowledged() {
+        return idsWhere(false);
+    }
+
+    /**
+     * Tells if all messages of the batch should be acknowledged.
+     */
+    public boolean allAcknowledged() {
+        return outcomes.values()
+                       .stream()
+                       .allMatch(PushOutcome::isAcknowledged);
+    }
+
+    private ImmutableSet<String> idsWhere(boolean acknowledged) {
+        return outcomes.entrySet()
+                       .stream()
+                       .filter(e -> e.getValue().isAcknowledged() == acknowledged)
+                       .map(Map.Entry::getKey)
+                       .collect(toImmutableSet());
+    }
+
+    @Override
+    public String toString() {
+        return outcomes.toString();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.protobuf.Message;
+import com.google.pubsub.v1.PubsubMessage;
+import io.spine.server.BoundedContext;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Dispatches the messages received from Pub/Sub.
+ *
+ * <p>A dispatcher reports the messages, which cannot ever be dispatched, by returning
+ * {@link PushOutcome#REJECTED REJECTED}. A failure, which may be temporary, is reported
+ * by throwing an exception, so that Pub/Sub delivers the message again.
+ */
+@FunctionalInterface
+public interface PushDispatcher {
+
+    /**
+     * Dispatches the given message.
+     *
+     * @param message
+     *         the Spine message unpacked from the Pub/Sub message
+     * @param origin
+     *         the Pub/Sub message
+     * @return either {@link PushOutcome#DISPATCHED DISPATCHED}
+     *         or {@link PushOutcome#REJECTED REJECTED}
+     * @throws Exception
+     *         if the message could not be dispatched, but may be dispatched later
+     */
+    PushOutcome dispatch(Message message, PubsubMessage origin) throws Exception;
+
+    /**
+     * Creates a dispatcher which posts the commands and the events to the given
+     * Bounded Context.
+     *
+     * <p>The commands are posted to the command bus of the context, and the events
+     * are posted to its event bus. The other messages are rejected. So are the messages
+     * which the buses acknowledge with an error.
+     */
+    static PushDispatcher to(BoundedContext context) {
+        checkNotNull(context);
+        return new ContextDispatcher(context);
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Message;
+import com.google.pubsub.v1.PubsubMessage;
+import io.spine.logging.WithLogging;
+import io.spine.pubsub.PubsubPushRequest;
+import io.spine.server.BoundedContext;
+import org.jspecify.annotations.Nullable;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.pubsub.push.PushOutcome.DUPLICATE;
+import static io.spine.pubsub.push.PushOutcome.FAILED;
+import static io.spine.pubsub.push.PushOutcome.REJECTED;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+
+/**
+ * Handles the Pub/Sub push requests by dispatching the pushed messages to
+ * a Bounded Context.
+ *
+ * <p>The endpoint is meant to be called from an HTTP handler of the push subscription,
+ * which responds with the {@linkplain PushOutcome#httpStatus() status} of the outcome:
+ * <pre>{@code
+ * var endpoint = PushEndpoint.newBuilder()
+ *         .setContext(context)
+ *         .setParallelism(16)
+ *         .build();
+ * ...
+ * var outcome = endpoint.handle(httpRequest.getInputStream());
+ * httpResponse.setStatus(outcome.httpStatus());
+ * }</pre>
+ *
+ * <p>The number of the messages dispatched at the same time is limited by
+ * the {@linkplain Builder#setParallelism(int) parallelism} of the endpoint. Once the limit
+ * is reached, the callers are blocked until some dispatching completes. This way,
+ * the endpoint does not accumulate more work than the Bounded Context is able to handle.
+ *
+ * <p>The requests may be {@linkplain #submit(PubsubPushRequest) submitted} to be handled
+ * asynchronously, or {@linkplain #handleAll(Collection) handled in batches}, for those
+ * HTTP servers which gather the concurrent requests together.
+ *
+ * <p>Pub/Sub delivers each message at least once. To avoid dispatching the redelivered
+ * messages, the endpoint may be given a {@linkplain Builder#setDeduplication(Deduplication)
+ * deduplication}. The message is claimed before it is dispatched. If the dispatching fails,
+ * the claim is released, so that the message is dispatched once Pub/Sub delivers it again.
+ */
+public final class PushEndpoint implements AutoCloseable, WithLogging {
+
+    private final PushDispatcher dispatcher;
+    private final Deduplication deduplication;
+    private final int parallelism;
+    private final Semaphore permits;
+
+    /**
+     * The threads handling the submitted requests.
+     *
+     * <p>Created upon the first submitted request, so that the endpoint handling
+     * the requests only in the calling threads does not start any.
+     */
+    private @Nullable ExecutorService executor;
+    private boolean closed;
+
+    private PushEndpoint(Builder builder) {
+        this.dispatcher = checkNotNull(builder.dispatcher);
+        this.deduplication = builder.deduplication;
+        this.parallelism = builder.parallelism;
+        this.permits = new Semaphore(builder.parallelism);
+    }
+
+    /**
+     * Creates a new builder of the endpoint.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Parses the body of an HTTP push request and handles the request
+     * in the calling thread.
+     *
+     * <p>A malformed body is {@linkplain PushOutcome#REJECTED rejected}.
+     */
+    public PushOutcome handle(InputStream body) {
+        checkNotNull(body);
+        PubsubPushRequest request;
+        try {
+            request = PushRequests.parse(body);
+        } catch (IllegalArgumentException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> "Rejecting a malformed push request.");
+            return REJECTED;
+        }
+        return handle(request);
+    }
+
+    /**
+     * Handles the push request in the calling thread.
+     */
+    public PushOutcome handle(PubsubPushRequest request) {
+        checkNotNull(request);
+        acquire();
+        try {
+            return dispatch(request);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Submits the push request to be handled asynchronously.
+     *
+     * <p>Blocks the calling thread while the endpoint is dispatching as many messages
+     * as its parallelism allows.
+     */
+    public CompletableFuture<PushOutcome> submit(PubsubPushRequest request) {
+        checkNotNull(request);
+        var executor = executor();
+        acquire();
+        try {
+            return CompletableFuture.supplyAsync(() -> dispatchAndRelease(request), executor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw newIllegalStateException(e, "The push endpoint is closed.");
+        }
+    }
+
+    /**
+     * Handles the batch of the push requests concurrently, and waits until all of them
+     * are handled.
+     */
+    public PushBatchResult handleAll(Collection<PubsubPushRequest> requests) {
+        checkNotNull(requests);
+        var futures = requests.stream()
+                              .map(this::submit)
+                              .collect(toImmutableList());
+        Map<String, PushOutcome> outcomes = new LinkedHashMap<>();
+        var iterator = requests.iterator();
+        for (var future : futures) {
+            var messageId = iterator.next()
+                                    .getMessage()
+                                    .getMessageId();
+            var outcome = future.join();
+            outcomes.merge(messageId, outcome, PushEndpoint::worse);
+        }
+        return new PushBatchResult(outcomes);
+    }
+
+    private static PushOutcome worse(PushOutcome first, PushOutcome second) {
+        return first.isAcknowledged() ? second : first;
+    }
+
+    private PushOutcome dispatchAndRelease(PubsubPushRequest request) {
+        try {
+            return dispatch(request);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private PushOutcome dispatch(PubsubPushRequest request) {
+        var origin = request.getMessage();
+        var messageId = origin.getMessageId();
+        Claim claim;
+        try {
+            claim = deduplication.claim(origin);
+        } catch (RuntimeException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> format("Unable to claim the message `%s`." +
+                                              " It will be delivered again.", messageId));
+            return FAILED;
+        }
+        if (claim == Claim.HANDLED) {
+            return DUPLICATE;
+        }
+        if (claim == Claim.IN_PROGRESS) {
+            logger().atDebug()
+                    .log(() -> format("The message `%s` is being dispatched." +
+                                              " It will be delivered again.", messageId));
+            return FAILED;
+        }
+        var outcome = unpackAndDispatch(request);
+        if (outcome.isAcknowledged()) {
+            complete(origin);
+        } else {
+            release(origin);
+        }
+        return outcome;
+    }
+
+    private PushOutcome unpackAndDispatch(PubsubPushRequest request) {
+        var origin = request.getMessage();
+        var messageId = origin.getMessageId();
+        Message message;
+        try {
+            message = Payloads.unpack(origin);
+        } catch (IllegalArgumentException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> format("Rejecting the message `%s` from `%s`.",
+                                      messageId, request.getSubscription()));
+            return REJECTED;
+        }
+        try {
+            return dispatcher.dispatch(message, origin);
+        } catch (Exception e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> format("Unable to dispatch the message `%s`." +
+                                              " It will be delivered again.", messageId));
+            return FAILED;
+        }
+    }
+
+    /**
+     * Marks the message as handled, so that its redeliveries are not dispatched.
+     *
+     * <p>If the message cannot be marked, its claim expires, and a redelivery
+     * may be dispatched again.
+     */
+    private void complete(PubsubMessage message) {
+        try {
+            deduplication.complete(message);
+        } catch (RuntimeException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> format("Unable to mark the message `%s` as handled." +
+                                              " Its redelivery may be dispatched again.",
+                                      message.getMessageId()));
+        }
+    }
+
+    /**
+     * Releases the claim of the message, which is going to be delivered again.
+     *
+     * <p>If the claim cannot be released, the redeliveries of the message are not
+     * acknowledged until the claim expires.
+     */
+    private void release(PubsubMessage message) {
+        try {
+            deduplication.release(message);
+        } catch (RuntimeException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> format("Unable to release the claim of the message `%s`." +
+                                              " Its redelivery will be dispatched once" +
+                                              " the claim expires.",
+                                      message.getMessageId()));
+        }
+    }
+
+    private synchronized ExecutorService executor() {
+        checkState(!closed, "The push endpoint is closed.");
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(
+                    parallelism,
+                    new ThreadFactoryBuilder().setNameFormat("pubsub-push-%d")
+                                              .setDaemon(true)
+                                              .build());
+        }
+        return executor;
+    }
+
+    private void acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw newIllegalStateException(e, "Interrupted while awaiting the dispatching.");
+        }
+    }
+
+    /**
+     * Stops the endpoint.
+     *
+     * <p>The messages which are being dispatched are completed.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * A builder of {@code PushEndpoint} instances.
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_PARALLELISM = 8;
+
+        private @Nullable PushDispatcher dispatcher;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private Deduplication deduplication = Deduplication.none();
+
+        /**
+         * Prevents direct instantiation.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the Bounded Context to dispatch the messages to.
+         *
+         * @see PushDispatcher#to(BoundedContext)
+         */
+        @CanIgnoreReturnValue
+        public Builder setContext(BoundedContext context) {
+            checkNotNull(context);
+            return setDispatcher(PushDispatcher.to(context));
+        }
+
+        /**
+         * Sets the custom dispatcher of the messages.
+         */
+        @CanIgnoreReturnValue
+        public Builder setDispatcher(PushDispatcher dispatcher) {
+            this.dispatcher = checkNotNull(dispatcher);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the messages dispatched at the same time.
+         *
+         * <p>Default value is 8.
+         */
+        @CanIgnoreReturnValue
+        public Builder setParallelism(int parallelism) {
+            checkArgument(parallelism > 0, "The parallelism must be positive.");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the deduplication of the redelivered messages.
+         *
+         * <p>By default, the messages are not deduplicated.
+         */
+        @CanIgnoreReturnValue
+        public Builder setDeduplication(Deduplication deduplication) {
+            this.deduplication = checkNotNull(deduplication);
+            return this;
+        }
+
+        /**
+         * Creates a new endpoint.
+         *
+         * @throws IllegalStateException
+         *         if neither the context nor the dispatcher is set
+         */
+        public PushEndpoint build() {
+            checkState(dispatcher != null,
+                       "Either the Bounded Context or the dispatcher must be set.");
+            return new PushEndpoint(this);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+/**
+ * The outcome of handling a Pub/Sub push request.
+ *
+ * <p>Tells whether the message should be acknowledged, and which HTTP status
+ * the push endpoint should respond with.
+ */
+public enum PushOutcome {
+
+    /**
+     * The message was dispatched to the Bounded Context.
+     */
+    DISPATCHED(true),
+
+    /**
+     * The message cannot ever be dispatched, e.g. since it is malformed, or the Bounded
+     * Context rejected it as invalid.
+     *
+     * <p>Such a message is acknowledged, so that Pub/Sub does not deliver it again.
+     */
+    REJECTED(true),
+
+    /**
+     * The message was already handled, and Pub/Sub delivered it again.
+     *
+     * <p>Such a message is acknowledged without dispatching it again.
+     */
+    DUPLICATE(true),
+
+    /**
+     * The message was not dispatched due to a failure, which may be temporary, or since
+     * it is being dispatched after another delivery of it.
+     *
+     * <p>Such a message is not acknowledged, so that Pub/Sub delivers it again.
+     */
+    FAILED(false);
+
+    /**
+     * The HTTP status which acknowledges a pushed message.
+     */
+    private static final int NO_CONTENT = 204;
+
+    /**
+     * The HTTP status which makes Pub/Sub deliver the message again.
+     */
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final boolean acknowledged;
+
+    PushOutcome(boolean acknowledged) {
+        this.acknowledged = acknowledged;
+    }
+
+    /**
+     * Tells if the message should be acknowledged.
+     */
+    public boolean isAcknowledged() {
+        return acknowledged;
+    }
+
+    /**
+     * Returns the HTTP status, with which the push endpoint should respond.
+     */
+    public int httpStatus() {
+        return acknowledged ? NO_CONTENT : SERVICE_UNAVAILABLE;
+    }
+}
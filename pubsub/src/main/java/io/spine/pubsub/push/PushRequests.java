@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.util.Timestamps;
+import com.google.pubsub.v1.PubsubMessage;
+import io.spine.pubsub.PubsubPushRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.text.ParseException;
+import java.util.Base64;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Parses the JSON bodies of the Pub/Sub push requests.
+ *
+ * <p>The body is read in a streaming fashion, without building a JSON tree. The message
+ * data is decoded from Base64 once, and the decoded bytes are
+ * {@linkplain UnsafeByteOperations#unsafeWrap(byte[]) wrapped} into the resulting
+ * {@code ByteString} without copying.
+ *
+ * <p>The Pub/Sub service sends some fields of the message twice, in the camel case and
+ * in the snake case, e.g. {@code messageId} and {@code message_id}. Both forms are
+ * accepted. The fields unknown to the parser, such as {@code deliveryAttempt}, are skipped.
+ */
+public final class PushRequests {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private PushRequests() {
+    }
+
+    /**
+     * Parses the push request from the given JSON.
+     *
+     * @throws IllegalArgumentException
+     *         if the JSON is not a valid push request
+     */
+    public static PubsubPushRequest parse(String json) {
+        checkNotNull(json);
+        return parse(new StringReader(json));
+    }
+
+    /**
+     * Parses the push request from the given UTF-8 encoded body of an HTTP request.
+     *
+     * <p>The stream is not closed.
+     *
+     * @throws IllegalArgumentException
+     *         if the body is not a valid push request
+     */
+    public static PubsubPushRequest parse(InputStream body) {
+        checkNotNull(body);
+        return parse(new InputStreamReader(body, UTF_8));
+    }
+
+    /**
+     * Parses the push request from the given JSON body.
+     *
+     * <p>The reader is not closed.
+     *
+     * @throws IllegalArgumentException
+     *         if the body is not a valid push request
+     */
+    public static PubsubPushRequest parse(Reader body) {
+        checkNotNull(body);
+        try {
+            var reader = new JsonReader(body);
+            return readRequest(reader);
+        } catch (IOException | IllegalStateException | ParseException e) {
+            throw newIllegalArgumentException(e, "Malformed Pub/Sub push request.");
+        }
+    }
+
+    private static PubsubPushRequest readRequest(JsonReader reader)
+            throws IOException, ParseException {
+        var request = PubsubPushRequest.newBuilder();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            var name = reader.nextName();
+            if (skippedNull(reader)) {
+                continue;
+            }
+            switch (name) {
+                case "message":
+                    request.setMessage(readMessage(reader));
+                    break;
+                case "subscription":
+                    request.setSubscription(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (!request.hasMessage()) {
+            throw newIllegalArgumentException("The push request has no message.");
+        }
+        if (request.getSubscription().isEmpty()) {
+            throw newIllegalArgumentException("The push request has no subscription.");
+        }
+        return request.build();
+    }
+
+    private static PubsubMessage readMessage(JsonReader reader)
+            throws IOException, ParseException {
+        var message = PubsubMessage.newBuilder();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            var name = reader.nextName();
+            if (skippedNull(reader)) {
+                continue;
+            }
+            switch (name) {
+                case "data":
+                    message.setData(decode(reader.nextString()));
+                    break;
+                case "attributes":
+                    readAttributes(reader, message);
+                    break;
+                case "messageId":
+                case "message_id":
+                    message.setMessageId(reader.nextString());
+                    break;
+                case "publishTime":
+                case "publish_time":
+                    message.setPublishTime(Timestamps.parse(reader.nextString()));
+                    break;
+                case "orderingKey":
+                case "ordering_key":
+                    message.setOrderingKey(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return message.build();
+    }
+
+    private static ByteString decode(String base64) {
+        try {
+            var data = Base64.getDecoder()
+                             .decode(base64);
+            return UnsafeByteOperations.unsafeWrap(data);
+        } catch (IllegalArgumentException e) {
+            throw newIllegalArgumentException(e, "The message data is not Base64-encoded.");
+        }
+    }
+
+    private static void readAttributes(JsonReader reader, PubsubMessage.Builder message)
+            throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            var key = reader.nextName();
+            message.putAttributes(key, reader.nextString());
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Skips the next value if it is a JSON {@code null}.
+     *
+     * @return {@code true} if the value was skipped
+     */
+    private static boolean skippedNull(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.transport;
+
+import com.google.api.gax.core.CredentialsProvider;
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.api.gax.rpc.TransportChannelProvider;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import org.jspecify.annotations.Nullable;
+
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The connection to the Pub/Sub service.
+ *
+ * <p>Either connects to the {@linkplain #toService() Pub/Sub service} with the default
+ * credentials, or to the {@linkplain #toEmulator(String) local Pub/Sub emulator}.
+ */
+public final class PubsubConnection implements AutoCloseable {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final @Nullable ManagedChannel channel;
+    private final @Nullable TransportChannelProvider channelProvider;
+    private final @Nullable CredentialsProvider credentialsProvider;
+
+    private PubsubConnection(@Nullable ManagedChannel channel) {
+        this.channel = channel;
+        if (channel == null) {
+            this.channelProvider = null;
+            this.credentialsProvider = null;
+        } else {
+            this.channelProvider =
+                    FixedTransportChannelProvider.create(GrpcTransportChannel.create(channel));
+            this.credentialsProvider = NoCredentialsProvider.create();
+        }
+    }
+
+    /**
+     * Creates a connection to the Pub/Sub service, which uses the default channel
+     * and credentials of the Pub/Sub client.
+     */
+    public static PubsubConnection toService() {
+        return new PubsubConnection(null);
+    }
+
+    /**
+     * Creates a connection to the Pub/Sub emulator running at the given address.
+     *
+     * @param hostAndPort
+     *         the address of the emulator, e.g. {@code localhost:8085}
+     */
+    public static PubsubConnection toEmulator(String hostAndPort) {
+        checkNotEmptyOrBlank(hostAndPort);
+        var channel = ManagedChannelBuilder.forTarget(hostAndPort)
+                                           .usePlaintext()
+                                           .build();
+        return new PubsubConnection(channel);
+    }
+
+    /**
+     * Returns the provider of the channel to use instead of the default one, if any.
+     */
+    @Nullable TransportChannelProvider channelProvider() {
+        return channelProvider;
+    }
+
+    /**
+     * Returns the provider of the credentials to use instead of the default one, if any.
+     */
+    @Nullable CredentialsProvider credentialsProvider() {
+        return credentialsProvider;
+    }
+
+    /**
+     * Closes the channel to the emulator, if any.
+     */
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        channel.shutdown();
+        try {
+            var terminated = channel.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, SECONDS);
+            if (!terminated) {
+                channel.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw newIllegalStateException(e, "Interrupted while closing the connection.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return channel == null ? "Pub/Sub service" : "Pub/Sub emulator at " + channel.authority();
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.transport;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.batching.BatchingSettings;
+import com.google.api.gax.batching.FlowControlSettings;
+import com.google.api.gax.batching.FlowController.LimitExceededBehavior;
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Any;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+import com.google.pubsub.v1.TopicName;
+import io.spine.base.Identifier;
+import io.spine.core.Event;
+import io.spine.logging.WithLogging;
+import io.spine.pubsub.push.Payloads;
+
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Publishes the Spine events to a Pub/Sub topic.
+ *
+ * <p>The events are {@linkplain Payloads#pack packed} into the Pub/Sub messages, so that
+ * they can be received by a {@link PubsubSubscriber} or by a
+ * {@link io.spine.pubsub.push.PushEndpoint PushEndpoint}. The events larger than
+ * the {@linkplain Builder#setCompressionThreshold(int) compression threshold}
+ * are compressed.
+ *
+ * <p>The messages are sent in batches, once either the number of the messages, or
+ * their total size, or the time since the first message of the batch reaches its
+ * {@linkplain Builder#setBatching(long, long, Duration) threshold}. Should the messages
+ * be published faster than Pub/Sub accepts them, the publishing is blocked once
+ * the {@linkplain Builder#setFlowControl(long, long) flow control} limits are reached.
+ *
+ * <p>By default, the events of the same producer, such as an aggregate, are delivered
+ * in the order of publishing. For this, the ID of the producer serves as the ordering
+ * key of the message.
+ *
+ * <p>Once an ordered event fails to be published, the publisher rejects all further events
+ * of the same producer, so that they are not delivered out of order. To continue, the caller
+ * {@linkplain #resume(Event) resumes} the publishing, and then publishes the failed event
+ * and the rejected ones again.
+ */
+public final class PubsubPublisher implements AutoCloseable, WithLogging {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final Publisher publisher;
+    private final TopicName topic;
+    private final int compressionThreshold;
+    private final boolean ordered;
+
+    private PubsubPublisher(Publisher publisher, Builder builder) {
+        this.publisher = publisher;
+        this.topic = builder.topic;
+        this.compressionThreshold = builder.compressionThreshold;
+        this.ordered = builder.ordered;
+    }
+
+    /**
+     * Creates a new builder of the publisher to the given topic.
+     */
+    public static Builder newBuilder(TopicName topic) {
+        checkNotNull(topic);
+        return new Builder(topic);
+    }
+
+    /**
+     * Publishes the given event.
+     *
+     * <p>The event is sent along with the other events of the same batch.
+     *
+     * @return the future of the ID assigned to the message by Pub/Sub
+     */
+    @CanIgnoreReturnValue
+    public ApiFuture<String> publish(Event event) {
+        checkNotNull(event);
+        var message = Payloads.pack(event, compressionThreshold);
+        if (!ordered) {
+            return publisher.publish(message.build());
+        }
+        var orderingKey = orderingKey(event);
+        var result = publisher.publish(message.setOrderingKey(orderingKey)
+                                              .build());
+        if (!orderingKey.isEmpty()) {
+            ApiFutures.addCallback(result, new LogPause(orderingKey), directExecutor());
+        }
+        return result;
+    }
+
+    /**
+     * Publishes the given events.
+     *
+     * @return the futures of the IDs assigned to the messages by Pub/Sub, in the order
+     *         of the events
+     */
+    @CanIgnoreReturnValue
+    public ImmutableList<ApiFuture<String>> publishAll(Iterable<Event> events) {
+        checkNotNull(events);
+        var result = ImmutableList.<ApiFuture<String>>builder();
+        for (var event : events) {
+            result.add(publish(event));
+        }
+        return result.build();
+    }
+
+    /**
+     * Resumes the publishing of the events of the same producer as the given event,
+     * once one of them failed to be published.
+     *
+     * <p>The failed event and the events rejected after it are to be published again,
+     * after the publishing is resumed.
+     *
+     * <p>Does nothing if the events are not ordered.
+     */
+    public void resume(Event event) {
+        checkNotNull(event);
+        if (!ordered) {
+            return;
+        }
+        var orderingKey = orderingKey(event);
+        if (!orderingKey.isEmpty()) {
+            publisher.resumePublish(orderingKey);
+        }
+    }
+
+    /**
+     * Sends the pending messages without waiting for the batching thresholds.
+     */
+    public void flush() {
+        publisher.publishAllOutstanding();
+    }
+
+    private static String orderingKey(Event event) {
+        var producer = event.getContext()
+                            .getProducerId();
+        if (producer.equals(Any.getDefaultInstance())) {
+            return "";
+        }
+        Object id = Identifier.unpack(producer);
+        return Identifier.toString(id);
+    }
+
+    /**
+     * Sends the pending messages and stops the publisher.
+     */
+    @Override
+    public void close() {
+        publisher.shutdown();
+        try {
+            var terminated = publisher.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, SECONDS);
+            if (!terminated) {
+                logger().atWarning()
+                        .log(() -> format("The publisher to `%s` did not stop in %d seconds.",
+                                          topic, SHUTDOWN_TIMEOUT_SECONDS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw newIllegalStateException(e, "Interrupted while stopping the publisher.");
+        }
+    }
+
+    /**
+     * Reports that the publishing of the messages with the ordering key is paused,
+     * once one of them fails to be published.
+     */
+    private final class LogPause implements ApiFutureCallback<String> {
+
+        private final String orderingKey;
+
+        private LogPause(String orderingKey) {
+            this.orderingKey = orderingKey;
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            logger().atWarning()
+                    .withCause(t)
+                    .log(() -> format("Unable to publish an event of `%s` to `%s`." +
+                                              " The publishing of its events is paused" +
+                                              " until resumed.",
+                                      orderingKey, topic));
+        }
+
+        @Override
+        public void onSuccess(String messageId) {
+            // Nothing to do.
+        }
+    }
+
+    /**
+     * A builder of {@code PubsubPublisher} instances.
+     */
+    public static final class Builder {
+
+        private static final long DEFAULT_BATCH_MESSAGES = 1_000L;
+        private static final long DEFAULT_BATCH_BYTES = 1024L * 1024L;
+        private static final Duration DEFAULT_BATCH_DELAY = Durations.fromMillis(10);
+        private static final long DEFAULT_OUTSTANDING_MESSAGES = 10_000L;
+        private static final long DEFAULT_OUTSTANDING_BYTES = 100L * 1024L * 1024L;
+        private static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+        private final TopicName topic;
+        private PubsubConnection connection = PubsubConnection.toService();
+        private long batchMessages = DEFAULT_BATCH_MESSAGES;
+        private long batchBytes = DEFAULT_BATCH_BYTES;
+        private Duration batchDelay = DEFAULT_BATCH_DELAY;
+        private long outstandingMessages = DEFAULT_OUTSTANDING_MESSAGES;
+        private long outstandingBytes = DEFAULT_OUTSTANDING_BYTES;
+        private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+        private boolean ordered = true;
+
+        private Builder(TopicName topic) {
+            this.topic = topic;
+        }
+
+        /**
+         * Sets the connection to Pub/Sub.
+         *
+         * <p>By default, the publisher connects to the Pub/Sub service.
+         */
+        @CanIgnoreReturnValue
+        public Builder setConnection(PubsubConnection connection) {
+            this.connection = checkNotNull(connection);
+            return this;
+        }
+
+        /**
+         * Sets the thresholds, any of which triggers sending a batch of messages.
+         *
+         * <p>By default, a batch is sent once it has 1000 messages or 1 MiB of data,
+         * or 10 milliseconds after its first message is published.
+         *
+         * @param maxMessages
+         *         the number of the messages in a batch
+         * @param maxBytes
+         *         the total size of the messages in a batch
+         * @param maxDelay
+         *         the time since the first message of a batch was published
+         */
+        @CanIgnoreReturnValue
+        public Builder setBatching(long maxMessages, long maxBytes, Duration maxDelay) {
+            checkArgument(maxMessages > 0, "The number of messages must be positive.");
+            checkArgument(maxBytes > 0, "The size of a batch must be positive.");
+            checkNotNull(maxDelay);
+            checkArgument(Durations.toMillis(maxDelay) > 0, "The delay must be positive.");
+            this.batchMessages = maxMessages;
+            this.batchBytes = maxBytes;
+            this.batchDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the limits of the messages published, but not yet accepted by Pub/Sub.
+         *
+         * <p>Once any of the limits is reached, the publishing blocks until some of
+         * the messages are accepted.
+         *
+         * <p>By default, up to 10,000 messages or 100 MiB of data may be outstanding.
+         */
+        @CanIgnoreReturnValue
+        public Builder setFlowControl(long maxMessages, long maxBytes) {
+            checkArgument(maxMessages > 0, "The number of messages must be positive.");
+            checkArgument(maxBytes > 0, "The size of messages must be positive.");
+            this.outstandingMessages = maxMessages;
+            this.outstandingBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Sets the size of the packed event in bytes, starting from which the event
+         * is compressed.
+         *
+         * <p>Default value is 1 KiB. {@code Integer.MAX_VALUE} turns the compression off.
+         */
+        @CanIgnoreReturnValue
+        public Builder setCompressionThreshold(int bytes) {
+            checkArgument(bytes >= 0, "The compression threshold must not be negative.");
+            this.compressionThreshold = bytes;
+            return this;
+        }
+
+        /**
+         * Sets whether the events of the same producer are delivered in the order
+         * of publishing.
+         *
+         * <p>Requires the subscriptions with the message ordering enabled.
+         * Enabled by default.
+         */
+        @CanIgnoreReturnValue
+        public Builder setOrdered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Creates a new publisher.
+         */
+        public PubsubPublisher build() {
+            var flowControl = FlowControlSettings.newBuilder()
+                    .setMaxOutstandingElementCount(outstandingMessages)
+                    .setMaxOutstandingRequestBytes(outstandingBytes)
+                    .setLimitExceededBehavior(LimitExceededBehavior.Block)
+                    .build();
+            var batching = BatchingSettings.newBuilder()
+                    .setElementCountThreshold(batchMessages)
+                    .setRequestByteThreshold(batchBytes)
+                    .setDelayThresholdDuration(
+                            java.time.Duration.ofMillis(Durations.toMillis(batchDelay)))
+                    .setFlowControlSettings(flowControl)
+                    .build();
+            var builder = Publisher.newBuilder(topic)
+                    .setBatchingSettings(batching)
+                    .setEnableMessageOrdering(ordered);
+            var channelProvider = connection.channelProvider();
+            if (channelProvider != null) {
+                builder.setChannelProvider(channelProvider);
+            }
+            var credentialsProvider = connection.credentialsProvider();
+            if (credentialsProvider != null) {
+                builder.setCredentialsProvider(credentialsProvider);
+            }
+            try {
+                return new PubsubPublisher(builder.build(), this);
+            } catch (IOException e) {
+                throw newIllegalStateException(e, "Unable to create a publisher to `%s`.", topic);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.transport;
+
+import com.google.api.gax.batching.FlowControlSettings;
+import com.google.api.gax.batching.FlowController.LimitExceededBehavior;
+import com.google.cloud.pubsub.v1.AckReplyConsumer;
+import com.google.cloud.pubsub.v1.MessageReceiver;
+import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.PubsubMessage;
+import io.spine.pubsub.PubsubPushRequest;
+import io.spine.pubsub.push.Deduplication;
+import io.spine.pubsub.push.PushDispatcher;
+import io.spine.pubsub.push.PushEndpoint;
+import io.spine.server.BoundedContext;
+import org.jspecify.annotations.Nullable;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Pulls the messages from a Pub/Sub subscription and dispatches them to
+ * a Bounded Context.
+ *
+ * <p>The messages are dispatched in the same way as by the {@link PushEndpoint}.
+ * The dispatched and the rejected messages are acknowledged. The messages which failed
+ * to be dispatched are not, so that Pub/Sub delivers them again.
+ *
+ * <p>The messages are dispatched in the threads of the subscriber, which receive them.
+ * This way, the messages with the same ordering key are dispatched one after another.
+ *
+ * <p>The number of the messages pulled, but not yet acknowledged, is limited by
+ * the {@linkplain Builder#setFlowControl(long, long) flow control} settings. Once the limit
+ * is reached, the subscriber stops pulling until some messages are handled.
+ */
+public final class PubsubSubscriber implements AutoCloseable {
+
+    private final Subscriber subscriber;
+    private final PushEndpoint endpoint;
+
+    private PubsubSubscriber(Subscriber subscriber, PushEndpoint endpoint) {
+        this.subscriber = subscriber;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Creates a new builder of the subscriber to the given subscription.
+     */
+    public static Builder newBuilder(ProjectSubscriptionName subscription) {
+        checkNotNull(subscription);
+        return new Builder(subscription);
+    }
+
+    /**
+     * Starts pulling the messages, and waits until the subscriber is running.
+     */
+    public void start() {
+        subscriber.startAsync()
+                  .awaitRunning();
+    }
+
+    /**
+     * Stops pulling the messages, and waits until the pulled messages are handled.
+     */
+    @Override
+    public void close() {
+        subscriber.stopAsync()
+                  .awaitTerminated();
+        endpoint.close();
+    }
+
+    /**
+     * Handles the pulled messages via the push endpoint.
+     */
+    private static final class Receiver implements MessageReceiver {
+
+        private final String subscription;
+        private final PushEndpoint endpoint;
+
+        private Receiver(String subscription, PushEndpoint endpoint) {
+            this.subscription = subscription;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void receiveMessage(PubsubMessage message, AckReplyConsumer consumer) {
+            var request = PubsubPushRequest.newBuilder()
+                    .setMessage(message)
+                    .setSubscription(subscription)
+                    .build();
+            var outcome = endpoint.handle(request);
+            if (outcome.isAcknowledged()) {
+                consumer.ack();
+            } else {
+                consumer.nack();
+            }
+        }
+    }
+
+    /**
+     * A builder of {@code PubsubSubscriber} instances.
+     */
+    public static final class Builder {
+
+        private static final long DEFAULT_OUTSTANDING_MESSAGES = 1_000L;
+        private static final long DEFAULT_OUTSTANDING_BYTES = 100L * 1024L * 1024L;
+        private static final int DEFAULT_PARALLEL_PULLS = 1;
+
+        private final ProjectSubscriptionName subscription;
+        private final PushEndpoint.Builder endpoint = PushEndpoint.newBuilder();
+        private @Nullable PushDispatcher dispatcher;
+        private PubsubConnection connection = PubsubConnection.toService();
+        private long outstandingMessages = DEFAULT_OUTSTANDING_MESSAGES;
+        private long outstandingBytes = DEFAULT_OUTSTANDING_BYTES;
+        private int parallelPulls = DEFAULT_PARALLEL_PULLS;
+
+        private Builder(ProjectSubscriptionName subscription) {
+            this.subscription = subscription;
+        }
+
+        /**
+         * Sets the Bounded Context to dispatch the messages to.
+         *
+         * @see PushDispatcher#to(BoundedContext)
+         */
+        @CanIgnoreReturnValue
+        public Builder setContext(BoundedContext context) {
+            checkNotNull(context);
+            return setDispatcher(PushDispatcher.to(context));
+        }
+
+        /**
+         * Sets the custom dispatcher of the messages.
+         */
+        @CanIgnoreReturnValue
+        public Builder setDispatcher(PushDispatcher dispatcher) {
+            this.dispatcher = checkNotNull(dispatcher);
+            endpoint.setDispatcher(dispatcher);
+            return this;
+        }
+
+        /**
+         * Sets the connection to Pub/Sub.
+         *
+         * <p>By default, the subscriber connects to the Pub/Sub service.
+         */
+        @CanIgnoreReturnValue
+        public Builder setConnection(PubsubConnection connection) {
+            this.connection = checkNotNull(connection);
+            return this;
+        }
+
+        /**
+         * Sets the limits of the messages pulled, but not yet acknowledged.
+         *
+         * <p>By default, up to 1000 messages or 100 MiB of data may be outstanding.
+         */
+        @CanIgnoreReturnValue
+        public Builder setFlowControl(long maxMessages, long maxBytes) {
+            checkArgument(maxMessages > 0, "The number of messages must be positive.");
+            checkArgument(maxBytes > 0, "The size of messages must be positive.");
+            this.outstandingMessages = maxMessages;
+            this.outstandingBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Sets the number of the concurrent streams pulling the messages.
+         *
+         * <p>Default value is 1.
+         */
+        @CanIgnoreReturnValue
+        public Builder setParallelPulls(int count) {
+            checkArgument(count > 0, "The number of pulls must be positive.");
+            this.parallelPulls = count;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the messages dispatched at the same time.
+         *
+         * @see PushEndpoint.Builder#setParallelism(int)
+         */
+        @CanIgnoreReturnValue
+        public Builder setParallelism(int parallelism) {
+            endpoint.setParallelism(parallelism);
+            return this;
+        }
+
+        /**
+         * Sets the deduplication of the redelivered messages.
+         *
+         * @see PushEndpoint.Builder#setDeduplication(Deduplication)
+         */
+        @CanIgnoreReturnValue
+        public Builder setDeduplication(Deduplication deduplication) {
+            endpoint.setDeduplication(deduplication);
+            return this;
+        }
+
+        /**
+         * Creates a new subscriber.
+         *
+         * <p>The subscriber is to be {@linkplain PubsubSubscriber#start() started}
+         * to start pulling the messages.
+         *
+         * @throws IllegalStateException
+         *         if neither the context nor the dispatcher is set
+         */
+        public PubsubSubscriber build() {
+            checkState(dispatcher != null,
+                       "Either the Bounded Context or the dispatcher must be set.");
+            var pushEndpoint = endpoint.build();
+            var flowControl = FlowControlSettings.newBuilder()
+                    .setMaxOutstandingElementCount(outstandingMessages)
+                    .setMaxOutstandingRequestBytes(outstandingBytes)
+                    .setLimitExceededBehavior(LimitExceededBehavior.Block)
+                    .build();
+            var receiver = new Receiver(subscription.toString(), pushEndpoint);
+            var builder = Subscriber.newBuilder(subscription, receiver)
+                    .setFlowControlSettings(flowControl)
+                    .setParallelPullCount(parallelPulls);
+            var channelProvider = connection.channelProvider();
+            if (channelProvider != null) {
+                builder.setChannelProvider(channelProvider);
+            }
+            var credentialsProvider = connection.credentialsProvider();
+            if (credentialsProvider != null) {
+                builder.setCredentialsProvider(credentialsProvider);
+            }
+            return new PubsubSubscriber(builder.build(), pushEndpoint);
+        }
+    }
+}
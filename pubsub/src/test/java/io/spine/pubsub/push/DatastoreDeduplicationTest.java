@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.Key;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import com.google.pubsub.v1.PubsubMessage;
+import io.spine.base.Time;
+import io.spine.testing.server.storage.datastore.TestDatastores;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Time.currentTime;
+import static io.spine.pubsub.push.Claim.CLAIMED;
+import static io.spine.pubsub.push.Claim.HANDLED;
+import static io.spine.pubsub.push.Claim.IN_PROGRESS;
+
+@DisplayName("`DatastoreDeduplication` should")
+final class DatastoreDeduplicationTest {
+
+    private static final String KIND = "TestMessageClaim";
+    private static final long HOUR = 3600L;
+
+    private final Datastore datastore = TestDatastores.inMemory();
+
+    @AfterEach
+    void resetTime() {
+        Time.resetProvider();
+    }
+
+    @Test
+    @DisplayName("name the claim after the time window and the message ID")
+    void nameClaims() {
+        var deduplication = newDeduplication();
+        deduplication.claim(message("42", 2 * HOUR + 1));
+
+        assertThat(datastore.get(key("00000002/42"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("claim a message, which is not yet claimed")
+    void claimNew() {
+        var message = message("1", HOUR);
+
+        assertThat(newDeduplication().claim(message)).isEqualTo(CLAIMED);
+    }
+
+    @Test
+    @DisplayName("not claim a message, which is being dispatched")
+    void notClaimInProgress() {
+        var message = message("1", HOUR);
+        newDeduplication().claim(message);
+
+        assertThat(newDeduplication().claim(message)).isEqualTo(IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("detect the handled message claimed by another instance")
+    void detectExisting() {
+        var message = message("1", HOUR);
+        var first = newDeduplication();
+        first.claim(message);
+        first.complete(message);
+
+        assertThat(newDeduplication().claim(message)).isEqualTo(HANDLED);
+    }
+
+    @Test
+    @DisplayName("claim the message again once its claim is released")
+    void claimReleased() {
+        var message = message("1", HOUR);
+        var deduplication = newDeduplication();
+        deduplication.claim(message);
+        deduplication.release(message);
+
+        assertThat(newDeduplication().claim(message)).isEqualTo(CLAIMED);
+    }
+
+    @Test
+    @DisplayName("claim the message again once its claim expires")
+    void claimExpired() {
+        var message = message("1", HOUR);
+        newDeduplication().claim(message);
+        var later = Timestamps.add(currentTime(), Durations.fromMinutes(11));
+        Time.setProvider(() -> later);
+
+        assertThat(newDeduplication().claim(message)).isEqualTo(CLAIMED);
+        assertThat(newDeduplication().claim(message)).isEqualTo(IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("not release the claim made again by another delivery")
+    void keepReclaimed() {
+        var message = message("1", HOUR);
+        var expired = newDeduplication();
+        expired.claim(message);
+        var later = Timestamps.add(currentTime(), Durations.fromMinutes(11));
+        Time.setProvider(() -> later);
+        newDeduplication().claim(message);
+
+        expired.release(message);
+
+        assertThat(newDeduplication().claim(message)).isEqualTo(IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("remember the recently handled messages locally")
+    void rememberRecent() {
+        var deduplication = DatastoreDeduplication.newBuilder(datastore)
+                .setKind(KIND)
+                .setLocalCapacity(1)
+                .build();
+        var older = message("1", HOUR);
+        var recent = message("2", HOUR);
+        deduplication.claim(older);
+        deduplication.complete(older);
+        deduplication.claim(recent);
+        deduplication.complete(recent);
+        datastore.delete(key("00000001/1"), key("00000001/2"));
+
+        assertThat(deduplication.claim(recent)).isEqualTo(HANDLED);
+        assertThat(deduplication.claim(older)).isEqualTo(CLAIMED);
+    }
+
+    @Test
+    @DisplayName("purge the claims of the windows before the given time")
+    void purge() {
+        var deduplication = newDeduplication();
+        var old = message("1", HOUR);
+        var current = message("2", 2 * HOUR);
+        var future = message("3", 3 * HOUR);
+        for (var message : new PubsubMessage[]{old, current, future}) {
+            deduplication.claim(message);
+            deduplication.complete(message);
+        }
+
+        var purged = deduplication.purgeBefore(seconds(2 * HOUR + 100));
+
+        assertThat(purged).isEqualTo(1);
+        var fresh = newDeduplication();
+        assertThat(fresh.claim(old)).isEqualTo(CLAIMED);
+        assertThat(fresh.claim(current)).isEqualTo(HANDLED);
+        assertThat(fresh.claim(future)).isEqualTo(HANDLED);
+    }
+
+    @Test
+    @DisplayName("purge more claims than a single page holds")
+    void purgeManyClaims() {
+        var deduplication = newDeduplication();
+        var count = 1_234;
+        for (var i = 0; i < count; i++) {
+            var message = message(String.valueOf(i), HOUR);
+            deduplication.claim(message);
+            deduplication.complete(message);
+        }
+
+        var purged = deduplication.purgeBefore(seconds(2 * HOUR));
+
+        assertThat(purged).isEqualTo(count);
+        assertThat(newDeduplication().claim(message("0", HOUR))).isEqualTo(CLAIMED);
+    }
+
+    private DatastoreDeduplication newDeduplication() {
+        return DatastoreDeduplication.newBuilder(datastore)
+                .setKind(KIND)
+                .setLocalCapacity(0)
+                .build();
+    }
+
+    private Key key(String name) {
+        return datastore.newKeyFactory()
+                        .setKind(KIND)
+                        .newKey(name);
+    }
+
+    private static PubsubMessage message(String id, long publishedAtSeconds) {
+        return PubsubMessage.newBuilder()
+                .setMessageId(id)
+                .setPublishTime(seconds(publishedAtSeconds))
+                .build();
+    }
+
+    private static Timestamp seconds(long seconds) {
+        return Timestamp.newBuilder()
+                .setSeconds(seconds)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.common.base.Strings;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.StringValue;
+import com.google.pubsub.v1.PubsubMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.pubsub.push.Payloads.CONTENT_ENCODING;
+import static io.spine.pubsub.push.Payloads.GZIP;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`Payloads` should")
+final class PayloadsTest {
+
+    @Test
+    @DisplayName("pack a small message without compression")
+    void packSmall() {
+        var payload = StringValue.of("small");
+        var message = Payloads.pack(payload, 1024)
+                              .build();
+        assertThat(message.getAttributesMap()).doesNotContainKey(CONTENT_ENCODING);
+        assertThat(Payloads.unpack(message)).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("compress a large message")
+    void compressLarge() {
+        var payload = StringValue.of(Strings.repeat("Spine ", 1000));
+        var message = Payloads.pack(payload, 1024)
+                              .build();
+        assertThat(message.getAttributesMap()).containsEntry(CONTENT_ENCODING, GZIP);
+        assertThat(message.getData()
+                          .size()).isLessThan(payload.getSerializedSize());
+        assertThat(Payloads.unpack(message)).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("reject the data which is not a packed message")
+    void rejectGarbage() {
+        var message = PubsubMessage.newBuilder()
+                .setData(ByteString.copyFromUtf8("garbage"))
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> Payloads.unpack(message));
+    }
+}
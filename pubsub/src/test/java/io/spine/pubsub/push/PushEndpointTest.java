@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.StringValue;
+import com.google.pubsub.v1.PubsubMessage;
+import io.spine.protobuf.AnyPacker;
+import io.spine.pubsub.PubsubPushRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.pubsub.push.PushOutcome.DISPATCHED;
+import static io.spine.pubsub.push.PushOutcome.DUPLICATE;
+import static io.spine.pubsub.push.PushOutcome.FAILED;
+import static io.spine.pubsub.push.PushOutcome.REJECTED;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`PushEndpoint` should")
+final class PushEndpointTest {
+
+    @Test
+    @DisplayName("dispatch the unpacked message")
+    void dispatch() {
+        var payload = StringValue.of("dispatched");
+        try (var endpoint = PushEndpoint.newBuilder()
+                .setDispatcher((message, origin) -> message.equals(payload)
+                                                    ? DISPATCHED
+                                                    : REJECTED)
+                .build()) {
+            var outcome = endpoint.handle(request("1", payload));
+            assertThat(outcome).isEqualTo(DISPATCHED);
+            assertThat(outcome.httpStatus()).isEqualTo(204);
+        }
+    }
+
+    @Test
+    @DisplayName("reject the message which is not a packed Spine message")
+    void rejectGarbage() {
+        try (var endpoint = PushEndpoint.newBuilder()
+                .setDispatcher((message, origin) -> DISPATCHED)
+                .build()) {
+            var request = PubsubPushRequest.newBuilder()
+                    .setMessage(PubsubMessage.newBuilder()
+                                        .setMessageId("garbage")
+                                        .setData(ByteString.copyFromUtf8("not a message")))
+                    .setSubscription("projects/p/subscriptions/s")
+                    .build();
+            var outcome = endpoint.handle(request);
+            assertThat(outcome).isEqualTo(REJECTED);
+            assertThat(outcome.isAcknowledged()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("not acknowledge the message which failed to be dispatched")
+    void failDispatch() {
+        try (var endpoint = PushEndpoint.newBuilder()
+                .setDispatcher((message, origin) -> {
+                    throw new IllegalStateException("Expected in this test.");
+                })
+                .build()) {
+            var outcome = endpoint.handle(request("1", StringValue.of("failing")));
+            assertThat(outcome).isEqualTo(FAILED);
+            assertThat(outcome.httpStatus()).isEqualTo(503);
+        }
+    }
+
+    @Test
+    @DisplayName("handle a batch with bounded parallelism")
+    void handleBatch() {
+        var parallelism = 2;
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        try (var endpoint = PushEndpoint.newBuilder()
+                .setParallelism(parallelism)
+                .setDispatcher((message, origin) -> {
+                    var now = running.incrementAndGet();
+                    maxRunning.accumulateAndGet(now, Math::max);
+                    Thread.sleep(10);
+                    running.decrementAndGet();
+                    return origin.getMessageId().equals("3") ? REJECTED : DISPATCHED;
+                })
+                .build()) {
+            var requests = ImmutableList.of(request("1", StringValue.of("a")),
+                                            request("2", StringValue.of("b")),
+                                            request("3", StringValue.of("c")),
+                                            request("4", StringValue.of("d")),
+                                            request("5", StringValue.of("e")));
+            var result = endpoint.handleAll(requests);
+
+            assertThat(result.allAcknowledged()).isTrue();
+            assertThat(result.acknowledged()).containsExactly("1", "2", "3", "4", "5");
+            assertThat(result.outcome("3")).isEqualTo(REJECTED);
+            assertThat(maxRunning.get()).isAtMost(parallelism);
+        }
+    }
+
+    @Test
+    @DisplayName("acknowledge the redelivered message without dispatching it")
+    void skipDuplicate() {
+        var dispatched = new AtomicInteger();
+        try (var endpoint = PushEndpoint.newBuilder()
+                .setDeduplication(new InMemoryDeduplication())
+                .setDispatcher((message, origin) -> {
+                    dispatched.incrementAndGet();
+                    return DISPATCHED;
+                })
+                .build()) {
+            var request = request("1", StringValue.of("once"));
+            assertThat(endpoint.handle(request)).isEqualTo(DISPATCHED);
+            assertThat(endpoint.handle(request)).isEqualTo(DUPLICATE);
+            assertThat(endpoint.handle(request).isAcknowledged()).isTrue();
+            assertThat(dispatched.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("dispatch the redelivered message once the dispatching failed")
+    void redispatchFailed() {
+        var fail = new AtomicBoolean(true);
+        try (var endpoint = PushEndpoint.newBuilder()
+                .setDeduplication(new InMemoryDeduplication())
+                .setDispatcher((message, origin) -> {
+                    if (fail.getAndSet(false)) {
+                        throw new IllegalStateException("Expected in this test.");
+                    }
+                    return DISPATCHED;
+                })
+                .build()) {
+            var request = request("1", StringValue.of("retried"));
+            assertThat(endpoint.handle(request)).isEqualTo(FAILED);
+            assertThat(endpoint.handle(request)).isEqualTo(DISPATCHED);
+            assertThat(endpoint.handle(request)).isEqualTo(DUPLICATE);
+        }
+    }
+
+    @Test
+    @DisplayName("not acknowledge the message which is being dispatched")
+    void skipInProgress() {
+        var deduplication = new InMemoryDeduplication();
+        var dispatched = new AtomicInteger();
+        var request = request("1", StringValue.of("in progress"));
+        try (var endpoint = PushEndpoint.newBuilder()
+                .setDeduplication(deduplication)
+                .setDispatcher((message, origin) -> {
+                    dispatched.incrementAndGet();
+                    return DISPATCHED;
+                })
+                .build()) {
+            assertThat(deduplication.claim(request.getMessage())).isEqualTo(Claim.CLAIMED);
+            var outcome = endpoint.handle(request);
+            assertThat(outcome).isEqualTo(FAILED);
+            assertThat(outcome.isAcknowledged()).isFalse();
+            assertThat(dispatched.get()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    @DisplayName("not acknowledge the message which cannot be claimed")
+    void failClaim() {
+        Deduplication unavailable = new Deduplication() {
+            @Override
+            public Claim claim(PubsubMessage message) {
+                throw new IllegalStateException("Expected in this test.");
+            }
+
+            @Override
+            public void complete(PubsubMessage message) {
+            }
+
+            @Override
+            public void release(PubsubMessage message) {
+            }
+        };
+        try (var endpoint = PushEndpoint.newBuilder()
+                .setDeduplication(unavailable)
+                .setDispatcher((message, origin) -> DISPATCHED)
+                .build()) {
+            var outcome = endpoint.handle(request("1", StringValue.of("unclaimed")));
+            assertThat(outcome).isEqualTo(FAILED);
+        }
+    }
+
+    @Test
+    @DisplayName("not accept the requests once closed")
+    void rejectSubmitWhenClosed() {
+        var endpoint = PushEndpoint.newBuilder()
+                .setDispatcher((message, origin) -> DISPATCHED)
+                .build();
+        endpoint.close();
+        var request = request("1", StringValue.of("late"));
+        assertThrows(IllegalStateException.class, () -> endpoint.submit(request));
+    }
+
+    @Test
+    @DisplayName("require a dispatcher")
+    void requireDispatcher() {
+        assertThrows(IllegalStateException.class, PushEndpoint.newBuilder()::build);
+    }
+
+    private static PubsubPushRequest request(String messageId, StringValue payload) {
+        return PubsubPushRequest.newBuilder()
+                .setMessage(PubsubMessage.newBuilder()
+                                    .setMessageId(messageId)
+                                    .setData(AnyPacker.pack(payload)
+                                                      .toByteString()))
+                .setSubscription("projects/p/subscriptions/s")
+                .build();
+    }
+
+    /**
+     * Remembers the claims of the messages in memory.
+     */
+    private static final class InMemoryDeduplication implements Deduplication {
+
+        private final Map<String, Claim> claims = new ConcurrentHashMap<>();
+
+        @Override
+        public Claim claim(PubsubMessage message) {
+            var existing = claims.putIfAbsent(message.getMessageId(), Claim.IN_PROGRESS);
+            return existing == null ? Claim.CLAIMED : existing;
+        }
+
+        @Override
+        public void complete(PubsubMessage message) {
+            claims.put(message.getMessageId(), Claim.HANDLED);
+        }
+
+        @Override
+        public void release(PubsubMessage message) {
+            claims.remove(message.getMessageId());
+        }
+    }
+}
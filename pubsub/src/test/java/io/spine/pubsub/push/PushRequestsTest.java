@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.push;
+
+import com.google.protobuf.StringValue;
+import com.google.protobuf.util.Timestamps;
+import io.spine.protobuf.AnyPacker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`PushRequests` should")
+final class PushRequestsTest {
+
+    private static final String SUBSCRIPTION = "projects/my-project/subscriptions/my-sub";
+
+    @Test
+    @DisplayName("parse the request sent by Pub/Sub")
+    void parse() {
+        var payload = StringValue.of("Spine loves Pub/Sub!");
+        var data = Base64.getEncoder()
+                         .encodeToString(AnyPacker.pack(payload)
+                                                  .toByteArray());
+        var json = format("{" +
+                                  "\"message\": {" +
+                                  "  \"attributes\": {\"key\": \"value\"}," +
+                                  "  \"data\": \"%s\"," +
+                                  "  \"messageId\": \"136969346945\"," +
+                                  "  \"message_id\": \"136969346945\"," +
+                                  "  \"publishTime\": \"2020-06-24T13:05:36.021Z\"," +
+                                  "  \"publish_time\": \"2020-06-24T13:05:36.021Z\"" +
+                                  "}," +
+                                  "\"subscription\": \"%s\"," +
+                                  "\"deliveryAttempt\": 2" +
+                                  "}", data, SUBSCRIPTION);
+
+        var request = PushRequests.parse(json);
+
+        assertThat(request.getSubscription()).isEqualTo(SUBSCRIPTION);
+        var message = request.getMessage();
+        assertThat(message.getMessageId()).isEqualTo("136969346945");
+        assertThat(message.getAttributesMap()).containsExactly("key", "value");
+        assertThat(Timestamps.toString(message.getPublishTime()))
+                .isEqualTo("2020-06-24T13:05:36.021Z");
+        assertThat(Payloads.unpack(message)).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("reject a request without a message")
+    void rejectNoMessage() {
+        var json = format("{\"subscription\": \"%s\"}", SUBSCRIPTION);
+        assertThrows(IllegalArgumentException.class, () -> PushRequests.parse(json));
+    }
+
+    @Test
+    @DisplayName("reject a malformed JSON")
+    void rejectMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> PushRequests.parse("{\"message\": ["));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.pubsub.transport;
+
+import com.google.cloud.pubsub.v1.SubscriptionAdminClient;
+import com.google.cloud.pubsub.v1.SubscriptionAdminSettings;
+import com.google.cloud.pubsub.v1.TopicAdminClient;
+import com.google.cloud.pubsub.v1.TopicAdminSettings;
+import com.google.common.base.Strings;
+import com.google.protobuf.StringValue;
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.Subscription;
+import com.google.pubsub.v1.TopicName;
+import io.spine.base.Identifier;
+import io.spine.core.Event;
+import io.spine.core.EventContext;
+import io.spine.core.EventId;
+import io.spine.protobuf.AnyPacker;
+import io.spine.pubsub.push.PushOutcome;
+import io.spine.testing.server.storage.datastore.EmulatorTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.gcloud.PubSubEmulatorContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.pubsub.push.Payloads.CONTENT_ENCODING;
+import static io.spine.pubsub.push.Payloads.GZIP;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@EmulatorTest
+@DisplayName("`PubsubPublisher` and `PubsubSubscriber` should")
+final class PubsubRoundTripTest {
+
+    private static final String PROJECT = "spine-pubsub-test";
+    private static final int EVENT_COUNT = 50;
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private static final PubSubEmulatorContainer emulator = new PubSubEmulatorContainer(
+            DockerImageName.parse(
+                    "gcr.io/google.com/cloudsdktool/google-cloud-cli:573.0.0-emulators"));
+
+    private static PubsubConnection connection;
+
+    @BeforeAll
+    static void startEmulator() {
+        emulator.start();
+        connection = PubsubConnection.toEmulator(emulator.getEmulatorEndpoint());
+    }
+
+    @AfterAll
+    static void stopEmulator() {
+        connection.close();
+        emulator.stop();
+    }
+
+    @Test
+    @DisplayName("deliver the compressed events of a producer in the order of publishing")
+    void deliverInOrder() throws IOException, InterruptedException {
+        var topic = TopicName.of(PROJECT, "events-" + newUuid());
+        var subscription = ProjectSubscriptionName.of(PROJECT, "subscription-" + newUuid());
+        createOrderedSubscription(topic, subscription);
+
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        List<String> encodings = Collections.synchronizedList(new ArrayList<>());
+        var done = new CountDownLatch(EVENT_COUNT);
+        try (var subscriber = PubsubSubscriber.newBuilder(subscription)
+                .setConnection(connection)
+                .setDispatcher((message, origin) -> {
+                    var event = (Event) message;
+                    var payload = AnyPacker.unpack(event.getMessage(), StringValue.class);
+                    received.add(payload.getValue());
+                    encodings.add(origin.getAttributesOrDefault(CONTENT_ENCODING, ""));
+                    done.countDown();
+                    return PushOutcome.DISPATCHED;
+                })
+                .build()) {
+            subscriber.start();
+            List<String> published = new ArrayList<>();
+            try (var publisher = PubsubPublisher.newBuilder(topic)
+                    .setConnection(connection)
+                    .setCompressionThreshold(0)
+                    .build()) {
+                for (var i = 0; i < EVENT_COUNT; i++) {
+                    var value = i + Strings.repeat(" ", 100);
+                    publisher.publish(event("producer", value));
+                    published.add(value);
+                }
+                publisher.flush();
+            }
+            assertThat(done.await(TIMEOUT_SECONDS, SECONDS)).isTrue();
+            assertThat(received).containsExactlyElementsIn(published)
+                                .inOrder();
+            assertThat(encodings).containsExactlyElementsIn(
+                    Collections.nCopies(EVENT_COUNT, GZIP));
+        }
+    }
+
+    private static void createOrderedSubscription(TopicName topic,
+                                                  ProjectSubscriptionName subscription)
+            throws IOException {
+        var topics = TopicAdminSettings.newBuilder()
+                .setTransportChannelProvider(connection.channelProvider())
+                .setCredentialsProvider(connection.credentialsProvider())
+                .build();
+        try (var client = TopicAdminClient.create(topics)) {
+            client.createTopic(topic);
+        }
+        var subscriptions = SubscriptionAdminSettings.newBuilder()
+                .setTransportChannelProvider(connection.channelProvider())
+                .setCredentialsProvider(connection.credentialsProvider())
+                .build();
+        try (var client = SubscriptionAdminClient.create(subscriptions)) {
+            client.createSubscription(Subscription.newBuilder()
+                                              .setName(subscription.toString())
+                                              .setTopic(topic.toString())
+                                              .setEnableMessageOrdering(true)
+                                              .build());
+        }
+    }
+
+    private static Event event(String producer, String value) {
+        var id = EventId.newBuilder()
+                .setValue(newUuid())
+                .build();
+        var context = EventContext.newBuilder()
+                .setProducerId(Identifier.pack(producer))
+                .build();
+        return Event.newBuilder()
+                .setId(id)
+                .setMessage(AnyPacker.pack(StringValue.of(value)))
+                .setContext(context)
+                .build();
+    }
+}
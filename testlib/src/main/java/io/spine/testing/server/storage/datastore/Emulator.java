@@ -60,4 +60,20 @@ final class Emulator {
         }
         return emulator.options();
     }
+
+    /**
+     * Deletes all data of the emulator, which the given connection options point to.
+     *
+     * @return {@code true} if the data was deleted, {@code false} if the options do not point
+     *         to an emulator launched by this class
+     */
+    static synchronized boolean reset(DatastoreOptions options) {
+        for (var emulator : containers.values()) {
+            if (emulator.serves(options)) {
+                emulator.reset();
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -9,6 +9,13 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.testcontainers.gcloud.DatastoreEmulatorContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static io.spine.util.Exceptions.newIllegalStateException;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -104,4 +111,40 @@ final class EmulatorContainer extends DatastoreEmulatorContainer {
                 "`DatastoreOptions` are not available until the emulator is started.");
         return options;
     }
+
+    /**
+     * Tells if the given connection options point to the emulator of this container.
+     */
+    boolean serves(DatastoreOptions options) {
+        return this.options != null
+                && this.options.getHost().equals(options.getHost());
+    }
+
+    /**
+     * Deletes all data stored in the emulator, in all namespaces.
+     *
+     * <p>Uses the {@code /reset} endpoint of the emulator, which is much faster than
+     * deleting the records one by one.
+     */
+    void reset() {
+        var request = HttpRequest.newBuilder()
+                .uri(URI.create("http://" + getEmulatorEndpoint() + "/reset"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        try {
+            var response = HttpClient.newHttpClient()
+                                     .send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw newIllegalStateException(
+                        "Unable to reset the Datastore emulator. HTTP status: %d.",
+                        response.statusCode());
+            }
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to reset the Datastore emulator.");
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw newIllegalStateException(e, "Interrupted while resetting the emulator.");
+        }
+    }
 }
@@ -29,23 +29,32 @@ package io.spine.testing.server.storage.datastore;
 import com.google.cloud.datastore.Datastore;
 import com.google.cloud.datastore.DatastoreException;
 import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
 import com.google.cloud.datastore.KeyFactory;
 import com.google.cloud.datastore.Query;
-import com.google.cloud.datastore.StructuredQuery;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.spine.server.storage.datastore.DatastoreWrapper;
 import io.spine.server.storage.datastore.Kind;
+import io.spine.server.storage.datastore.tenant.Namespace;
 import io.spine.server.storage.datastore.tenant.NamespaceSupplier;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
 import static io.spine.util.Exceptions.newIllegalStateException;
-import static java.util.Collections.synchronizedList;
+import static java.lang.Math.min;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
@@ -72,12 +81,30 @@ public class TestDatastoreWrapper extends DatastoreWrapper {
      */
     private static final int MAX_CLEANUP_ATTEMPTS = 5;
 
-    private static final Collection<Kind> kindsCache = synchronizedList(new ArrayList<>());
+    /**
+     * The maximum number of kinds dropped concurrently.
+     */
+    private static final int MAX_CONCURRENT_DROPS = 8;
+
+    private static final int MAX_KEYS_PER_DELETE = 500;
+
+    /**
+     * The kind of the Datastore metadata entities, each describing a kind.
+     */
+    private static final String KIND_METADATA = "__kind__";
+
+    private static final Set<Kind> kindsCache = ConcurrentHashMap.newKeySet();
 
     private final boolean waitForConsistency;
 
     protected TestDatastoreWrapper(Datastore datastore, boolean waitForConsistency) {
-        super(datastore, NamespaceSupplier.singleTenant());
+        this(datastore, NamespaceSupplier.singleTenant(), waitForConsistency);
+    }
+
+    protected TestDatastoreWrapper(Datastore datastore,
+                                   NamespaceSupplier supplier,
+                                   boolean waitForConsistency) {
+        super(datastore, supplier);
         this.waitForConsistency = waitForConsistency;
     }
 
@@ -95,6 +122,19 @@ public class TestDatastoreWrapper extends DatastoreWrapper {
         return new TestDatastoreWrapper(datastore, waitForConsistency);
     }
 
+    /**
+     * Wraps a given Datastore, resolving the namespaces with the given supplier.
+     *
+     * @see #wrap(Datastore, boolean)
+     */
+    public static TestDatastoreWrapper wrap(Datastore datastore,
+                                            NamespaceSupplier supplier,
+                                            boolean waitForConsistency) {
+        checkNotNull(datastore);
+        checkNotNull(supplier);
+        return new TestDatastoreWrapper(datastore, supplier, waitForConsistency);
+    }
+
     @Override
     public KeyFactory keyFactory(Kind kind) {
         checkNotNull(kind);
@@ -120,45 +160,51 @@ public class TestDatastoreWrapper extends DatastoreWrapper {
         waitForConsistency();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reads only the keys of the records to delete.
+     */
     @Override
     protected void dropTable(Kind table) {
         if (!waitForConsistency) {
-            super.dropTable(table);
+            deleteAll(table);
         } else {
             dropTableConsistently(table);
         }
     }
 
     private void dropTableConsistently(Kind table) {
-        Integer remainingEntityCount = null;
+        var remainingEntityCount = deleteAll(table);
         var cleanupAttempts = 0;
-
-        while ((remainingEntityCount == null
-                || remainingEntityCount > 0)
-                && cleanupAttempts < MAX_CLEANUP_ATTEMPTS) {
-
-            // sleep in between the cleanup attempts.
-            if (cleanupAttempts > 0) {
-                sleepUninterruptibly(CONSISTENCY_AWAIT_TIME_MS, MILLISECONDS);
-            }
-
-            StructuredQuery<Entity> query = Query.newEntityQueryBuilder()
-                                                 .setKind(table.value())
-                                                 .build();
-            List<Entity> entities = newArrayList(read(query));
-            remainingEntityCount = entities.size();
-
-            if (remainingEntityCount > 0) {
-                deleteEntities(entities);
-                cleanupAttempts++;
+        while (remainingEntityCount > 0) {
+            if (cleanupAttempts >= MAX_CLEANUP_ATTEMPTS) {
+                throw newIllegalStateException(
+                        "Cannot cleanup the table: %s. Remaining entity count is %d",
+                        table, remainingEntityCount);
             }
+            // sleep in between the cleanup attempts.
+            sleepUninterruptibly(CONSISTENCY_AWAIT_TIME_MS, MILLISECONDS);
+            cleanupAttempts++;
+            remainingEntityCount = deleteAll(table);
         }
+    }
 
-        if (cleanupAttempts >= MAX_CLEANUP_ATTEMPTS) {
-            throw newIllegalStateException(
-                    "Cannot cleanup the table: %s. Remaining entity count is %d",
-                    table, remainingEntityCount);
+    /**
+     * Deletes the records of the given kind, which are visible to a keys-only query.
+     *
+     * @return the number of the deleted records
+     */
+    private int deleteAll(Kind table) {
+        var query = Query.newKeyQueryBuilder()
+                         .setKind(table.value())
+                         .build();
+        var keys = ImmutableList.copyOf(read(query));
+        for (var i = 0; i < keys.size(); i += MAX_KEYS_PER_DELETE) {
+            var batch = keys.subList(i, min(i + MAX_KEYS_PER_DELETE, keys.size()));
+            delete(batch.toArray(new Key[0]));
         }
+        return keys.size();
     }
 
     private void waitForConsistency() {
@@ -181,15 +227,85 @@ public class TestDatastoreWrapper extends DatastoreWrapper {
     }
 
     /**
-     * Deletes all records from the datastore.
+     * Deletes all records of the kinds used through the test wrappers.
+     *
+     * <p>The kinds are dropped concurrently.
      */
     public void dropAllTables() {
         logger().atDebug()
                 .log(() -> "Dropping all tables...");
-        for (var kind : kindsCache) {
-            dropTable(kind);
-        }
+        var kinds = ImmutableSet.copyOf(kindsCache);
+        dropConcurrently(kinds);
+        kindsCache.removeAll(kinds);
+    }
+
+    /**
+     * Deletes all records in the namespace of this wrapper.
+     *
+     * <p>Unlike {@link #dropAllTables()}, also deletes the records of the kinds, which
+     * were never used through the test wrappers. The kinds are discovered by a Datastore
+     * metadata query.
+     */
+    public void dropNamespace() {
+        var query = Query.newKeyQueryBuilder()
+                         .setKind(KIND_METADATA)
+                         .build();
+        var kinds = ImmutableList.copyOf(read(query))
+                                 .stream()
+                                 .map(Key::getName)
+                                 .filter(name -> !name.startsWith("__"))
+                                 .map(Kind::of)
+                                 .collect(toImmutableSet());
+        logger().atDebug()
+                .log(() -> "Dropping all " + kinds.size() + " kinds of the namespace...");
+        dropConcurrently(kinds);
+        kindsCache.removeAll(kinds);
+    }
 
+    /**
+     * Forgets the kinds used through the test wrappers, once their records are deleted
+     * by other means.
+     */
+    static void forgetAllKinds() {
         kindsCache.clear();
     }
+
+    private void dropConcurrently(Collection<Kind> kinds) {
+        if (kinds.size() <= 1) {
+            kinds.forEach(this::dropTable);
+            return;
+        }
+        var inNamespace = inNamespace(namespace());
+        var threads = min(kinds.size(), MAX_CONCURRENT_DROPS);
+        var executor = Executors.newFixedThreadPool(
+                threads, new ThreadFactoryBuilder().setNameFormat("drop-tables-%d")
+                                                   .setDaemon(true)
+                                                   .build());
+        try {
+            var drops = kinds.stream()
+                             .map(kind -> CompletableFuture.runAsync(
+                                     () -> inNamespace.dropTable(kind), executor))
+                             .collect(toImmutableList());
+            CompletableFuture.allOf(drops.toArray(new CompletableFuture<?>[0]))
+                             .join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            throwIfUnchecked(cause);
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Creates a wrapper which works in the given namespace regardless of the current tenant.
+     *
+     * <p>The namespace of a multitenant wrapper is resolved by the tenant of the current
+     * thread. The threads dropping the kinds concurrently have no tenant, so they work
+     * through a wrapper bound to the namespace resolved by the calling thread.
+     */
+    private TestDatastoreWrapper inNamespace(Namespace namespace) {
+        var supplier = NamespaceSupplier.singleTenant(namespace.value());
+        return new TestDatastoreWrapper(datastore(), supplier, waitForConsistency);
+    }
 }
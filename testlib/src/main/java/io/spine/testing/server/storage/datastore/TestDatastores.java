@@ -33,6 +33,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.spine.io.Resource;
 import io.spine.logging.WithLogging;
 import io.spine.server.storage.datastore.ProjectId;
+import io.spine.testing.server.storage.datastore.memory.InMemoryDatastore;
 
 import java.io.IOException;
 
@@ -91,6 +92,19 @@ public final class TestDatastores implements WithLogging {
         return datastore;
     }
 
+    /**
+     * Creates a new empty in-memory {@link Datastore}.
+     *
+     * <p>Unlike the {@linkplain #local() local} Datastore, requires neither the emulator
+     * nor the network. The {@linkplain #DEFAULT_LOCAL_PROJECT_ID default project ID}
+     * is used.
+     *
+     * @see InMemoryDatastore
+     */
+    public static Datastore inMemory() {
+        return InMemoryDatastore.newInstance(DEFAULT_LOCAL_PROJECT_ID);
+    }
+
     /**
      * Creates a {@link Datastore} connected to the remote Google Cloud Datastore described by the
      * given service account resource.
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.chaos;
+
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.DatastoreException;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.rpc.Code;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.reflect.Reflection.newProxy;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+
+/**
+ * Injects the latency and the failures into the calls to a {@link Datastore}.
+ *
+ * <p>The injector {@linkplain #wrap(Datastore) wraps} a {@code Datastore}, which may be
+ * backed by the emulator, by a real Datastore, or by the in-memory stand-in. Each call
+ * of the wrapped instance which would reach the service is delayed by a random
+ * {@linkplain Builder#setLatency(Latency) latency}, and then fails with a random
+ * {@linkplain Builder#setErrorRate(Code, double) error}, such as {@code ABORTED},
+ * {@code DEADLINE_EXCEEDED} or {@code UNAVAILABLE}.
+ *
+ * <p>A non-transactional write of several entities may
+ * {@linkplain Builder#setPartialWriteRate(double) fail partially}. In this case, only
+ * some first entities are written, after which the call fails with {@code UNAVAILABLE}.
+ * This is what the Datastore may do for the non-transactional commits, which are not
+ * guaranteed to apply all or none of the mutations.
+ *
+ * <p>The transactions started on the wrapped instance are wrapped as well. Their reads
+ * and commits are subject to the faults.
+ *
+ * <p>The injector is meant for testing and benchmarking the retries, the back-off and
+ * the parallel reads under the degraded Datastore conditions:
+ * <pre>{@code
+ * var injector = FaultInjector.newBuilder()
+ *         .setLatency(Latency.logNormal(Durations.fromMillis(5), Durations.fromMillis(80)))
+ *         .setErrorRate(Code.ABORTED, 0.05)
+ *         .setErrorRate(Code.UNAVAILABLE, 0.01)
+ *         .build();
+ * var datastore = injector.wrap(TestDatastores.local());
+ * }</pre>
+ *
+ * <p>The faults may be {@linkplain #disable() disabled} for the duration of a test set-up,
+ * and {@linkplain #enable() enabled} back afterwards.
+ */
+public final class FaultInjector {
+
+    private final Latency latency;
+    private final ImmutableMap<Code, Double> errorRates;
+    private final double partialWriteRate;
+    private final Random random;
+    private volatile boolean enabled = true;
+
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong partialWrites = new AtomicLong();
+
+    private FaultInjector(Builder builder) {
+        this.latency = builder.latency;
+        this.errorRates = ImmutableMap.copyOf(builder.errorRates);
+        this.partialWriteRate = builder.partialWriteRate;
+        this.random = new Random(builder.seed);
+    }
+
+    /**
+     * Creates a new builder of the injector.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Wraps the given {@code Datastore} so that its calls are subject to the faults.
+     */
+    public Datastore wrap(Datastore datastore) {
+        checkNotNull(datastore);
+        return newProxy(Datastore.class, FaultyHandler.forDatastore(datastore, this));
+    }
+
+    /**
+     * Starts injecting the faults.
+     *
+     * <p>The faults are enabled for a newly created injector.
+     */
+    public void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops injecting the faults, until {@linkplain #enable() enabled} again.
+     */
+    public void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Returns the number of the errors injected so far, including the partial writes.
+     */
+    public long injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    /**
+     * Returns the number of the partial writes injected so far.
+     */
+    public long partialWrites() {
+        return partialWrites.get();
+    }
+
+    /**
+     * Delays the current call and possibly fails it.
+     *
+     * @throws DatastoreException
+     *         if the call is chosen to fail
+     */
+    void beforeCall(String method) throws DatastoreException {
+        if (!enabled) {
+            return;
+        }
+        delay();
+        var point = random.nextDouble();
+        for (var rate : errorRates.entrySet()) {
+            point -= rate.getValue();
+            if (point < 0) {
+                injectedErrors.incrementAndGet();
+                throw failure(rate.getKey(), method);
+            }
+        }
+    }
+
+    /**
+     * Tells if the write of the given number of entities should be applied only partially.
+     */
+    boolean partialWrite(int entityCount) {
+        return enabled
+                && entityCount > 1
+                && partialWriteRate > 0
+                && random.nextDouble() < partialWriteRate;
+    }
+
+    /**
+     * Chooses how many of the given number of entities are written by a partial write.
+     */
+    int partialWriteSize(int entityCount) {
+        return 1 + random.nextInt(entityCount - 1);
+    }
+
+    /**
+     * Creates the failure of a partial write.
+     */
+    DatastoreException partialWriteFailure(String method, int written, int total) {
+        injectedErrors.incrementAndGet();
+        partialWrites.incrementAndGet();
+        return new DatastoreException(
+                Code.UNAVAILABLE_VALUE,
+                format("Injected partial failure of `%s`: %d of %d entities written.",
+                       method, written, total),
+                Code.UNAVAILABLE.name());
+    }
+
+    private void delay() {
+        var nanos = latency.nextNanos(random);
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw newIllegalStateException(e, "Interrupted while injecting the latency.");
+        }
+    }
+
+    private static DatastoreException failure(Code code, String method) {
+        return new DatastoreException(code.getNumber(),
+                                      format("Injected `%s` failure of `%s`.", code, method),
+                                      code.name());
+    }
+
+    /**
+     * A builder of {@code FaultInjector} instances.
+     */
+    public static final class Builder {
+
+        private Latency latency = Latency.none();
+        private final Map<Code, Double> errorRates = new EnumMap<>(Code.class);
+        private double partialWriteRate = 0.0;
+        private long seed = 42L;
+
+        /**
+         * Prevents direct instantiation.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the latency added to each call.
+         *
+         * <p>By default, no latency is added.
+         */
+        @CanIgnoreReturnValue
+        public Builder setLatency(Latency latency) {
+            this.latency = checkNotNull(latency);
+            return this;
+        }
+
+        /**
+         * Sets the share of the calls which fail with the given code.
+         *
+         * <p>The codes typical for a degraded Datastore are {@code ABORTED},
+         * {@code DEADLINE_EXCEEDED} and {@code UNAVAILABLE}. The sum of the rates of
+         * all codes must not exceed 1.
+         *
+         * @param code
+         *         the code of the errors
+         * @param rate
+         *         the probability of a call to fail with this code, from 0 to 1
+         */
+        @CanIgnoreReturnValue
+        public Builder setErrorRate(Code code, double rate) {
+            checkNotNull(code);
+            checkArgument(code != Code.OK && code != Code.UNRECOGNIZED,
+                          "`%s` is not an error code.", code);
+            checkRate(rate);
+            errorRates.put(code, rate);
+            return this;
+        }
+
+        /**
+         * Sets the share of the non-transactional writes of several entities which
+         * are applied only partially.
+         *
+         * <p>By default, the writes are never partial.
+         */
+        @CanIgnoreReturnValue
+        public Builder setPartialWriteRate(double rate) {
+            checkRate(rate);
+            this.partialWriteRate = rate;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the injector's randomness.
+         */
+        @CanIgnoreReturnValue
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        private static void checkRate(double rate) {
+            checkArgument(rate >= 0.0 && rate <= 1.0, "The rate must be between 0 and 1.");
+        }
+
+        /**
+         * Creates a new injector.
+         *
+         * @throws IllegalArgumentException
+         *         if the error rates sum up to more than 1
+         */
+        public FaultInjector build() {
+            var total = errorRates.values()
+                                  .stream()
+                                  .mapToDouble(Double::doubleValue)
+                                  .sum();
+            checkArgument(total <= 1.0, "The error rates sum up to more than 1.");
+            return new FaultInjector(this);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.chaos;
+
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.Transaction;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.reflect.AbstractInvocationHandler;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.reflect.Reflection.newProxy;
+
+/**
+ * Injects the faults into the calls of a {@link Datastore} or of a {@link Transaction}.
+ *
+ * <p>Only the methods which reach the service are subject to the faults. The rest are
+ * passed to the delegate as-is.
+ *
+ * @see FaultInjector
+ */
+final class FaultyHandler extends AbstractInvocationHandler {
+
+    /**
+     * The methods of {@code Datastore} which call the service.
+     */
+    private static final ImmutableSet<String> DATASTORE_CALLS = ImmutableSet.of(
+            "get", "fetch", "run", "add", "put", "update", "delete",
+            "allocateId", "reserveIds", "newTransaction", "runInTransaction"
+    );
+
+    /**
+     * The methods of {@code Transaction} which call the service.
+     *
+     * <p>The writes made in a transaction are sent only on commit.
+     */
+    private static final ImmutableSet<String> TRANSACTION_CALLS = ImmutableSet.of(
+            "get", "fetch", "run", "commit"
+    );
+
+    /**
+     * The methods which write several entities in one call, when passed an array.
+     */
+    private static final ImmutableSet<String> BATCH_WRITES = ImmutableSet.of(
+            "add", "put", "update", "delete"
+    );
+
+    private final Object delegate;
+    private final FaultInjector injector;
+    private final ImmutableSet<String> calls;
+
+    private FaultyHandler(Object delegate, FaultInjector injector, ImmutableSet<String> calls) {
+        this.delegate = checkNotNull(delegate);
+        this.injector = checkNotNull(injector);
+        this.calls = calls;
+    }
+
+    /**
+     * Creates a handler for the given {@code Datastore}.
+     */
+    static FaultyHandler forDatastore(Datastore datastore, FaultInjector injector) {
+        return new FaultyHandler(datastore, injector, DATASTORE_CALLS);
+    }
+
+    private static FaultyHandler forTransaction(Transaction tx, FaultInjector injector) {
+        return new FaultyHandler(tx, injector, TRANSACTION_CALLS);
+    }
+
+    @Override
+    protected @Nullable Object handleInvocation(Object proxy, Method method, Object[] args)
+            throws Throwable {
+        var name = method.getName();
+        if (!calls.contains(name)) {
+            return invoke(method, args);
+        }
+        injector.beforeCall(name);
+        if (isBatchWrite(name, args)) {
+            var entities = args[0];
+            var total = Array.getLength(entities);
+            if (injector.partialWrite(total)) {
+                var written = injector.partialWriteSize(total);
+                invoke(method, new Object[]{copyOf(entities, written)});
+                throw injector.partialWriteFailure(name, written, total);
+            }
+        }
+        var result = invoke(method, args);
+        if (result instanceof Transaction) {
+            return newProxy(Transaction.class, forTransaction((Transaction) result, injector));
+        }
+        return result;
+    }
+
+    private boolean isBatchWrite(String method, Object[] args) {
+        return calls == DATASTORE_CALLS
+                && BATCH_WRITES.contains(method)
+                && args.length == 1
+                && args[0] != null
+                && args[0].getClass()
+                          .isArray();
+    }
+
+    private static Object copyOf(Object array, int length) {
+        return Arrays.copyOf((Object[]) array, length);
+    }
+
+    private @Nullable Object invoke(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.chaos;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A distribution of the latency added to a Datastore call.
+ *
+ * <p>Besides the predefined distributions, a custom one may be provided as a lambda.
+ */
+@FunctionalInterface
+public interface Latency {
+
+    /**
+     * Obtains the next latency in nanoseconds.
+     *
+     * @param random
+     *         the source of randomness to use
+     */
+    long nextNanos(Random random);
+
+    /**
+     * Does not add any latency.
+     */
+    static Latency none() {
+        return random -> 0L;
+    }
+
+    /**
+     * Adds the same latency to each call.
+     */
+    static Latency fixed(Duration latency) {
+        var nanos = toNanos(latency);
+        return random -> nanos;
+    }
+
+    /**
+     * Adds a latency distributed uniformly between the given bounds.
+     */
+    static Latency uniform(Duration min, Duration max) {
+        var minNanos = toNanos(min);
+        var maxNanos = toNanos(max);
+        checkArgument(minNanos <= maxNanos, "The minimum latency must not exceed the maximum.");
+        var range = maxNanos - minNanos + 1;
+        return random -> minNanos + (long) (random.nextDouble() * range);
+    }
+
+    /**
+     * Adds a latency with the log-normal distribution, defined by its median and
+     * its 99th percentile.
+     *
+     * <p>The log-normal distribution has a long tail, which is typical for the latencies
+     * of a network service.
+     */
+    static Latency logNormal(Duration median, Duration p99) {
+        var medianNanos = toNanos(median);
+        var p99Nanos = toNanos(p99);
+        checkArgument(medianNanos > 0, "The median latency must be positive.");
+        checkArgument(medianNanos <= p99Nanos,
+                      "The median latency must not exceed the 99th percentile.");
+        // The 99th percentile of the standard normal distribution.
+        var z99 = 2.326;
+        var mu = Math.log(medianNanos);
+        var sigma = Math.log((double) p99Nanos / medianNanos) / z99;
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    private static long toNanos(Duration latency) {
+        checkNotNull(latency);
+        var nanos = Durations.toNanos(latency);
+        checkArgument(nanos >= 0, "The latency must not be negative.");
+        return nanos;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.load;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxStorage;
+import io.spine.server.delivery.ShardIndex;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The load of an {@link InboxStorage}.
+ *
+ * <p>The writers store new messages to random shards. The readers read a page of messages
+ * from a random shard, as the delivery does when processing the shard.
+ */
+public final class InboxLoad {
+
+    private static final int DEFAULT_PAGE_SIZE = 500;
+
+    private final InboxStorage storage;
+    private final int shardCount;
+    private final Function<ShardIndex, InboxMessage> newMessage;
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    private InboxLoad(InboxStorage storage,
+                      int shardCount,
+                      Function<ShardIndex, InboxMessage> newMessage) {
+        this.storage = storage;
+        this.shardCount = shardCount;
+        this.newMessage = newMessage;
+    }
+
+    /**
+     * Creates a new load of the given storage.
+     *
+     * @param storage
+     *         the storage to load
+     * @param shardCount
+     *         the total number of shards
+     * @param newMessage
+     *         the function creating a new message to write to the given shard
+     */
+    public static InboxLoad of(InboxStorage storage,
+                               int shardCount,
+                               Function<ShardIndex, InboxMessage> newMessage) {
+        checkNotNull(storage);
+        checkArgument(shardCount > 0, "The number of shards must be positive.");
+        checkNotNull(newMessage);
+        return new InboxLoad(storage, shardCount, newMessage);
+    }
+
+    /**
+     * Sets the number of messages read by a single read.
+     *
+     * <p>Default value is 500.
+     */
+    @CanIgnoreReturnValue
+    public InboxLoad setPageSize(int pageSize) {
+        checkArgument(pageSize > 0, "The page size must be positive.");
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Adds the operations of this load to the given load test.
+     */
+    @CanIgnoreReturnValue
+    public LoadTest.Builder addTo(LoadTest.Builder test) {
+        checkNotNull(test);
+        return test.addWrite("Inbox write", this::write)
+                   .addRead("Inbox read page", this::readPage);
+    }
+
+    private void write(Random random) {
+        storage.write(newMessage.apply(randomShard(random)));
+    }
+
+    @SuppressWarnings("CheckReturnValue") // The page itself is not needed.
+    private void readPage(Random random) {
+        storage.readAll(randomShard(random), pageSize);
+    }
+
+    private ShardIndex randomShard(Random random) {
+        return ShardIndex.newBuilder()
+                .setIndex(random.nextInt(shardCount))
+                .setOfTotal(shardCount)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.load;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * A bounded set of the identifiers written during a load test, to be read back.
+ *
+ * <p>Keeps the most recently written identifiers, overwriting the oldest ones once
+ * the capacity is exhausted. Safe to be used concurrently.
+ *
+ * @param <I>
+ *         the type of the identifiers
+ */
+final class KnownIds<I> {
+
+    private final AtomicReferenceArray<I> ids;
+    private final AtomicLong written = new AtomicLong();
+
+    KnownIds(int capacity) {
+        checkArgument(capacity > 0, "The capacity must be positive.");
+        this.ids = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Remembers the written identifier.
+     */
+    void add(I id) {
+        checkNotNull(id);
+        var position = written.getAndIncrement() % ids.length();
+        ids.set((int) position, id);
+    }
+
+    /**
+     * Picks a random identifier among the known ones.
+     *
+     * @throws IllegalStateException
+     *         if no identifiers have been written yet
+     */
+    I pick(Random random) {
+        var available = available();
+        checkState(available > 0, "No records have been written yet.");
+        var id = ids.get(random.nextInt(available));
+        // The slot may not be set yet by a concurrent writer which reserved it.
+        checkState(id != null, "The record is being written concurrently.");
+        return id;
+    }
+
+    /**
+     * Picks the given number of random identifiers among the known ones.
+     */
+    ImmutableList<I> pick(Random random, int count) {
+        var result = ImmutableList.<I>builderWithExpectedSize(count);
+        for (var i = 0; i < count; i++) {
+            result.add(pick(random));
+        }
+        return result.build();
+    }
+
+    private int available() {
+        return (int) Math.min(written.get(), ids.length());
+    }
+}
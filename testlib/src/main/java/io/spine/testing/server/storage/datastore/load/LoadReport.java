@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.load;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+
+import java.util.Collection;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.lang.System.lineSeparator;
+
+/**
+ * The results of a {@link LoadTest} run.
+ */
+public final class LoadReport {
+
+    private final ImmutableMap<String, OperationStats> stats;
+    private final Duration elapsed;
+
+    LoadReport(ImmutableMap<String, OperationStats> stats, Duration elapsed) {
+        this.stats = checkNotNull(stats);
+        this.elapsed = checkNotNull(elapsed);
+    }
+
+    /**
+     * Returns the statistics of the operation with the given name.
+     *
+     * @throws IllegalArgumentException
+     *         if there is no such operation in the test
+     */
+    public OperationStats stats(String operation) {
+        checkNotNull(operation);
+        var result = stats.get(operation);
+        if (result == null) {
+            throw newIllegalArgumentException("There is no operation named `%s`.", operation);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the statistics of all the operations, in the order they were added to the test.
+     */
+    public Collection<OperationStats> allStats() {
+        return stats.values();
+    }
+
+    /**
+     * Returns the duration of the measurement, excluding the warm-up.
+     */
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the samples of the causes of the failed calls, across all the operations.
+     */
+    public ImmutableList<Throwable> failures() {
+        return stats.values()
+                    .stream()
+                    .flatMap(operation -> operation.failures().stream())
+                    .collect(toImmutableList());
+    }
+
+    /**
+     * Returns the total number of calls per second, across all the operations.
+     */
+    public double throughput() {
+        return stats.values()
+                    .stream()
+                    .mapToDouble(OperationStats::throughput)
+                    .sum();
+    }
+
+    @Override
+    public String toString() {
+        var result = new StringBuilder();
+        result.append(String.format("Load test ran for %s, %.1f ops/s in total.",
+                                    Durations.toString(elapsed), throughput()));
+        for (var operation : stats.values()) {
+            result.append(lineSeparator())
+                  .append(operation);
+            var failures = operation.failures();
+            if (!failures.isEmpty()) {
+                result.append(lineSeparator())
+                      .append("    e.g. ")
+                      .append(failures.get(0));
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.load;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+import io.spine.logging.WithLogging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+
+/**
+ * A load test driving a storage with concurrent writers and readers.
+ *
+ * <p>Each writer and reader is a thread which repeatedly performs a randomly chosen
+ * operation of its kind, until the test duration elapses. The operations are chosen
+ * according to their weights. The calls made during the warm-up period are not measured.
+ *
+ * <p>The test produces a {@link LoadReport} with the throughput and the latency
+ * percentiles of each operation. It does not assert anything, leaving it to the caller
+ * to compare the numbers with the expectations, or to print them for sizing.
+ *
+ * <p>The failed calls are counted as errors, and a sample of their causes is kept
+ * in the report. Their latencies are not included into the percentiles.
+ *
+ * <p>The operations for the Datastore-based storages are provided by
+ * {@link RecordStorageLoad}, {@link InboxLoad} and {@link WorkRegistryLoad}. The tested
+ * storages may be backed by the Datastore emulator, by a real Datastore, or by
+ * the {@linkplain io.spine.testing.server.storage.datastore.memory.InMemoryDatastore
+ * in-memory stand-in}.
+ */
+public final class LoadTest implements WithLogging {
+
+    private final int writers;
+    private final int readers;
+    private final long warmUpNanos;
+    private final long durationNanos;
+    private final long seed;
+    private final ImmutableList<WeightedOperation> writes;
+    private final ImmutableList<WeightedOperation> reads;
+
+    private LoadTest(Builder builder) {
+        this.writers = builder.writers;
+        this.readers = builder.readers;
+        this.warmUpNanos = Durations.toNanos(builder.warmUp);
+        this.durationNanos = Durations.toNanos(builder.duration);
+        this.seed = builder.seed;
+        this.writes = ImmutableList.copyOf(builder.writes);
+        this.reads = ImmutableList.copyOf(builder.reads);
+    }
+
+    /**
+     * Creates a new builder of the load test.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the load test and blocks until it is complete.
+     *
+     * @return the measured statistics
+     */
+    public LoadReport run() {
+        var threads = writers + readers;
+        var executor = Executors.newFixedThreadPool(
+                threads, new ThreadFactoryBuilder().setNameFormat("load-test-%d")
+                                                   .setDaemon(true)
+                                                   .build());
+        var start = new CountDownLatch(1);
+        var startedAt = System.nanoTime();
+        var measureFrom = startedAt + warmUpNanos;
+        var measureUntil = measureFrom + durationNanos;
+        List<Future<Map<String, Samples>>> results = new ArrayList<>(threads);
+        for (var i = 0; i < threads; i++) {
+            var operations = i < writers ? writes : reads;
+            var worker = new Worker(operations, new Random(seed + i),
+                                    start, measureFrom, measureUntil);
+            results.add(executor.submit(worker));
+        }
+        start.countDown();
+        try {
+            var merged = merge(results);
+            logger().atDebug()
+                    .log(() -> format("Load test of %d writers and %d readers is complete.",
+                                      writers, readers));
+            return report(merged);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, Samples> merge(List<Future<Map<String, Samples>>> results) {
+        Map<String, Samples> merged = new HashMap<>();
+        for (var result : results) {
+            try {
+                result.get()
+                      .forEach((name, samples) -> merged.merge(name, samples, Samples::merge));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw newIllegalStateException(e, "Interrupted while awaiting the load test.");
+            } catch (ExecutionException e) {
+                throw newIllegalStateException(e.getCause(), "A load test worker failed.");
+            }
+        }
+        return merged;
+    }
+
+    private LoadReport report(Map<String, Samples> samples) {
+        var stats = ImmutableMap.<String, OperationStats>builder();
+        for (var operation : allOperations()) {
+            var name = operation.name;
+            var operationSamples = samples.getOrDefault(name, new Samples());
+            stats.put(name, operationSamples.toStats(name, durationNanos));
+        }
+        return new LoadReport(stats.build(), Durations.fromNanos(durationNanos));
+    }
+
+    private ImmutableList<WeightedOperation> allOperations() {
+        return ImmutableList.<WeightedOperation>builder()
+                            .addAll(writes)
+                            .addAll(reads)
+                            .build();
+    }
+
+    /**
+     * Repeatedly performs the operations of a single writer or reader.
+     */
+    private static final class Worker implements Callable<Map<String, Samples>> {
+
+        private final ImmutableList<WeightedOperation> operations;
+        private final int totalWeight;
+        private final Random random;
+        private final CountDownLatch start;
+        private final long measureFrom;
+        private final long measureUntil;
+
+        private Worker(ImmutableList<WeightedOperation> operations,
+                       Random random,
+                       CountDownLatch start,
+                       long measureFrom,
+                       long measureUntil) {
+            this.operations = operations;
+            this.totalWeight = operations.stream()
+                                         .mapToInt(op -> op.weight)
+                                         .sum();
+            this.random = random;
+            this.start = start;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+        }
+
+        @Override
+        public Map<String, Samples> call() throws InterruptedException {
+            start.await();
+            Map<String, Samples> result = new HashMap<>();
+            long now;
+            while ((now = System.nanoTime()) < measureUntil) {
+                var operation = pick();
+                Exception failure = null;
+                try {
+                    operation.operation.perform(random);
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    failure = e;
+                }
+                var latency = System.nanoTime() - now;
+                if (now >= measureFrom) {
+                    var samples = result.computeIfAbsent(operation.name, name -> new Samples());
+                    if (failure == null) {
+                        samples.add(latency);
+                    } else {
+                        samples.fail(failure);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private WeightedOperation pick() {
+            var point = random.nextInt(totalWeight);
+            for (var operation : operations) {
+                point -= operation.weight;
+                if (point < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException("The operation weights are inconsistent.");
+        }
+    }
+
+    /**
+     * The latencies of the successful calls of an operation collected by a worker,
+     * along with the failures.
+     *
+     * <p>Only the first few failure causes are kept, as a sample.
+     */
+    private static final class Samples {
+
+        private static final int MAX_FAILURES = 10;
+
+        private long[] latencies = new long[1024];
+        private int size = 0;
+        private long errors = 0;
+        private final List<Throwable> failures = new ArrayList<>();
+
+        private void add(long latency) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size] = latency;
+            size++;
+        }
+
+        private void fail(Throwable cause) {
+            errors++;
+            if (failures.size() < MAX_FAILURES) {
+                failures.add(cause);
+            }
+        }
+
+        private Samples merge(Samples other) {
+            var result = new Samples();
+            result.latencies = Arrays.copyOf(latencies, size + other.size);
+            System.arraycopy(other.latencies, 0, result.latencies, size, other.size);
+            result.size = size + other.size;
+            result.errors = errors + other.errors;
+            result.failures.addAll(failures);
+            other.failures
+                 .stream()
+                 .limit(MAX_FAILURES - result.failures.size())
+                 .forEach(result.failures::add);
+            return result;
+        }
+
+        private OperationStats toStats(String name, long elapsedNanos) {
+            return OperationStats.of(name, Arrays.copyOf(latencies, size), errors,
+                                     failures, elapsedNanos);
+        }
+    }
+
+    /**
+     * An operation along with its name and weight.
+     */
+    private static final class WeightedOperation {
+
+        private final String name;
+        private final int weight;
+        private final LoadOperation operation;
+
+        private WeightedOperation(String name, int weight, LoadOperation operation) {
+            this.name = name;
+            this.weight = weight;
+            this.operation = operation;
+        }
+    }
+
+    /**
+     * A builder of {@code LoadTest} instances.
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_WEIGHT = 1;
+
+        private int writers = 1;
+        private int readers = 1;
+        private Duration warmUp = Durations.ZERO;
+        private Duration duration = Durations.fromSeconds(10);
+        private long seed = 42L;
+        private final List<WeightedOperation> writes = new ArrayList<>();
+        private final List<WeightedOperation> reads = new ArrayList<>();
+        private final Set<String> names = new HashSet<>();
+
+        /**
+         * Prevents direct instantiation.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of concurrent writers.
+         *
+         * <p>Default value is 1.
+         */
+        @CanIgnoreReturnValue
+        public Builder setWriters(int writers) {
+            checkArgument(writers >= 0, "The number of writers must not be negative.");
+            this.writers = writers;
+            return this;
+        }
+
+        /**
+         * Sets the number of concurrent readers.
+         *
+         * <p>Default value is 1.
+         */
+        @CanIgnoreReturnValue
+        public Builder setReaders(int readers) {
+            checkArgument(readers >= 0, "The number of readers must not be negative.");
+            this.readers = readers;
+            return this;
+        }
+
+        /**
+         * Sets the duration of the warm-up, during which the calls are not measured.
+         *
+         * <p>By default, there is no warm-up.
+         */
+        @CanIgnoreReturnValue
+        public Builder setWarmUp(Duration warmUp) {
+            checkNotNull(warmUp);
+            checkArgument(Durations.toNanos(warmUp) >= 0, "The warm-up must not be negative.");
+            this.warmUp = warmUp;
+            return this;
+        }
+
+        /**
+         * Sets the duration of the measurement, following the warm-up.
+         *
+         * <p>Default value is 10 seconds.
+         */
+        @CanIgnoreReturnValue
+        public Builder setDuration(Duration duration) {
+            checkNotNull(duration);
+            checkArgument(Durations.toNanos(duration) > 0, "The duration must be positive.");
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the workers' randomness, so that the runs are repeatable.
+         */
+        @CanIgnoreReturnValue
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Adds an operation performed by the writers, with the weight of 1.
+         */
+        @CanIgnoreReturnValue
+        public Builder addWrite(String name, LoadOperation operation) {
+            return addWrite(name, DEFAULT_WEIGHT, operation);
+        }
+
+        /**
+         * Adds an operation performed by the writers.
+         *
+         * @param name
+         *         the unique name of the operation in the report
+         * @param weight
+         *         the relative frequency of the operation among the other writes
+         * @param operation
+         *         the operation to perform
+         */
+        @CanIgnoreReturnValue
+        public Builder addWrite(String name, int weight, LoadOperation operation) {
+            writes.add(newOperation(name, weight, operation));
+            return this;
+        }
+
+        /**
+         * Adds an operation performed by the readers, with the weight of 1.
+         */
+        @CanIgnoreReturnValue
+        public Builder addRead(String name, LoadOperation operation) {
+            return addRead(name, DEFAULT_WEIGHT, operation);
+        }
+
+        /**
+         * Adds an operation performed by the readers.
+         *
+         * @param name
+         *         the unique name of the operation in the report
+         * @param weight
+         *         the relative frequency of the operation among the other reads
+         * @param operation
+         *         the operation to perform
+         */
+        @CanIgnoreReturnValue
+        public Builder addRead(String name, int weight, LoadOperation operation) {
+            reads.add(newOperation(name, weight, operation));
+            return this;
+        }
+
+        private WeightedOperation newOperation(String name, int weight, LoadOperation operation) {
+            checkNotNull(name);
+            checkNotNull(operation);
+            checkArgument(weight > 0, "The weight of an operation must be positive.");
+            checkArgument(names.add(name), "The operation `%s` is already added.", name);
+            return new WeightedOperation(name, weight, operation);
+        }
+
+        /**
+         * Creates a new load test.
+         *
+         * @throws IllegalStateException
+         *         if there are writers but no write operations, or readers
+         *         but no read operations
+         */
+        public LoadTest build() {
+            checkState(writers == 0 || !writes.isEmpty(),
+                       "The writers are set, but no write operations are added.");
+            checkState(readers == 0 || !reads.isEmpty(),
+                       "The readers are set, but no read operations are added.");
+            checkState(writers + readers > 0, "There must be at least one writer or reader.");
+            return new LoadTest(this);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.load;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * The outcome of a single operation in a {@link LoadTest}.
+ *
+ * <p>The latency percentiles are computed over the successful calls only. For the failed
+ * calls, a sample of their causes is kept.
+ */
+public final class OperationStats {
+
+    private final String name;
+    private final long count;
+    private final long errors;
+    private final double throughput;
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final long max;
+    private final ImmutableList<Throwable> failures;
+
+    private OperationStats(String name,
+                           long[] sortedLatencies,
+                           long errors,
+                           ImmutableList<Throwable> failures,
+                           long elapsedNanos) {
+        this.name = name;
+        this.count = sortedLatencies.length + errors;
+        this.errors = errors;
+        this.failures = failures;
+        this.throughput = elapsedNanos == 0 ? 0 : count * 1e9 / elapsedNanos;
+        this.p50 = percentile(sortedLatencies, 0.5);
+        this.p99 = percentile(sortedLatencies, 0.99);
+        this.p999 = percentile(sortedLatencies, 0.999);
+        this.max = sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length - 1];
+    }
+
+    /**
+     * Computes the statistics of the operation.
+     *
+     * @param name
+     *         the name of the operation
+     * @param latencies
+     *         the latencies of each successful call, in nanoseconds; sorted in place
+     * @param errors
+     *         the number of failed calls
+     * @param failures
+     *         the sample of the causes of the failed calls
+     * @param elapsedNanos
+     *         the duration of the measurement
+     */
+    static OperationStats of(String name,
+                             long[] latencies,
+                             long errors,
+                             List<Throwable> failures,
+                             long elapsedNanos) {
+        checkNotNull(name);
+        checkNotNull(failures);
+        Arrays.sort(latencies);
+        return new OperationStats(name, latencies, errors,
+                                  ImmutableList.copyOf(failures), elapsedNanos);
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        var index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    /**
+     * Returns the name of the operation.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the number of the measured calls, including the failed ones.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of the failed calls.
+     */
+    public long errors() {
+        return errors;
+    }
+
+    /**
+     * Returns the sample of the causes of the failed calls.
+     *
+     * <p>Holds the first few causes, rather than all of them.
+     */
+    public ImmutableList<Throwable> failures() {
+        return failures;
+    }
+
+    /**
+     * Returns the number of calls per second, including the failed ones.
+     */
+    public double throughput() {
+        return throughput;
+    }
+
+    /**
+     * Returns the median latency of the successful calls.
+     */
+    public Duration p50() {
+        return Durations.fromNanos(p50);
+    }
+
+    /**
+     * Returns the 99th percentile of latency.
+     */
+    public Duration p99() {
+        return Durations.fromNanos(p99);
+    }
+
+    /**
+     * Returns the 99.9th percentile of latency.
+     */
+    public Duration p999() {
+        return Durations.fromNanos(p999);
+    }
+
+    /**
+     * Returns the maximum latency.
+     */
+    public Duration max() {
+        return Durations.fromNanos(max);
+    }
+
+    @Override
+    public String toString() {
+        return format("%-24s %9d calls %6d errors %10.1f ops/s   " +
+                              "p50 %8.2f ms   p99 %8.2f ms   p999 %8.2f ms   max %8.2f ms",
+                      name, count, errors, throughput,
+                      millis(p50), millis(p99), millis(p999), millis(max));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
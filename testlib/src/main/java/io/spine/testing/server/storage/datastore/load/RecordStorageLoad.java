@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.load;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Message;
+import io.spine.query.RecordQuery;
+import io.spine.server.storage.RecordStorage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The load of a {@link RecordStorage}, such as
+ * {@link io.spine.server.storage.datastore.record.DsRecordStorage DsRecordStorage}.
+ *
+ * <p>The writers store new records. The readers read the written records by a single ID
+ * and by a batch of IDs, and run the queries {@linkplain #addQuery(String, Function) added}
+ * by the caller. The queries are meant to represent the shapes used by the application,
+ * such as the column filters, {@code either} predicates, and sorting along with a limit.
+ *
+ * <p>The storage is usually filled with some records {@linkplain #preload(int) in advance},
+ * so that the readers have something to read from the very start.
+ *
+ * @param <I>
+ *         the type of the record identifiers
+ * @param <R>
+ *         the type of the stored records
+ */
+public final class RecordStorageLoad<I, R extends Message> {
+
+    private static final int KNOWN_IDS = 10_000;
+    private static final int IDS_PER_READ = 20;
+
+    private final RecordStorage<I, R> storage;
+    private final Class<I> idClass;
+    private final Class<R> recordClass;
+    private final Supplier<I> newId;
+    private final Function<I, R> newRecord;
+    private final KnownIds<I> written = new KnownIds<>(KNOWN_IDS);
+    private final Map<String, Function<Random, RecordQuery<I, R>>> queries =
+            new LinkedHashMap<>();
+
+    private RecordStorageLoad(RecordStorage<I, R> storage,
+                              Class<I> idClass,
+                              Class<R> recordClass,
+                              Supplier<I> newId,
+                              Function<I, R> newRecord) {
+        this.storage = storage;
+        this.idClass = idClass;
+        this.recordClass = recordClass;
+        this.newId = newId;
+        this.newRecord = newRecord;
+    }
+
+    /**
+     * Creates a new load of the given storage.
+     *
+     * @param storage
+     *         the storage to load
+     * @param idClass
+     *         the class of the record identifiers
+     * @param recordClass
+     *         the class of the records
+     * @param newId
+     *         the supplier of the identifiers for the new records
+     * @param newRecord
+     *         the function creating a new record with the given identifier
+     */
+    public static <I, R extends Message> RecordStorageLoad<I, R>
+    of(RecordStorage<I, R> storage,
+       Class<I> idClass,
+       Class<R> recordClass,
+       Supplier<I> newId,
+       Function<I, R> newRecord) {
+        checkNotNull(storage);
+        checkNotNull(idClass);
+        checkNotNull(recordClass);
+        checkNotNull(newId);
+        checkNotNull(newRecord);
+        return new RecordStorageLoad<>(storage, idClass, recordClass, newId, newRecord);
+    }
+
+    /**
+     * Adds a query to be run by the readers.
+     *
+     * @param name
+     *         the name of the query in the report
+     * @param query
+     *         the function producing a query to run, given the reader's randomness
+     */
+    @CanIgnoreReturnValue
+    public RecordStorageLoad<I, R> addQuery(String name,
+                                            Function<Random, RecordQuery<I, R>> query) {
+        checkNotNull(name);
+        checkNotNull(query);
+        checkArgument(!queries.containsKey(name), "The query `%s` is already added.", name);
+        queries.put(name, query);
+        return this;
+    }
+
+    /**
+     * Writes the given number of records before the load test starts.
+     */
+    @CanIgnoreReturnValue
+    public RecordStorageLoad<I, R> preload(int count) {
+        checkArgument(count >= 0, "The number of records must not be negative.");
+        for (var i = 0; i < count; i++) {
+            write();
+        }
+        return this;
+    }
+
+    /**
+     * Adds the operations of this load to the given load test.
+     *
+     * <p>The operations are named after the simple name of the record class.
+     */
+    @CanIgnoreReturnValue
+    public LoadTest.Builder addTo(LoadTest.Builder test) {
+        checkNotNull(test);
+        var prefix = recordClass.getSimpleName() + ' ';
+        test.addWrite(prefix + "write", random -> write())
+            .addRead(prefix + "read by ID", this::readById)
+            .addRead(prefix + "read by IDs", this::readByIds);
+        queries.forEach(
+                (name, query) -> test.addRead(prefix + name, random -> run(query.apply(random)))
+        );
+        return test;
+    }
+
+    private void write() {
+        var id = newId.get();
+        storage.write(id, newRecord.apply(id));
+        written.add(id);
+    }
+
+    @SuppressWarnings("CheckReturnValue") // The record itself is not needed.
+    private void readById(Random random) {
+        storage.read(written.pick(random));
+    }
+
+    private void readByIds(Random random) {
+        var ids = written.pick(random, IDS_PER_READ);
+        var query = RecordQuery.newBuilder(idClass, recordClass)
+                               .id().in(ids)
+                               .build();
+        run(query);
+    }
+
+    private void run(RecordQuery<I, R> query) {
+        var records = storage.readAll(query);
+        while (records.hasNext()) {
+            records.next();
+        }
+    }
+}
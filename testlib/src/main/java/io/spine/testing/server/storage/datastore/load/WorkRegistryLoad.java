@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.load;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+import io.spine.server.NodeId;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.storage.datastore.delivery.DsShardedWorkRegistry;
+
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.base.Identifier.newUuid;
+
+/**
+ * The load of a {@link DsShardedWorkRegistry}.
+ *
+ * <p>The writers act as the nodes competing for the shards: each picks up a random shard
+ * and releases the obtained session right away. Once in a while, a writer releases
+ * the expired sessions, as the delivery does periodically.
+ *
+ * <p>The registry has no operations for the readers.
+ */
+public final class WorkRegistryLoad {
+
+    private static final int PICK_UPS_PER_EXPIRY_CHECK = 50;
+    private static final Duration INACTIVITY_PERIOD = Durations.fromMinutes(1);
+
+    private final DsShardedWorkRegistry registry;
+    private final int shardCount;
+
+    private WorkRegistryLoad(DsShardedWorkRegistry registry, int shardCount) {
+        this.registry = registry;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Creates a new load of the given registry.
+     *
+     * @param registry
+     *         the registry to load
+     * @param shardCount
+     *         the total number of shards
+     */
+    public static WorkRegistryLoad of(DsShardedWorkRegistry registry, int shardCount) {
+        checkNotNull(registry);
+        checkArgument(shardCount > 0, "The number of shards must be positive.");
+        return new WorkRegistryLoad(registry, shardCount);
+    }
+
+    /**
+     * Adds the operations of this load to the given load test.
+     */
+    @CanIgnoreReturnValue
+    public LoadTest.Builder addTo(LoadTest.Builder test) {
+        checkNotNull(test);
+        return test.addWrite("Registry pick up and release",
+                             PICK_UPS_PER_EXPIRY_CHECK, this::pickUpAndRelease)
+                   .addWrite("Registry release expired", random -> releaseExpired());
+    }
+
+    private void pickUpAndRelease(Random random) {
+        var index = ShardIndex.newBuilder()
+                .setIndex(random.nextInt(shardCount))
+                .setOfTotal(shardCount)
+                .build();
+        var node = NodeId.newBuilder()
+                .setValue(newUuid())
+                .build();
+        var outcome = registry.pickUp(index, node);
+        if (outcome.hasSession()) {
+            registry.release(outcome.getSession());
+        }
+    }
+
+    @SuppressWarnings("CheckReturnValue") // The released shards are not needed.
+    private void releaseExpired() {
+        registry.releaseExpiredSessions(INACTIVITY_PERIOD);
+    }
+}
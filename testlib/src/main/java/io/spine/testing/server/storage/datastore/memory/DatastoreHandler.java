@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.memory;
+
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.DatastoreException;
+import com.google.cloud.datastore.DatastoreOptions;
+import com.google.cloud.datastore.IncompleteKey;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.KeyFactory;
+import com.google.cloud.datastore.Transaction;
+import com.google.datastore.v1.TransactionOptions;
+import io.spine.testing.server.storage.datastore.memory.EntityStore.Mutation;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Strings.nullToEmpty;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.reflect.Reflection.newProxy;
+
+/**
+ * Serves the calls of an in-memory {@link Datastore}.
+ *
+ * <p>The writes are applied to the store right away.
+ *
+ * @see InMemoryDatastore
+ */
+final class DatastoreHandler extends ReaderWriterHandler {
+
+    private static final int UNKNOWN = 2;
+
+    private final DatastoreOptions options;
+    private @Nullable Datastore self;
+
+    private DatastoreHandler(EntityStore store, DatastoreOptions options) {
+        super(store, nullToEmpty(options.getNamespace()));
+        this.options = options;
+    }
+
+    /**
+     * Creates a new empty {@code Datastore} with the given options.
+     */
+    static Datastore newDatastore(DatastoreOptions options) {
+        var store = new EntityStore(options.getProjectId());
+        var handler = new DatastoreHandler(store, options);
+        var datastore = newProxy(Datastore.class, handler);
+        handler.self = datastore;
+        return datastore;
+    }
+
+    @Override
+    @Nullable Object handleOther(Object proxy, String method, Object[] args) {
+        switch (method) {
+            case "getOptions":
+                return options;
+            case "newKeyFactory":
+                return new KeyFactory(options.getProjectId(), namespace());
+            case "allocateId":
+                return allocateId(args[0]);
+            case "reserveIds":
+                return Arrays.asList((Key[]) args[0]);
+            case "newTransaction":
+                return newTransaction(args.length == 0 ? null : (TransactionOptions) args[0]);
+            case "runInTransaction":
+                return runInTransaction((Datastore.TransactionCallable<?>) args[0],
+                                        args.length > 1 ? (TransactionOptions) args[1] : null);
+            case "close":
+                return null;
+            case "isClosed":
+                return false;
+            default:
+                throw unsupported("Datastore", method);
+        }
+    }
+
+    @Override
+    void beforeRead(Iterable<Key> keys) {
+        // Non-transactional reads are not tracked.
+    }
+
+    @Override
+    void mutate(List<Mutation> mutations) {
+        store().apply(mutations);
+    }
+
+    private Object allocateId(Object keys) {
+        if (keys instanceof IncompleteKey) {
+            return store().allocateId((IncompleteKey) keys);
+        }
+        return Arrays.stream((IncompleteKey[]) keys)
+                     .map(store()::allocateId)
+                     .collect(toImmutableList());
+    }
+
+    private Transaction newTransaction(@Nullable TransactionOptions options) {
+        var readOnly = options != null && options.hasReadOnly();
+        return InMemoryTransaction.begin(store(), namespace(), checkNotNull(self), readOnly);
+    }
+
+    private <T> @Nullable T
+    runInTransaction(Datastore.TransactionCallable<T> callable,
+                     @Nullable TransactionOptions options) {
+        var tx = newTransaction(options);
+        try {
+            T result = callable.run(tx);
+            tx.commit();
+            return result;
+        } catch (DatastoreException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DatastoreException(UNKNOWN, e.getMessage(), null, e);
+        } finally {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+        }
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.memory;
+
+import com.google.cloud.datastore.DatastoreException;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.IncompleteKey;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.StructuredQuery;
+import com.google.cloud.datastore.StructuredQuery.OrderBy;
+import com.google.cloud.datastore.Value;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Table;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.lang.String.format;
+import static java.util.Comparator.comparing;
+
+/**
+ * The committed state of an in-memory Datastore.
+ *
+ * <p>Keeps the entities per namespace and kind, along with the version of each Entity group.
+ * The version of a group changes each time any entity of the group is written or deleted.
+ * The versions are used to detect the conflicting transactions.
+ *
+ * <p>All the operations are atomic.
+ */
+final class EntityStore {
+
+    /**
+     * The maximum number of entities written in a single commit.
+     */
+    private static final int MAX_ENTITIES_PER_COMMIT = 500;
+
+    /**
+     * The maximum number of Entity groups a single transaction may touch.
+     */
+    private static final int MAX_ENTITY_GROUPS_PER_TRANSACTION = 25;
+
+    private static final String NAMESPACE_KIND = "__namespace__";
+    private static final String KIND_KIND = "__kind__";
+    private static final long DEFAULT_NAMESPACE_ID = 1L;
+
+    private static final int INVALID_ARGUMENT = 3;
+    private static final int NOT_FOUND = 5;
+    private static final int ALREADY_EXISTS = 6;
+    private static final int ABORTED = 10;
+
+    private final String projectId;
+
+    /**
+     * The stored entities per namespace and kind.
+     */
+    private final Table<String, String, Map<Key, Entity>> entities = HashBasedTable.create();
+
+    /**
+     * The versions of Entity groups, per the key of the group root.
+     */
+    private final Map<Key, Long> groupVersions = new HashMap<>();
+
+    private long clock = 0;
+    private long lastAllocatedId = 0;
+
+    EntityStore(String projectId) {
+        this.projectId = checkNotNull(projectId);
+    }
+
+    /**
+     * Returns the ID of the project to which the stored entities belong.
+     */
+    String projectId() {
+        return projectId;
+    }
+
+    /**
+     * Reads the entity with the given key.
+     */
+    synchronized Optional<Entity> get(Key key) {
+        var kindEntities = entities.get(key.getNamespace(), key.getKind());
+        if (kindEntities == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(kindEntities.get(key));
+    }
+
+    /**
+     * Reads the entities with the given keys.
+     *
+     * <p>The order of the result is the same as the order of keys. For the missing entities,
+     * {@code null}s are returned.
+     */
+    synchronized List<@Nullable Entity> getAll(Collection<Key> keys) {
+        List<@Nullable Entity> result = new ArrayList<>(keys.size());
+        for (var key : keys) {
+            result.add(get(key).orElse(null));
+        }
+        return result;
+    }
+
+    /**
+     * Allocates a new numeric ID for the given incomplete key.
+     */
+    synchronized Key allocateId(IncompleteKey key) {
+        lastAllocatedId++;
+        return Key.newBuilder(key, lastAllocatedId)
+                  .build();
+    }
+
+    /**
+     * Returns the current version of the Entity group to which the key belongs.
+     */
+    synchronized long versionOf(Key key) {
+        return groupVersions.getOrDefault(groupOf(key), 0L);
+    }
+
+    /**
+     * Applies the given mutations atomically, outside a transaction.
+     */
+    synchronized void apply(List<Mutation> mutations) {
+        checkSize(mutations);
+        checkPreconditions(mutations);
+        write(mutations);
+    }
+
+    /**
+     * Commits a transaction.
+     *
+     * @param seenVersions
+     *         the versions of the Entity groups, as seen by the transaction upon
+     *         their first read or write
+     * @param mutations
+     *         the mutations made in the transaction
+     * @throws DatastoreException
+     *         with the {@code ABORTED} code, if any of the Entity groups has been changed
+     *         since the transaction had seen it
+     */
+    synchronized void commit(Map<Key, Long> seenVersions, List<Mutation> mutations) {
+        checkSize(mutations);
+        if (seenVersions.size() > MAX_ENTITY_GROUPS_PER_TRANSACTION) {
+            throw new DatastoreException(
+                    INVALID_ARGUMENT,
+                    format("A transaction cannot operate on more than %d Entity groups.",
+                           MAX_ENTITY_GROUPS_PER_TRANSACTION),
+                    "INVALID_ARGUMENT");
+        }
+        for (var seen : seenVersions.entrySet()) {
+            var current = groupVersions.getOrDefault(seen.getKey(), 0L);
+            if (current.longValue() != seen.getValue()) {
+                throw new DatastoreException(
+                        ABORTED, "Aborted due to cross-transaction contention.", "ABORTED");
+            }
+        }
+        checkPreconditions(mutations);
+        write(mutations);
+    }
+
+    /**
+     * Finds the entities matching the given query, ordered as requested by the query.
+     *
+     * <p>The cursors, the offset and the limit of the query are not applied.
+     *
+     * @param query
+     *         the query to run
+     * @param defaultNamespace
+     *         the namespace to use if the query does not specify one
+     */
+    synchronized ImmutableList<Entity> find(StructuredQuery<?> query, String defaultNamespace) {
+        if (!query.getProjection()
+                  .isEmpty()) {
+            throw new UnsupportedOperationException(
+                    "Projection queries are not supported by the in-memory Datastore.");
+        }
+        var namespace = query.getNamespace() == null
+                        ? defaultNamespace
+                        : query.getNamespace();
+        var matcher = FilterMatcher.of(query.getFilter());
+        var orderBy = query.getOrderBy();
+        var result = candidates(namespace, query.getKind())
+                .stream()
+                .filter(matcher)
+                .filter(entity -> hasSortValues(entity, orderBy))
+                .sorted(ordering(orderBy))
+                .collect(toImmutableList());
+        return result;
+    }
+
+    /**
+     * Returns the key of the root of the Entity group to which the key belongs.
+     */
+    static Key groupOf(Key key) {
+        var root = ValueOrder.pathOf(key)
+                             .get(0);
+        var builder = root.hasId()
+                      ? Key.newBuilder(key.getProjectId(), root.getKind(), root.getId())
+                      : Key.newBuilder(key.getProjectId(), root.getKind(), root.getName());
+        return builder.setNamespace(key.getNamespace())
+                      .build();
+    }
+
+    private List<Entity> candidates(String namespace, @Nullable String kind) {
+        if (NAMESPACE_KIND.equals(kind)) {
+            return namespaces();
+        }
+        if (KIND_KIND.equals(kind)) {
+            return kinds(namespace);
+        }
+        List<Entity> result = new ArrayList<>();
+        if (kind == null) {
+            entities.row(namespace)
+                    .values()
+                    .forEach(kindEntities -> result.addAll(kindEntities.values()));
+        } else {
+            var kindEntities = entities.get(namespace, kind);
+            if (kindEntities != null) {
+                result.addAll(kindEntities.values());
+            }
+        }
+        return result;
+    }
+
+    private List<Entity> namespaces() {
+        return entities.rowKeySet()
+                       .stream()
+                       .map(namespace -> namespace.isEmpty()
+                                         ? Key.newBuilder(projectId, NAMESPACE_KIND,
+                                                          DEFAULT_NAMESPACE_ID)
+                                         : Key.newBuilder(projectId, NAMESPACE_KIND, namespace))
+                       .map(builder -> Entity.newBuilder(builder.build())
+                                             .build())
+                       .collect(toImmutableList());
+    }
+
+    private List<Entity> kinds(String namespace) {
+        return entities.row(namespace)
+                       .keySet()
+                       .stream()
+                       .map(kind -> Key.newBuilder(projectId, KIND_KIND, kind)
+                                       .setNamespace(namespace)
+                                       .build())
+                       .map(key -> Entity.newBuilder(key)
+                                         .build())
+                       .collect(toImmutableList());
+    }
+
+    /**
+     * Tells whether the entity has all the properties it is sorted by.
+     *
+     * <p>Just like the Datastore, the entities missing any of the sort properties
+     * are not returned.
+     */
+    private static boolean hasSortValues(Entity entity, List<OrderBy> orderBy) {
+        return orderBy.stream()
+                      .noneMatch(order -> FilterMatcher.indexedValues(entity, order.getProperty())
+                                                       .isEmpty());
+    }
+
+    /**
+     * Orders the entities according to the given directives, and then by their keys.
+     */
+    private static Comparator<Entity> ordering(List<OrderBy> orderBy) {
+        Comparator<Entity> result = (left, right) -> 0;
+        for (var order : orderBy) {
+            var property = order.getProperty();
+            var descending = order.getDirection() == OrderBy.Direction.DESCENDING;
+            Comparator<Entity> byProperty =
+                    comparing(entity -> sortValue(entity, property, descending),
+                              ValueOrder.instance);
+            result = result.thenComparing(descending ? byProperty.reversed() : byProperty);
+        }
+        return result.thenComparing(Entity::getKey, ValueOrder::compareKeys);
+    }
+
+    /**
+     * Returns the value by which the entity is sorted.
+     *
+     * <p>If the property has several values, the smallest one is used for the ascending
+     * order, and the greatest one is used for the descending order.
+     */
+    private static Value<?> sortValue(Entity entity, String property, boolean descending) {
+        var values = FilterMatcher.indexedValues(entity, property);
+        var comparator = ValueOrder.instance;
+        return descending
+               ? values.stream().max(comparator).orElseThrow()
+               : values.stream().min(comparator).orElseThrow();
+    }
+
+    private static void checkSize(List<Mutation> mutations) {
+        if (mutations.size() > MAX_ENTITIES_PER_COMMIT) {
+            throw new DatastoreException(
+                    INVALID_ARGUMENT,
+                    format("Cannot write more than %d entities in a single call.",
+                           MAX_ENTITIES_PER_COMMIT),
+                    "INVALID_ARGUMENT");
+        }
+    }
+
+    /**
+     * Ensures the inserted entities do not exist yet, and the updated entities do.
+     */
+    private void checkPreconditions(List<Mutation> mutations) {
+        Set<Key> existing = new HashSet<>();
+        Set<Key> missing = new HashSet<>();
+        for (var mutation : mutations) {
+            var key = mutation.key();
+            var exists = existing.contains(key)
+                         || (!missing.contains(key) && get(key).isPresent());
+            if (mutation.type() == Mutation.Type.INSERT && exists) {
+                throw new DatastoreException(
+                        ALREADY_EXISTS, format("Entity `%s` already exists.", key),
+                        "ALREADY_EXISTS");
+            }
+            if (mutation.type() == Mutation.Type.UPDATE && !exists) {
+                throw new DatastoreException(
+                        NOT_FOUND, format("Entity `%s` is not found.", key), "NOT_FOUND");
+            }
+            if (mutation.type() == Mutation.Type.DELETE) {
+                existing.remove(key);
+                missing.add(key);
+            } else {
+                missing.remove(key);
+                existing.add(key);
+            }
+        }
+    }
+
+    private void write(List<Mutation> mutations) {
+        clock++;
+        for (var mutation : mutations) {
+            var key = mutation.key();
+            var entity = mutation.entity();
+            if (entity == null) {
+                var kindEntities = entities.get(key.getNamespace(), key.getKind());
+                if (kindEntities != null) {
+                    kindEntities.remove(key);
+                    if (kindEntities.isEmpty()) {
+                        entities.remove(key.getNamespace(), key.getKind());
+                    }
+                }
+            } else {
+                var kindEntities = entities.get(key.getNamespace(), key.getKind());
+                if (kindEntities == null) {
+                    kindEntities = new HashMap<>();
+                    entities.put(key.getNamespace(), key.getKind(), kindEntities);
+                }
+                kindEntities.put(key, entity);
+            }
+            groupVersions.put(groupOf(key), clock);
+        }
+    }
+
+    /**
+     * A change of a single entity.
+     */
+    static final class Mutation {
+
+        /**
+         * The type of the change.
+         */
+        enum Type {
+
+            /**
+             * Creates a new entity; fails if the entity exists.
+             */
+            INSERT,
+
+            /**
+             * Creates a new entity or overwrites the existing one.
+             */
+            UPSERT,
+
+            /**
+             * Overwrites an existing entity; fails if the entity does not exist.
+             */
+            UPDATE,
+
+            /**
+             * Deletes an entity, if it exists.
+             */
+            DELETE
+        }
+
+        private final Type type;
+        private final Key key;
+        private final @Nullable Entity entity;
+
+        private Mutation(Type type, Key key, @Nullable Entity entity) {
+            this.type = type;
+            this.key = key;
+            this.entity = entity;
+        }
+
+        /**
+         * Creates a mutation writing the given entity.
+         */
+        static Mutation write(Type type, Entity entity) {
+            checkNotNull(entity);
+            return new Mutation(type, entity.getKey(), entity);
+        }
+
+        /**
+         * Creates a mutation deleting the entity with the given key.
+         */
+        static Mutation delete(Key key) {
+            checkNotNull(key);
+            return new Mutation(Type.DELETE, key, null);
+        }
+
+        Type type() {
+            return type;
+        }
+
+        Key key() {
+            return key;
+        }
+
+        @Nullable Entity entity() {
+            return entity;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.memory;
+
+import com.google.cloud.StringEnumValue;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.KeyValue;
+import com.google.cloud.datastore.ListValue;
+import com.google.cloud.datastore.StructuredQuery.CompositeFilter;
+import com.google.cloud.datastore.StructuredQuery.Filter;
+import com.google.cloud.datastore.StructuredQuery.PropertyFilter;
+import com.google.cloud.datastore.Value;
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Tells whether an {@link Entity} matches a Datastore query {@link Filter}.
+ *
+ * <p>As in the Datastore, the properties excluded from indexes never match a filter,
+ * and a list property matches if any of its elements does.
+ *
+ * @implNote The Datastore client library does not expose the contents of its filters.
+ *         Therefore, they are read reflectively.
+ */
+final class FilterMatcher implements Predicate<Entity> {
+
+    /**
+     * The name of the special property referencing the key of an entity.
+     */
+    static final String KEY_PROPERTY = "__key__";
+
+    private static final Field compositeOperator = field(CompositeFilter.class, "operator");
+    private static final Field compositeFilters = field(CompositeFilter.class, "filters");
+    private static final Field propertyName = field(PropertyFilter.class, "property");
+    private static final Field propertyOperator = field(PropertyFilter.class, "operator");
+    private static final Field propertyValue = field(PropertyFilter.class, "value");
+
+    private final @Nullable Filter filter;
+
+    private FilterMatcher(@Nullable Filter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Creates a matcher of the given filter.
+     *
+     * <p>If the filter is {@code null}, all entities match.
+     */
+    static FilterMatcher of(@Nullable Filter filter) {
+        return new FilterMatcher(filter);
+    }
+
+    @Override
+    public boolean test(Entity entity) {
+        checkNotNull(entity);
+        return filter == null || matches(filter, entity);
+    }
+
+    /**
+     * Returns the keys of the ancestors which the entities matching the filter
+     * must have, as required by the {@code HAS_ANCESTOR} filters.
+     *
+     * <p>The {@code HAS_ANCESTOR} filters are looked for at the top level of the filter
+     * and within its {@code AND} composites.
+     */
+    static ImmutableList<Key> ancestorsOf(@Nullable Filter filter) {
+        if (filter == null) {
+            return ImmutableList.of();
+        }
+        if (filter instanceof PropertyFilter) {
+            var operator = operatorOf(filter, propertyOperator);
+            if ("HAS_ANCESTOR".equals(operator)) {
+                Value<?> ancestor = read(propertyValue, filter);
+                return ImmutableList.of((Key) ancestor.get());
+            }
+            return ImmutableList.of();
+        }
+        if (filter instanceof CompositeFilter
+                && "AND".equals(operatorOf(filter, compositeOperator))) {
+            List<Filter> children = read(compositeFilters, filter);
+            return children.stream()
+                           .flatMap(child -> ancestorsOf(child).stream())
+                           .collect(toImmutableList());
+        }
+        return ImmutableList.of();
+    }
+
+    private static boolean matches(Filter filter, Entity entity) {
+        if (filter instanceof CompositeFilter) {
+            return matchesComposite((CompositeFilter) filter, entity);
+        }
+        if (filter instanceof PropertyFilter) {
+            return matchesProperty((PropertyFilter) filter, entity);
+        }
+        throw newIllegalStateException("Unsupported filter type `%s`.",
+                                       filter.getClass().getName());
+    }
+
+    private static boolean matchesComposite(CompositeFilter filter, Entity entity) {
+        var operator = operatorOf(filter, compositeOperator);
+        List<Filter> children = read(compositeFilters, filter);
+        if ("AND".equals(operator)) {
+            return children.stream()
+                           .allMatch(child -> matches(child, entity));
+        }
+        if ("OR".equals(operator)) {
+            return children.stream()
+                           .anyMatch(child -> matches(child, entity));
+        }
+        throw newIllegalStateException("Unsupported composite filter operator `%s`.", operator);
+    }
+
+    private static boolean matchesProperty(PropertyFilter filter, Entity entity) {
+        String property = read(propertyName, filter);
+        var operator = operatorOf(filter, propertyOperator);
+        Value<?> expected = read(propertyValue, filter);
+        if ("HAS_ANCESTOR".equals(operator)) {
+            var ancestor = (Key) expected.get();
+            return ValueOrder.isDescendant(entity.getKey(), ancestor);
+        }
+        var actual = indexedValues(entity, property);
+        var order = ValueOrder.instance;
+        switch (operator) {
+            case "EQUAL":
+                return actual.stream()
+                             .anyMatch(v -> order.compare(v, expected) == 0);
+            case "NOT_EQUAL":
+                return actual.stream()
+                             .anyMatch(v -> order.compare(v, expected) != 0);
+            case "LESS_THAN":
+                return actual.stream()
+                             .anyMatch(v -> order.compare(v, expected) < 0);
+            case "LESS_THAN_OR_EQUAL":
+                return actual.stream()
+                             .anyMatch(v -> order.compare(v, expected) <= 0);
+            case "GREATER_THAN":
+                return actual.stream()
+                             .anyMatch(v -> order.compare(v, expected) > 0);
+            case "GREATER_THAN_OR_EQUAL":
+                return actual.stream()
+                             .anyMatch(v -> order.compare(v, expected) >= 0);
+            case "IN":
+                return actual.stream()
+                             .anyMatch(v -> contains(expected, v));
+            case "NOT_IN":
+                return actual.stream()
+                             .anyMatch(v -> !contains(expected, v));
+            default:
+                throw newIllegalStateException(
+                        "Unsupported property filter operator `%s`.", operator);
+        }
+    }
+
+    private static boolean contains(Value<?> list, Value<?> value) {
+        return ((ListValue) list).get()
+                                 .stream()
+                                 .anyMatch(v -> ValueOrder.instance.compare(v, value) == 0);
+    }
+
+    /**
+     * Returns the values of the given property which are available to the Datastore indexes.
+     */
+    static ImmutableList<Value<?>> indexedValues(Entity entity, String property) {
+        if (KEY_PROPERTY.equals(property)) {
+            return ImmutableList.of(KeyValue.of(entity.getKey()));
+        }
+        if (!entity.contains(property)) {
+            return ImmutableList.of();
+        }
+        Value<?> value = entity.getValue(property);
+        if (value instanceof ListValue) {
+            ImmutableList.Builder<Value<?>> result = ImmutableList.builder();
+            for (Value<?> element : ((ListValue) value).get()) {
+                if (!element.excludeFromIndexes()) {
+                    result.add(element);
+                }
+            }
+            return result.build();
+        }
+        return value.excludeFromIndexes()
+               ? ImmutableList.of()
+               : ImmutableList.of(value);
+    }
+
+    private static String operatorOf(Filter filter, Field operatorField) {
+        StringEnumValue operator = read(operatorField, filter);
+        return operator.name();
+    }
+
+    @SuppressWarnings("unchecked" /* The field types are known. */)
+    private static <T> T read(Field field, Filter filter) {
+        try {
+            return (T) field.get(filter);
+        } catch (IllegalAccessException e) {
+            throw newIllegalStateException(e, "Unable to read `%s` of filter `%s`.",
+                                           field.getName(), filter);
+        }
+    }
+
+    private static Field field(Class<?> type, String name) {
+        try {
+            var field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw newIllegalStateException(
+                    e, "The field `%s` is not found in `%s`. " +
+                            "The Datastore client library version is not supported.",
+                    name, type.getName());
+        }
+    }
+}
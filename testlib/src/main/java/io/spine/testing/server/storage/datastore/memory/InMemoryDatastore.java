@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.memory;
+
+import com.google.cloud.NoCredentials;
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.DatastoreOptions;
+import io.spine.server.storage.datastore.ProjectId;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A pure-Java in-memory stand-in of the Google Cloud Datastore.
+ *
+ * <p>The produced {@link Datastore} keeps the entities in memory, and supports:
+ * <ul>
+ *     <li>reading and writing the entities by their keys, with the numeric IDs allocated
+ *         for incomplete keys;
+ *     <li>namespaces, including the {@code __namespace__} and {@code __kind__}
+ *         metadata queries;
+ *     <li>entity and key queries with property and ancestor filters, ordering, offsets,
+ *         limits and cursors;
+ *     <li>optimistic transactions, which are aborted upon a concurrent modification
+ *         of the Entity groups they operate on.
+ * </ul>
+ *
+ * <p>It is intended for the tests and benchmarks which need neither the Docker-based
+ * emulator nor the network. Projection and GQL queries, aggregations and batches are
+ * not supported. Neither are the Datastore indexes, so the queries which would require
+ * a composite index in the Datastore work without one.
+ *
+ * <p>The produced instance may be passed to
+ * {@link io.spine.server.storage.datastore.DatastoreStorageFactory#newBuilderWithDefaults(Datastore)
+ * DatastoreStorageFactory.newBuilderWithDefaults(Datastore)} like any other {@code Datastore}.
+ */
+public final class InMemoryDatastore {
+
+    private static final ProjectId DEFAULT_PROJECT_ID = ProjectId.of("in-memory-project");
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private InMemoryDatastore() {
+    }
+
+    /**
+     * Creates a new empty in-memory {@code Datastore}.
+     */
+    public static Datastore newInstance() {
+        return newInstance(DEFAULT_PROJECT_ID);
+    }
+
+    /**
+     * Creates a new empty in-memory {@code Datastore} with the given project ID.
+     */
+    public static Datastore newInstance(ProjectId projectId) {
+        checkNotNull(projectId);
+        var options = DatastoreOptions.newBuilder()
+                .setProjectId(projectId.value())
+                .setCredentials(NoCredentials.getInstance())
+                .build();
+        return DatastoreHandler.newDatastore(options);
+    }
+}
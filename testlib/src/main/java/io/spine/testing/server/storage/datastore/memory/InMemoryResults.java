@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.memory;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.KeyQuery;
+import com.google.cloud.datastore.QueryResults;
+import com.google.cloud.datastore.StructuredQuery;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.Ints;
+import com.google.common.reflect.AbstractInvocationHandler;
+import com.google.datastore.v1.QueryResultBatch.MoreResultsType;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import static com.google.common.reflect.Reflection.newProxy;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.lang.Math.min;
+
+/**
+ * The {@link QueryResults} of a query run by the in-memory Datastore.
+ *
+ * <p>All the results are returned in a single batch. The cursors point to the position
+ * of an entity among all the entities matching the query.
+ */
+final class InMemoryResults extends AbstractInvocationHandler {
+
+    private final List<Entity> entities;
+    private final boolean keysOnly;
+    private final int skipped;
+    private final int end;
+    private final boolean moreAfterLimit;
+    private int position;
+
+    private InMemoryResults(StructuredQuery<?> query, List<Entity> matching) {
+        this.entities = matching;
+        this.keysOnly = query instanceof KeyQuery;
+        var total = matching.size();
+        var endCursor = query.getEndCursor();
+        var upperBound = endCursor == null ? total : min(positionOf(endCursor), total);
+        var startCursor = query.getStartCursor();
+        var start = startCursor == null ? 0 : min(positionOf(startCursor), upperBound);
+        var afterOffset = min(start + query.getOffset(), upperBound);
+        this.skipped = afterOffset - start;
+        var limit = query.getLimit();
+        this.end = limit == null ? upperBound : (int) min((long) afterOffset + limit, upperBound);
+        this.moreAfterLimit = end < upperBound;
+        this.position = afterOffset;
+    }
+
+    /**
+     * Creates the results of the given query.
+     *
+     * @param query
+     *         the executed query
+     * @param matching
+     *         all the entities matching the query, in the order requested by the query
+     */
+    @SuppressWarnings("unchecked" /* The result type is defined by the query type. */)
+    static <T> QueryResults<T> of(StructuredQuery<T> query, List<Entity> matching) {
+        var handler = new InMemoryResults(query, matching);
+        return newProxy(QueryResults.class, handler);
+    }
+
+    @Override
+    protected @Nullable Object handleInvocation(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "hasNext":
+                return position < end;
+            case "next":
+                return next();
+            case "forEachRemaining":
+                forEachRemaining(args[0]);
+                return null;
+            case "getCursorAfter":
+                return cursorAt(position);
+            case "getSkippedResults":
+                return skipped;
+            case "getMoreResults":
+                return moreAfterLimit
+                       ? MoreResultsType.MORE_RESULTS_AFTER_LIMIT
+                       : MoreResultsType.NO_MORE_RESULTS;
+            case "getResultClass":
+                return keysOnly ? Key.class : Entity.class;
+            default:
+                throw new UnsupportedOperationException(
+                        "`QueryResults." + method.getName()
+                                + "` is not supported by the in-memory Datastore.");
+        }
+    }
+
+    private Object next() {
+        if (position >= end) {
+            throw new NoSuchElementException("The query results are exhausted.");
+        }
+        var entity = entities.get(position);
+        position++;
+        return keysOnly ? entity.getKey() : entity;
+    }
+
+    @SuppressWarnings("unchecked" /* The `Iterator` contract. */)
+    private void forEachRemaining(Object action) {
+        var consumer = (Consumer<Object>) action;
+        while (position < end) {
+            consumer.accept(next());
+        }
+    }
+
+    private static Cursor cursorAt(int position) {
+        return Cursor.copyFrom(Ints.toByteArray(position));
+    }
+
+    private static int positionOf(Cursor cursor) {
+        var bytes = BaseEncoding.base64Url()
+                                .decode(cursor.toUrlSafe());
+        if (bytes.length != Ints.BYTES) {
+            throw newIllegalArgumentException(
+                    "The cursor `%s` was not produced by the in-memory Datastore.", cursor);
+        }
+        return Ints.fromByteArray(bytes);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.memory;
+
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.DatastoreException;
+import com.google.cloud.datastore.FullEntity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.Transaction;
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.AbstractInvocationHandler;
+import com.google.protobuf.ByteString;
+import io.spine.testing.server.storage.datastore.memory.EntityStore.Mutation;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.reflect.Reflection.newProxy;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.testing.server.storage.datastore.memory.EntityStore.Mutation.Type.INSERT;
+import static io.spine.testing.server.storage.datastore.memory.EntityStore.Mutation.Type.UPSERT;
+
+/**
+ * A {@link Transaction} of the in-memory Datastore.
+ *
+ * <p>The transaction is optimistic. It remembers the version of each Entity group upon
+ * the first read or write of the group. The commit is aborted if any of the groups has
+ * been changed since then.
+ *
+ * <p>As in the Datastore, the reads within a transaction do not see the writes made by it.
+ */
+final class InMemoryTransaction extends ReaderWriterHandler {
+
+    private static final int FAILED_PRECONDITION = 9;
+
+    private final Datastore datastore;
+    private final boolean readOnly;
+    private final ByteString id = ByteString.copyFromUtf8(newUuid());
+    private final Map<Key, Long> seenVersions = new HashMap<>();
+    private final List<Mutation> mutations = new ArrayList<>();
+    private final List<Key> generatedKeys = new ArrayList<>();
+    private boolean active = true;
+
+    private InMemoryTransaction(EntityStore store,
+                                String namespace,
+                                Datastore datastore,
+                                boolean readOnly) {
+        super(store, namespace);
+        this.datastore = datastore;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Starts a new transaction.
+     *
+     * @param store
+     *         the store of the committed entities
+     * @param namespace
+     *         the namespace used when a query does not specify one
+     * @param datastore
+     *         the Datastore which started the transaction
+     * @param readOnly
+     *         whether the transaction is read-only
+     */
+    static Transaction begin(EntityStore store,
+                             String namespace,
+                             Datastore datastore,
+                             boolean readOnly) {
+        var handler = new InMemoryTransaction(store, namespace, datastore, readOnly);
+        return newProxy(Transaction.class, handler);
+    }
+
+    @Override
+    synchronized @Nullable Object handleOther(Object proxy, String method, Object[] args) {
+        switch (method) {
+            case "commit":
+                commit();
+                return response();
+            case "rollback":
+                checkActive();
+                active = false;
+                return null;
+            case "isActive":
+                return active;
+            case "getDatastore":
+                return datastore;
+            case "getTransactionId":
+                return id;
+            case "addWithDeferredIdAllocation":
+                deferred(INSERT, (FullEntity<?>[]) args[0]);
+                return null;
+            case "putWithDeferredIdAllocation":
+                deferred(UPSERT, (FullEntity<?>[]) args[0]);
+                return null;
+            default:
+                throw unsupported("Transaction", method);
+        }
+    }
+
+    @Override
+    synchronized void beforeRead(Iterable<Key> keys) {
+        checkActive();
+        see(keys);
+    }
+
+    @Override
+    synchronized void mutate(List<Mutation> newMutations) {
+        checkActive();
+        if (readOnly) {
+            throw new DatastoreException(
+                    FAILED_PRECONDITION, "Cannot modify entities in a read-only transaction.",
+                    "FAILED_PRECONDITION");
+        }
+        for (var mutation : newMutations) {
+            see(ImmutableList.of(mutation.key()));
+        }
+        mutations.addAll(newMutations);
+    }
+
+    private void deferred(Mutation.Type type, FullEntity<?>[] entities) {
+        List<Mutation> completed = new ArrayList<>(entities.length);
+        for (var entity : entities) {
+            var withKey = complete(entity);
+            if (withKey.getKey() != entity.getKey()) {
+                generatedKeys.add(withKey.getKey());
+            }
+            completed.add(Mutation.write(type, withKey));
+        }
+        mutate(completed);
+    }
+
+    private void see(Iterable<Key> keys) {
+        for (var key : keys) {
+            var group = EntityStore.groupOf(key);
+            if (!seenVersions.containsKey(group)) {
+                seenVersions.put(group, store().versionOf(group));
+            }
+        }
+    }
+
+    private void commit() {
+        checkActive();
+        active = false;
+        store().commit(seenVersions, mutations);
+    }
+
+    private Transaction.Response response() {
+        var keys = ImmutableList.copyOf(generatedKeys);
+        return newProxy(Transaction.Response.class, new AbstractInvocationHandler() {
+            @Override
+            protected Object handleInvocation(Object proxy, Method method, Object[] args) {
+                if ("getGeneratedKeys".equals(method.getName())) {
+                    return keys;
+                }
+                throw unsupported("Transaction.Response", method.getName());
+            }
+        });
+    }
+
+    private void checkActive() {
+        if (!active) {
+            throw new DatastoreException(
+                    FAILED_PRECONDITION, "The transaction is no longer active.",
+                    "FAILED_PRECONDITION");
+        }
+    }
+}
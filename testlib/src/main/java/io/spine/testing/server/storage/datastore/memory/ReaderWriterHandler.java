@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.memory;
+
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.FullEntity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.Query;
+import com.google.cloud.datastore.QueryResults;
+import com.google.cloud.datastore.StructuredQuery;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.reflect.AbstractInvocationHandler;
+import io.spine.testing.server.storage.datastore.memory.EntityStore.Mutation;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.testing.server.storage.datastore.memory.EntityStore.Mutation.Type.INSERT;
+import static io.spine.testing.server.storage.datastore.memory.EntityStore.Mutation.Type.UPDATE;
+import static io.spine.testing.server.storage.datastore.memory.EntityStore.Mutation.Type.UPSERT;
+
+/**
+ * An abstract base for the in-memory implementations of
+ * {@link com.google.cloud.datastore.DatastoreReaderWriter DatastoreReaderWriter}.
+ *
+ * <p>Serves the reads and turns the writes into {@linkplain Mutation mutations}, leaving
+ * it to descendants to decide when the mutations are applied.
+ *
+ * <p>The methods are dispatched by their names, so that the implementation is not bound
+ * to a particular version of the Datastore client library.
+ */
+abstract class ReaderWriterHandler extends AbstractInvocationHandler {
+
+    private final EntityStore store;
+    private final String namespace;
+
+    ReaderWriterHandler(EntityStore store, String namespace) {
+        this.store = checkNotNull(store);
+        this.namespace = checkNotNull(namespace);
+    }
+
+    @Override
+    protected final @Nullable Object handleInvocation(Object proxy, Method method, Object[] args)
+            throws Exception {
+        var name = method.getName();
+        switch (name) {
+            case "get":
+                return get(args[0]);
+            case "fetch":
+                return fetch(args[0]);
+            case "run":
+                return run((Query<?>) args[0]);
+            case "add":
+                return write(INSERT, args[0]);
+            case "put":
+                return write(UPSERT, args[0]);
+            case "update":
+                write(UPDATE, args[0]);
+                return null;
+            case "delete":
+                delete((Key[]) args[0]);
+                return null;
+            default:
+                return handleOther(proxy, name, args);
+        }
+    }
+
+    /**
+     * Handles the method which is neither a read nor a write.
+     *
+     * @throws UnsupportedOperationException
+     *         if the method is not supported
+     */
+    abstract @Nullable Object handleOther(Object proxy, String method, Object[] args)
+            throws Exception;
+
+    /**
+     * Called before the entities with the given keys are read.
+     */
+    abstract void beforeRead(Iterable<Key> keys);
+
+    /**
+     * Applies or schedules the given mutations.
+     */
+    abstract void mutate(List<Mutation> mutations);
+
+    /**
+     * Returns the store of the committed entities.
+     */
+    final EntityStore store() {
+        return store;
+    }
+
+    /**
+     * Returns the namespace used when a query does not specify one.
+     */
+    final String namespace() {
+        return namespace;
+    }
+
+    /**
+     * Creates an exception for the method which is not supported.
+     */
+    static UnsupportedOperationException unsupported(String type, String method) {
+        return new UnsupportedOperationException(
+                "`" + type + '.' + method + "` is not supported by the in-memory Datastore.");
+    }
+
+    private Object get(Object keys) {
+        if (keys instanceof Key) {
+            var key = (Key) keys;
+            beforeRead(ImmutableList.of(key));
+            return store.get(key)
+                        .orElse(null);
+        }
+        var found = fetch(keys)
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(toImmutableList());
+        return found.iterator();
+    }
+
+    private List<@Nullable Entity> fetch(Object keys) {
+        ImmutableList<Key> keyList = keys instanceof Key[]
+                                     ? ImmutableList.copyOf((Key[]) keys)
+                                     : ImmutableList.copyOf(asKeys(keys));
+        beforeRead(keyList);
+        return store.getAll(keyList);
+    }
+
+    @SuppressWarnings("unchecked" /* `Iterable<Key>` by the Datastore API contract. */)
+    private static Iterable<Key> asKeys(Object keys) {
+        return (Iterable<Key>) keys;
+    }
+
+    private QueryResults<?> run(Query<?> query) {
+        checkArgument(query instanceof StructuredQuery,
+                      "Only the structured queries are supported by the in-memory Datastore.");
+        var structured = (StructuredQuery<?>) query;
+        var matching = store.find(structured, namespace);
+        // The Entity groups of the queried ancestors are read even if no entities match.
+        // Thus, the transaction conflicts with the writes to them.
+        var ancestors = FilterMatcher.ancestorsOf(structured.getFilter());
+        beforeRead(Iterables.concat(ancestors,
+                                    Iterables.transform(matching, Entity::getKey)));
+        return InMemoryResults.of(structured, matching);
+    }
+
+    private Object write(Mutation.Type type, Object entities) {
+        if (entities instanceof FullEntity) {
+            var entity = complete((FullEntity<?>) entities);
+            mutate(ImmutableList.of(Mutation.write(type, entity)));
+            return entity;
+        }
+        var completed = Arrays.stream((FullEntity<?>[]) entities)
+                              .map(this::complete)
+                              .collect(toImmutableList());
+        var mutations = completed.stream()
+                                 .map(entity -> Mutation.write(type, entity))
+                                 .collect(toImmutableList());
+        mutate(mutations);
+        return completed;
+    }
+
+    private void delete(Key[] keys) {
+        var mutations = Arrays.stream(keys)
+                              .map(Mutation::delete)
+                              .collect(toImmutableList());
+        mutate(mutations);
+    }
+
+    /**
+     * Returns the entity with a complete key, allocating an ID if necessary.
+     */
+    final Entity complete(FullEntity<?> entity) {
+        var key = entity.getKey();
+        checkArgument(key != null, "An entity without a key cannot be written.");
+        if (key instanceof Key) {
+            return entity instanceof Entity
+                   ? (Entity) entity
+                   : Entity.newBuilder((Key) key, entity)
+                           .build();
+        }
+        var allocated = store.allocateId(key);
+        return Entity.newBuilder(allocated, entity)
+                     .build();
+    }
+}
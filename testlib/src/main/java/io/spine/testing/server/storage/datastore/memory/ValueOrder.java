@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.memory;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.datastore.Blob;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.PathElement;
+import com.google.cloud.datastore.Value;
+import com.google.cloud.datastore.ValueType;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.UnsignedBytes;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders the Datastore values in the same way as the Datastore does.
+ *
+ * <p>The values of different types are ordered as follows: nulls, integers and timestamps,
+ * booleans, byte strings, strings, floating-point numbers, geographical points, keys.
+ * The rest of values are ordered by their string representation.
+ *
+ * <p>Integers and timestamps are compared with each other, as the timestamps are
+ * stored as microseconds by the Datastore.
+ */
+final class ValueOrder implements Comparator<Value<?>> {
+
+    static final ValueOrder instance = new ValueOrder();
+
+    /**
+     * Prevents this comparator from being instantiated by other classes.
+     */
+    private ValueOrder() {
+    }
+
+    @Override
+    public int compare(Value<?> left, Value<?> right) {
+        var rankComparison = Integer.compare(rank(left.getType()), rank(right.getType()));
+        if (rankComparison != 0) {
+            return rankComparison;
+        }
+        return switch (left.getType()) {
+            case NULL -> 0;
+            case LONG, TIMESTAMP -> Long.compare(asMicros(left), asMicros(right));
+            case BOOLEAN -> Boolean.compare((Boolean) left.get(), (Boolean) right.get());
+            case BLOB -> UnsignedBytes.lexicographicalComparator()
+                                      .compare(((Blob) left.get()).toByteArray(),
+                                               ((Blob) right.get()).toByteArray());
+            case STRING -> ((String) left.get()).compareTo((String) right.get());
+            case DOUBLE -> Double.compare((Double) left.get(), (Double) right.get());
+            case KEY -> compareKeys((Key) left.get(), (Key) right.get());
+            default -> left.toString()
+                           .compareTo(right.toString());
+        };
+    }
+
+    /**
+     * Compares the keys by their paths.
+     *
+     * <p>Path elements are compared by their kinds first. Then, numeric IDs go before names.
+     */
+    static int compareKeys(Key left, Key right) {
+        var leftPath = pathOf(left);
+        var rightPath = pathOf(right);
+        var commonLength = Math.min(leftPath.size(), rightPath.size());
+        for (var i = 0; i < commonLength; i++) {
+            var comparison = compareElements(leftPath.get(i), rightPath.get(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(leftPath.size(), rightPath.size());
+    }
+
+    /**
+     * Returns the full path of the key, from its root to the key itself.
+     */
+    static ImmutableList<PathElement> pathOf(Key key) {
+        var self = key.hasId()
+                   ? PathElement.of(key.getKind(), key.getId())
+                   : PathElement.of(key.getKind(), key.getName());
+        return ImmutableList.<PathElement>builder()
+                            .addAll(key.getAncestors())
+                            .add(self)
+                            .build();
+    }
+
+    private static int compareElements(PathElement left, PathElement right) {
+        var kindComparison = left.getKind()
+                                 .compareTo(right.getKind());
+        if (kindComparison != 0) {
+            return kindComparison;
+        }
+        if (left.hasId() != right.hasId()) {
+            return left.hasId() ? -1 : 1;
+        }
+        if (left.hasId()) {
+            return Long.compare(left.getId(), right.getId());
+        }
+        return left.getName()
+                   .compareTo(right.getName());
+    }
+
+    private static long asMicros(Value<?> value) {
+        if (value.getType() == ValueType.LONG) {
+            return (Long) value.get();
+        }
+        var timestamp = (Timestamp) value.get();
+        return timestamp.getSeconds() * 1_000_000L + timestamp.getNanos() / 1_000;
+    }
+
+    private static int rank(ValueType type) {
+        return switch (type) {
+            case NULL -> 0;
+            case LONG, TIMESTAMP -> 1;
+            case BOOLEAN -> 2;
+            case BLOB -> 3;
+            case STRING -> 4;
+            case DOUBLE -> 5;
+            case LAT_LNG -> 6;
+            case KEY -> 7;
+            default -> 8;
+        };
+    }
+
+    /**
+     * Tells whether the given key is the given ancestor or its descendant.
+     */
+    static boolean isDescendant(Key key, Key ancestor) {
+        if (!key.getProjectId().equals(ancestor.getProjectId())
+                || !key.getNamespace().equals(ancestor.getNamespace())) {
+            return false;
+        }
+        List<PathElement> path = pathOf(key);
+        List<PathElement> ancestorPath = pathOf(ancestor);
+        return path.size() >= ancestorPath.size()
+                && path.subList(0, ancestorPath.size())
+                       .equals(ancestorPath);
+    }
+}
@@ -26,11 +26,19 @@
 
 package io.spine.testing.server.storage.datastore;
 
+import com.google.cloud.datastore.Entity;
+import com.google.common.collect.ImmutableList;
 import com.google.common.testing.NullPointerTester;
+import io.spine.core.TenantId;
+import io.spine.server.storage.datastore.Kind;
+import io.spine.server.storage.datastore.tenant.NamespaceConverterFactory;
+import io.spine.server.storage.datastore.tenant.NamespaceSupplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.tenant.TenantAwareRunner.with;
 import static io.spine.testing.DisplayNames.NOT_ACCEPT_NULLS;
 import static io.spine.testing.server.storage.datastore.given.ATestDatastoreWrapper.wrap;
 import static io.spine.testing.server.storage.datastore.given.AnEntity.withKeyCreatedBy;
@@ -88,4 +96,50 @@ class TestDatastoreWrapperTest {
         var entityReadAfterClear = wrapper.read(key);
         assertThat(entityReadAfterClear).isEmpty();
     }
+
+    @Test
+    @DisplayName("drop the kinds of the namespace, which were not used through the wrapper")
+    void dropNamespace() {
+        var datastore = TestDatastores.inMemory();
+        var wrapper = TestDatastoreWrapper.wrap(datastore, false);
+        var keys = ImmutableList.of("First", "Second", "Third")
+                                .stream()
+                                .map(kind -> datastore.newKeyFactory()
+                                                      .setKind(kind)
+                                                      .newKey(kind.toLowerCase()))
+                                .collect(toImmutableList());
+        keys.forEach(key -> datastore.put(Entity.newBuilder(key)
+                                                .build()));
+
+        wrapper.dropNamespace();
+
+        for (var key : keys) {
+            assertThat(wrapper.read(key)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("drop the kinds of the namespace of the current tenant")
+    void dropTenantNamespace() {
+        var supplier = NamespaceSupplier.multitenant(NamespaceConverterFactory.defaults());
+        var wrapper = TestDatastoreWrapper.wrap(TestDatastores.inMemory(), supplier, false);
+        var tenant = TenantId.newBuilder()
+                .setValue("drop-tenant")
+                .build();
+        with(tenant).run(() -> {
+            var keys = ImmutableList.of("First", "Second", "Third")
+                                    .stream()
+                                    .map(kind -> wrapper.keyFactory(Kind.of(kind))
+                                                        .newKey(kind.toLowerCase()))
+                                    .collect(toImmutableList());
+            keys.forEach(key -> wrapper.createOrUpdate(Entity.newBuilder(key)
+                                                             .build()));
+
+            wrapper.dropNamespace();
+
+            for (var key : keys) {
+                assertThat(wrapper.read(key)).isEmpty();
+            }
+        });
+    }
 }
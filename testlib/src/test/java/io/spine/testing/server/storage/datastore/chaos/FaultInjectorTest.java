@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.chaos;
+
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.DatastoreException;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.Query;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Range;
+import com.google.protobuf.util.Durations;
+import com.google.rpc.Code;
+import io.spine.testing.server.storage.datastore.memory.InMemoryDatastore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`FaultInjector` should")
+final class FaultInjectorTest {
+
+    private static final String KIND = "Task";
+
+    private Datastore origin;
+
+    @BeforeEach
+    void setUp() {
+        origin = InMemoryDatastore.newInstance();
+    }
+
+    @Test
+    @DisplayName("fail the calls with the configured code")
+    void injectErrors() {
+        var injector = FaultInjector.newBuilder()
+                .setErrorRate(Code.ABORTED, 1.0)
+                .build();
+        var datastore = injector.wrap(origin);
+
+        var exception = assertThrows(DatastoreException.class,
+                                     () -> datastore.put(task("first")));
+        assertThat(exception.getCode()).isEqualTo(Code.ABORTED_VALUE);
+        assertThat(exception.isRetryable()).isTrue();
+        assertThat(injector.injectedErrors()).isEqualTo(1L);
+        assertThat(origin.get(key("first"))).isNull();
+    }
+
+    @Test
+    @DisplayName("not affect the calls when disabled")
+    void disable() {
+        var injector = FaultInjector.newBuilder()
+                .setErrorRate(Code.UNAVAILABLE, 1.0)
+                .build();
+        var datastore = injector.wrap(origin);
+        injector.disable();
+
+        datastore.put(task("first"));
+        assertThat(datastore.get(key("first"))).isNotNull();
+
+        injector.enable();
+        assertThrows(DatastoreException.class, () -> datastore.get(key("first")));
+    }
+
+    @Test
+    @DisplayName("write only some of the entities on a partial write")
+    void partialWrite() {
+        var injector = FaultInjector.newBuilder()
+                .setPartialWriteRate(1.0)
+                .build();
+        var datastore = injector.wrap(origin);
+
+        var exception = assertThrows(DatastoreException.class,
+                                     () -> datastore.put(task("a"), task("b"), task("c")));
+        assertThat(exception.getCode()).isEqualTo(Code.UNAVAILABLE_VALUE);
+        assertThat(injector.partialWrites()).isEqualTo(1L);
+
+        var written = Iterators.size(origin.run(Query.newEntityQueryBuilder()
+                                                     .setKind(KIND)
+                                                     .build()));
+        assertThat(written).isAtLeast(1);
+        assertThat(written).isLessThan(3);
+    }
+
+    @Test
+    @DisplayName("inject the faults into the transaction commits")
+    void faultyCommits() {
+        var injector = FaultInjector.newBuilder()
+                .setErrorRate(Code.ABORTED, 1.0)
+                .build();
+        var datastore = injector.wrap(origin);
+        injector.disable();
+        var tx = datastore.newTransaction();
+        tx.put(task("first"));
+
+        injector.enable();
+        var exception = assertThrows(DatastoreException.class, tx::commit);
+        assertThat(exception.getCode()).isEqualTo(Code.ABORTED_VALUE);
+        assertThat(origin.get(key("first"))).isNull();
+    }
+
+    @Test
+    @DisplayName("add the configured latency")
+    void addLatency() {
+        var latency = Durations.fromMillis(50);
+        var injector = FaultInjector.newBuilder()
+                .setLatency(Latency.fixed(latency))
+                .build();
+        var datastore = injector.wrap(origin);
+
+        var start = System.nanoTime();
+        datastore.get(key("missing"));
+        var elapsed = System.nanoTime() - start;
+        assertThat(elapsed).isAtLeast(Durations.toNanos(latency));
+    }
+
+    @Test
+    @DisplayName("produce the log-normal latencies with the given median")
+    void logNormal() {
+        var latency = Latency.logNormal(Durations.fromMillis(10), Durations.fromMillis(100));
+        var random = new Random(42);
+        var samples = ImmutableList.<Long>builder();
+        for (var i = 0; i < 10_001; i++) {
+            samples.add(latency.nextNanos(random));
+        }
+        var sorted = samples.build()
+                            .stream()
+                            .sorted()
+                            .collect(toImmutableList());
+        var median = sorted.get(5_000);
+        assertThat(median).isIn(Range.closed(8_000_000L, 12_000_000L));
+    }
+
+    @Test
+    @DisplayName("reject error rates summing up to more than 1")
+    void rejectExcessiveRates() {
+        var builder = FaultInjector.newBuilder()
+                .setErrorRate(Code.ABORTED, 0.6)
+                .setErrorRate(Code.UNAVAILABLE, 0.6);
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    private Entity task(String name) {
+        return Entity.newBuilder(key(name))
+                .set("name", name)
+                .build();
+    }
+
+    private Key key(String name) {
+        return origin.newKeyFactory()
+                     .setKind(KIND)
+                     .newKey(name);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.load;
+
+import com.google.protobuf.util.Durations;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`LoadTest` should")
+final class LoadTestTest {
+
+    @Test
+    @DisplayName("measure each operation performed by writers and readers")
+    void measureOperations() {
+        var writes = new AtomicInteger();
+        var reads = new AtomicInteger();
+        var report = LoadTest.newBuilder()
+                .setWriters(2)
+                .setReaders(2)
+                .setDuration(Durations.fromMillis(200))
+                .addWrite("write", random -> writes.incrementAndGet())
+                .addRead("read", random -> reads.incrementAndGet())
+                .build()
+                .run();
+
+        var writeStats = report.stats("write");
+        var readStats = report.stats("read");
+        assertThat(writeStats.count()).isGreaterThan(0);
+        assertThat(readStats.count()).isGreaterThan(0);
+        assertThat(writeStats.count()).isAtMost(writes.get());
+        assertThat(readStats.count()).isAtMost(reads.get());
+        assertThat(writeStats.errors()).isEqualTo(0L);
+        assertThat(Durations.compare(writeStats.p50(), writeStats.p99())).isAtMost(0);
+        assertThat(Durations.compare(writeStats.p99(), writeStats.max())).isAtMost(0);
+    }
+
+    @Test
+    @DisplayName("count the failed operations as errors")
+    void countErrors() {
+        var report = LoadTest.newBuilder()
+                .setWriters(1)
+                .setReaders(0)
+                .setDuration(Durations.fromMillis(100))
+                .addWrite("failing", random -> {
+                    throw new IllegalStateException("Expected in this test.");
+                })
+                .build()
+                .run();
+
+        var stats = report.stats("failing");
+        assertThat(stats.errors()).isEqualTo(stats.count());
+        assertThat(stats.failures()).isNotEmpty();
+        assertThat(stats.failures().get(0)).isInstanceOf(IllegalStateException.class);
+        assertThat(report.failures()).containsAtLeastElementsIn(stats.failures());
+    }
+
+    @Test
+    @DisplayName("not include the latencies of the failed operations into the percentiles")
+    void excludeFailedLatencies() {
+        var calls = new AtomicInteger();
+        var report = LoadTest.newBuilder()
+                .setWriters(1)
+                .setReaders(0)
+                .setDuration(Durations.fromMillis(200))
+                .addWrite("sometimes slow to fail", random -> {
+                    if (calls.incrementAndGet() % 2 == 0) {
+                        Thread.sleep(20);
+                        throw new IllegalStateException("Expected in this test.");
+                    }
+                })
+                .build()
+                .run();
+
+        var stats = report.stats("sometimes slow to fail");
+        assertThat(stats.errors()).isGreaterThan(0L);
+        assertThat(Durations.toMillis(stats.max())).isLessThan(20L);
+    }
+
+    @Test
+    @DisplayName("not measure the calls made during the warm-up")
+    void skipWarmUp() {
+        var calls = new AtomicInteger();
+        var report = LoadTest.newBuilder()
+                .setWriters(1)
+                .setReaders(0)
+                .setWarmUp(Durations.fromMillis(100))
+                .setDuration(Durations.fromMillis(100))
+                .addWrite("write", random -> {
+                    calls.incrementAndGet();
+                    Thread.sleep(10);
+                })
+                .build()
+                .run();
+
+        assertThat(report.stats("write").count()).isLessThan(calls.get());
+    }
+
+    @Test
+    @DisplayName("require the operations for the writers and readers")
+    void requireOperations() {
+        var builder = LoadTest.newBuilder()
+                .setWriters(1)
+                .setReaders(1)
+                .addWrite("write", random -> {});
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    @DisplayName("reject operations with the same name")
+    void rejectDuplicateNames() {
+        var builder = LoadTest.newBuilder()
+                .addWrite("op", random -> {});
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder.addRead("op", random -> {}));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.load;
+
+import com.google.protobuf.util.Durations;
+import io.spine.server.ContextSpec;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardSessionRecord;
+import io.spine.server.storage.datastore.delivery.DsSessionStorage;
+import io.spine.server.storage.datastore.delivery.DsShardedWorkRegistry;
+import io.spine.testing.server.storage.datastore.TestDatastoreStorageFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.base.Time.currentTime;
+
+/**
+ * Runs each of the Datastore storage loads for a short while against
+ * the in-memory Datastore.
+ */
+@DisplayName("Datastore storage loads should")
+final class StorageLoadsTest {
+
+    private static final int SHARDS = 4;
+    private static final ContextSpec context =
+            ContextSpec.singleTenant(StorageLoadsTest.class.getName());
+
+    private final TestDatastoreStorageFactory factory = TestDatastoreStorageFactory.inMemory();
+
+    @BeforeEach
+    void setUp() {
+        factory.setUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.tearDown();
+    }
+
+    @Test
+    @DisplayName("drive a record storage")
+    void recordStorage() {
+        var storage = new DsSessionStorage(factory, context);
+        var ids = new AtomicInteger();
+        var load = RecordStorageLoad.of(
+                storage, ShardIndex.class, ShardSessionRecord.class,
+                () -> ShardIndex.newBuilder()
+                        .setIndex(ids.getAndIncrement())
+                        .setOfTotal(Integer.MAX_VALUE)
+                        .build(),
+                id -> ShardSessionRecord.newBuilder()
+                        .setIndex(id)
+                        .build()
+        ).preload(10);
+
+        var report = load.addTo(shortTest())
+                         .build()
+                         .run();
+
+        assertSucceeded(report);
+    }
+
+    @Test
+    @DisplayName("drive an inbox storage")
+    void inbox() {
+        var storage = factory.createInboxStorage(false);
+        var load = InboxLoad.of(storage, SHARDS, StorageLoadsTest::newMessage)
+                            .setPageSize(10);
+
+        var report = load.addTo(shortTest())
+                         .build()
+                         .run();
+
+        assertSucceeded(report);
+    }
+
+    @Test
+    @DisplayName("drive a sharded work registry")
+    void workRegistry() {
+        var registry = new DsShardedWorkRegistry(factory, context);
+        var load = WorkRegistryLoad.of(registry, SHARDS);
+
+        var report = load.addTo(shortTest().setReaders(0))
+                         .build()
+                         .run();
+
+        assertSucceeded(report);
+    }
+
+    private static LoadTest.Builder shortTest() {
+        return LoadTest.newBuilder()
+                .setWriters(2)
+                .setReaders(2)
+                .setDuration(Durations.fromMillis(200));
+    }
+
+    private static void assertSucceeded(LoadReport report) {
+        for (var stats : report.allStats()) {
+            assertWithMessage(report.toString())
+                    .that(stats.count())
+                    .isGreaterThan(0L);
+            assertWithMessage(report.toString())
+                    .that(stats.errors())
+                    .isEqualTo(0L);
+        }
+    }
+
+    private static InboxMessage newMessage(ShardIndex index) {
+        var id = InboxMessageId.newBuilder()
+                .setUuid(newUuid())
+                .setIndex(index)
+                .build();
+        return InboxMessage.newBuilder()
+                .setId(id)
+                .setWhenReceived(currentTime())
+                .build();
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.server.storage.datastore.memory;
+
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.DatastoreException;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.PathElement;
+import com.google.cloud.datastore.Query;
+import com.google.cloud.datastore.StructuredQuery.OrderBy;
+import com.google.common.collect.ImmutableList;
+import com.google.rpc.Code;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.google.cloud.datastore.StructuredQuery.PropertyFilter.eq;
+import static com.google.cloud.datastore.StructuredQuery.PropertyFilter.ge;
+import static com.google.cloud.datastore.StructuredQuery.PropertyFilter.hasAncestor;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`InMemoryDatastore` should")
+final class InMemoryDatastoreTest {
+
+    private static final String KIND = "Task";
+
+    private Datastore datastore;
+
+    @BeforeEach
+    void setUp() {
+        datastore = InMemoryDatastore.newInstance();
+    }
+
+    @Test
+    @DisplayName("read the written entities by keys")
+    void readByKeys() {
+        var entity = task("first", 1);
+        datastore.put(entity);
+
+        assertThat(datastore.get(entity.getKey())).isEqualTo(entity);
+        var missing = key("missing");
+        var fetched = datastore.fetch(entity.getKey(), missing);
+        assertThat(fetched.get(0)).isEqualTo(entity);
+        assertThat(fetched.get(1)).isNull();
+
+        datastore.delete(entity.getKey());
+        assertThat(datastore.get(entity.getKey())).isNull();
+    }
+
+    @Test
+    @DisplayName("reject adding an existing entity")
+    void rejectDuplicates() {
+        var entity = task("dup", 1);
+        datastore.add(entity);
+        var exception = assertThrows(DatastoreException.class, () -> datastore.add(entity));
+        assertThat(exception.getCode()).isEqualTo(Code.ALREADY_EXISTS.getNumber());
+    }
+
+    @Nested
+    @DisplayName("run queries with")
+    class Queries {
+
+        @BeforeEach
+        void writeTasks() {
+            for (var i = 0; i < 10; i++) {
+                datastore.put(task("task-" + i, i % 5));
+            }
+        }
+
+        @Test
+        @DisplayName("property filters and ordering")
+        void filterAndOrder() {
+            var query = Query.newEntityQueryBuilder()
+                    .setKind(KIND)
+                    .setFilter(ge("priority", 3))
+                    .setOrderBy(OrderBy.desc("priority"))
+                    .build();
+            var results = ImmutableList.copyOf(datastore.run(query));
+
+            assertThat(results).hasSize(4);
+            assertThat(results.get(0).getLong("priority")).isEqualTo(4);
+            assertThat(results.get(3).getLong("priority")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("limits and cursors")
+        void pageThrough() {
+            var query = Query.newKeyQueryBuilder()
+                    .setKind(KIND)
+                    .setLimit(4)
+                    .build();
+            var firstPage = datastore.run(query);
+            var firstKeys = ImmutableList.copyOf(firstPage);
+            var nextQuery = query.toBuilder()
+                    .setStartCursor(firstPage.getCursorAfter())
+                    .build();
+            var nextKeys = ImmutableList.copyOf(datastore.run(nextQuery));
+
+            assertThat(firstKeys).hasSize(4);
+            assertThat(nextKeys).hasSize(4);
+            assertThat(nextKeys).containsNoneIn(firstKeys);
+        }
+
+        @Test
+        @DisplayName("namespaces")
+        void namespaces() {
+            var otherNamespace = Key.newBuilder(key("elsewhere"))
+                    .setNamespace("other")
+                    .build();
+            datastore.put(Entity.newBuilder(otherNamespace)
+                                .set("priority", 0)
+                                .build());
+
+            var query = Query.newEntityQueryBuilder()
+                    .setNamespace("other")
+                    .setKind(KIND)
+                    .build();
+            assertThat(ImmutableList.copyOf(datastore.run(query))).hasSize(1);
+
+            var namespaceQuery = Query.newKeyQueryBuilder()
+                    .setKind("__namespace__")
+                    .build();
+            var names = ImmutableList.copyOf(datastore.run(namespaceQuery))
+                                     .stream()
+                                     .filter(Key::hasName)
+                                     .map(Key::getName)
+                                     .collect(ImmutableList.toImmutableList());
+            assertThat(names).containsExactly("other");
+        }
+
+        @Test
+        @DisplayName("ancestors")
+        void ancestors() {
+            var parent = key("parent");
+            var child = Key.newBuilder(datastore.getOptions().getProjectId(), KIND, "child")
+                    .addAncestor(PathElement.of(KIND, "parent"))
+                    .build();
+            datastore.put(Entity.newBuilder(child)
+                                .set("priority", 1)
+                                .build());
+            var query = Query.newEntityQueryBuilder()
+                    .setKind(KIND)
+                    .setFilter(hasAncestor(parent))
+                    .build();
+            var results = ImmutableList.copyOf(datastore.run(query));
+
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getKey()).isEqualTo(child);
+        }
+    }
+
+    @Nested
+    @DisplayName("run transactions which")
+    class Transactions {
+
+        @Test
+        @DisplayName("apply their writes on commit")
+        void commit() {
+            var entity = task("tx", 1);
+            var tx = datastore.newTransaction();
+            tx.put(entity);
+            assertThat(datastore.get(entity.getKey())).isNull();
+
+            tx.commit();
+            assertThat(datastore.get(entity.getKey())).isEqualTo(entity);
+            assertThat(tx.isActive()).isFalse();
+        }
+
+        @Test
+        @DisplayName("discard their writes on rollback")
+        void rollback() {
+            var entity = task("rolled-back", 1);
+            var tx = datastore.newTransaction();
+            tx.put(entity);
+            tx.rollback();
+
+            assertThat(datastore.get(entity.getKey())).isNull();
+        }
+
+        @Test
+        @DisplayName("are aborted upon a concurrent modification")
+        void abortOnConflict() {
+            var entity = task("contended", 1);
+            datastore.put(entity);
+
+            var first = datastore.newTransaction();
+            var second = datastore.newTransaction();
+            first.get(entity.getKey());
+            second.get(entity.getKey());
+            first.put(task("contended", 2));
+            second.put(task("contended", 3));
+            first.commit();
+
+            var exception = assertThrows(DatastoreException.class, second::commit);
+            assertThat(exception.getCode()).isEqualTo(Code.ABORTED.getNumber());
+            assertThat(datastore.get(entity.getKey())
+                                .getLong("priority")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("are aborted upon a write to the Entity group they queried empty")
+        void abortOnEmptyAncestorQuery() {
+            var parent = datastore.newKeyFactory()
+                                  .setKind("Project")
+                                  .newKey("empty");
+            var query = Query.newEntityQueryBuilder()
+                    .setKind(KIND)
+                    .setFilter(hasAncestor(parent))
+                    .build();
+            var tx = datastore.newTransaction();
+            assertThat(ImmutableList.copyOf(tx.run(query))).isEmpty();
+
+            datastore.put(child(parent, "concurrent"));
+            tx.put(child(parent, "own"));
+
+            var exception = assertThrows(DatastoreException.class, tx::commit);
+            assertThat(exception.getCode()).isEqualTo(Code.ABORTED.getNumber());
+        }
+
+        private Entity child(Key parent, String name) {
+            var key = datastore.newKeyFactory()
+                               .setKind(KIND)
+                               .addAncestor(PathElement.of(parent.getKind(), parent.getName()))
+                               .newKey(name);
+            return Entity.newBuilder(key)
+                         .set("priority", 1)
+                         .build();
+        }
+    }
+
+    private Entity task(String name, long priority) {
+        return Entity.newBuilder(key(name))
+                     .set("priority", priority)
+                     .build();
+    }
+
+    private Key key(String name) {
+        return datastore.newKeyFactory()
+                        .setKind(KIND)
+                        .newKey(name);
+    }
+}